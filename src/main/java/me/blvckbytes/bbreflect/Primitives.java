@@ -24,6 +24,8 @@
 
 package me.blvckbytes.bbreflect;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -52,6 +54,104 @@ public final class Primitives {
     return unwrapped == null ? type : unwrapped;
   }
 
+  /**
+   * Unboxes a value into a boolean
+   * @throws IllegalArgumentException Thrown if the value is not a boolean
+   */
+  public static boolean unboxBoolean(@Nullable Object value) {
+    if (value instanceof Boolean)
+      return (Boolean) value;
+    throw mismatch(value, boolean.class);
+  }
+
+  /**
+   * Unboxes a value into a byte
+   * @throws IllegalArgumentException Thrown if the value is not a byte
+   */
+  public static byte unboxByte(@Nullable Object value) {
+    if (value instanceof Byte)
+      return (Byte) value;
+    throw mismatch(value, byte.class);
+  }
+
+  /**
+   * Unboxes a value into a char
+   * @throws IllegalArgumentException Thrown if the value is not a char
+   */
+  public static char unboxChar(@Nullable Object value) {
+    if (value instanceof Character)
+      return (Character) value;
+    throw mismatch(value, char.class);
+  }
+
+  /**
+   * Unboxes a value into a short, while allowing for widening conversions
+   * @throws IllegalArgumentException Thrown if the value is not convertible
+   */
+  public static short unboxShort(@Nullable Object value) {
+    if (value instanceof Short || value instanceof Byte)
+      return ((Number) value).shortValue();
+    throw mismatch(value, short.class);
+  }
+
+  /**
+   * Unboxes a value into an int, while allowing for widening conversions
+   * @throws IllegalArgumentException Thrown if the value is not convertible
+   */
+  public static int unboxInt(@Nullable Object value) {
+    if (value instanceof Integer || value instanceof Short || value instanceof Byte)
+      return ((Number) value).intValue();
+    if (value instanceof Character)
+      return (Character) value;
+    throw mismatch(value, int.class);
+  }
+
+  private static boolean isIntConvertible(@Nullable Object value) {
+    return value instanceof Integer || value instanceof Short || value instanceof Byte || value instanceof Character;
+  }
+
+  /**
+   * Unboxes a value into a long, while allowing for widening conversions
+   * @throws IllegalArgumentException Thrown if the value is not convertible
+   */
+  public static long unboxLong(@Nullable Object value) {
+    if (value instanceof Long)
+      return (Long) value;
+    if (isIntConvertible(value))
+      return unboxInt(value);
+    throw mismatch(value, long.class);
+  }
+
+  /**
+   * Unboxes a value into a float, while allowing for widening conversions
+   * @throws IllegalArgumentException Thrown if the value is not convertible
+   */
+  public static float unboxFloat(@Nullable Object value) {
+    if (value instanceof Float)
+      return (Float) value;
+    if (value instanceof Long || isIntConvertible(value))
+      return unboxLong(value);
+    throw mismatch(value, float.class);
+  }
+
+  /**
+   * Unboxes a value into a double, while allowing for widening conversions
+   * @throws IllegalArgumentException Thrown if the value is not convertible
+   */
+  public static double unboxDouble(@Nullable Object value) {
+    if (value instanceof Double)
+      return (Double) value;
+    if (value instanceof Float)
+      return (Float) value;
+    if (value instanceof Long || isIntConvertible(value))
+      return unboxLong(value);
+    throw mismatch(value, double.class);
+  }
+
+  private static IllegalArgumentException mismatch(@Nullable Object value, Class<?> type) {
+    return new IllegalArgumentException("Cannot convert " + (value == null ? "null" : value.getClass().getName()) + " to " + type);
+  }
+
   static {
     Map<Class<?>, Class<?>> primToWrap = new HashMap<>(16);
     Map<Class<?>, Class<?>> wrapToPrim = new HashMap<>(16);
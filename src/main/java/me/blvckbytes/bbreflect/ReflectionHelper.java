@@ -26,7 +26,15 @@ package me.blvckbytes.bbreflect;
 
 import io.netty.channel.Channel;
 import io.netty.util.concurrent.GenericFutureListener;
+import me.blvckbytes.autowirer.ICleanable;
 import me.blvckbytes.bbreflect.handle.*;
+import me.blvckbytes.bbreflect.handle.accessor.InvocationMode;
+import me.blvckbytes.bbreflect.handle.allocator.AllocatorFactory;
+import me.blvckbytes.bbreflect.handle.cache.ClassCache;
+import me.blvckbytes.bbreflect.handle.cache.ResolutionCache;
+import me.blvckbytes.bbreflect.handle.mapping.MemberMappings;
+import me.blvckbytes.bbreflect.handle.metrics.ResolutionProfiler;
+import me.blvckbytes.bbreflect.handle.metrics.ResolutionReport;
 import me.blvckbytes.bbreflect.handle.predicate.Assignability;
 import me.blvckbytes.bbreflect.packets.*;
 import me.blvckbytes.bbreflect.version.ServerVersion;
@@ -34,13 +42,12 @@ import me.blvckbytes.utilitytypes.Tuple;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Map;
 import java.util.WeakHashMap;
 
-public class ReflectionHelper implements IReflectionHelper {
+public class ReflectionHelper implements IReflectionHelper, ICleanable {
 
   public final ServerVersion version;
 
@@ -52,21 +59,37 @@ public class ReflectionHelper implements IReflectionHelper {
 
   private final MethodHandle M_NETWORK_MANAGER__SEND, M_ENUM_PROTOCOL__GET_PACKET_ID;
 
-  private final EnumHandle E_ENUM_PROTOCOL_DIRECTION, E_ENUM_PROTOCOL;
+  private final EnumMapping<EProtocolDirection> E_ENUM_PROTOCOL_DIRECTION;
+  private final EnumMapping<EProtocol> E_ENUM_PROTOCOL;
 
-  private final WeakHashMap<Player, Tuple<Object, Channel>> networkManagerAndChannelCache;
+  private final Map<Player, Tuple<Object, Channel>> networkManagerAndChannelCache;
 
-  private final Map<Class<?>, Integer> packetIdByType;
-
-  private final Constructor<?> javaLangObjectConstructor;
-  private final Tuple<Object, Method> serializationConstructorFactory;
-  private final Map<Class<?>, Constructor<?>> emptyConstructorCache;
+  private final ClassCache<Integer> packetIdByType;
 
   public ReflectionHelper(ServerVersion version) throws Exception {
+    this(version, null);
+  }
+
+  /**
+   * Create a new reflection helper which looks mapped member names up in obfuscation mappings
+   * @param version Current server version
+   * @param mappingsPath Mapping file or directory of mapping files, which are only read on the first mapped lookup
+   */
+  public ReflectionHelper(ServerVersion version, @Nullable Path mappingsPath) throws Exception {
     this.version = version;
-    this.networkManagerAndChannelCache = new WeakHashMap<>();
-    this.emptyConstructorCache = new HashMap<>();
-    this.packetIdByType = new HashMap<>();
+    this.networkManagerAndChannelCache = Collections.synchronizedMap(new WeakHashMap<>());
+    this.packetIdByType = new ClassCache<>();
+
+    // A packaged manifest spares matching all members it knows about, the others are still matched live
+    if (ResolutionCache.getActive() == null) {
+      ResolutionCache manifest = ResolutionCache.loadManifest(ReflectionHelper.class.getClassLoader(), version);
+
+      if (manifest != null)
+        ResolutionCache.setActive(manifest);
+    }
+
+    if (mappingsPath != null && MemberMappings.getActive() == null)
+      MemberMappings.setActive(MemberMappings.load(mappingsPath));
 
     ClassHandle C_CRAFT_PLAYER = getClass(RClass.CRAFT_PLAYER);
     ClassHandle C_ENTITY_PLAYER = getClass(RClass.ENTITY_PLAYER);
@@ -84,8 +107,13 @@ public class ReflectionHelper implements IReflectionHelper {
       .withReturnType(Integer.class, true, Assignability.NONE)
       .required();
 
-    E_ENUM_PROTOCOL_DIRECTION = C_ENUM_PROTOCOL_DIRECTION.asEnum();
-    E_ENUM_PROTOCOL = C_ENUM_PROTOCOL.asEnum();
+    E_ENUM_PROTOCOL_DIRECTION = C_ENUM_PROTOCOL_DIRECTION.asEnum().mapTo(EProtocolDirection.class).build();
+
+    // Newer servers know protocols this library doesn't, like CONFIGURATION, which are never looked up
+    E_ENUM_PROTOCOL = C_ENUM_PROTOCOL.asEnum()
+      .mapTo(EProtocol.class)
+      .withUnmatchedIgnored()
+      .build();
 
     F_CRAFT_PLAYER__HANDLE = C_CRAFT_PLAYER.locateField()
       .withType(C_ENTITY_PLAYER, false, Assignability.TARGET_TO_TYPE)
@@ -121,16 +149,16 @@ public class ReflectionHelper implements IReflectionHelper {
       .withPublic(true)
       .withParameter(C_PACKET, false, Assignability.TARGET_TO_TYPE)
       .withParameter(C_PACKET_SEND_LISTENER, false, Assignability.TARGET_TO_TYPE)
-      .withCallTransformer(args -> {
+      // Sending is hot enough for the layouts to be baked into method handles, instead of re-allocating arguments
+      .withInvocationMode(InvocationMode.METHOD_HANDLE)
+      .withArgumentTransformer(1, completion -> {
         assert C_PACKET_SEND_LISTENER__FROM_RUNNABLE != null;
-        return new Object[] {
-          args[0], C_PACKET_SEND_LISTENER__FROM_RUNNABLE.invoke(null, args[1])
-        };
+        return C_PACKET_SEND_LISTENER__FROM_RUNNABLE.invoke1(null, completion);
       }, C_PACKET_SEND_LISTENER__FROM_RUNNABLE)
       .orElse(() -> (
         C_NETWORK_MANAGER.locateMethod()
           .withVersionRange(null, ServerVersion.V1_19_R0)
-          .withCallTransformer(args -> new Object[] { args[0], makeFutureListener((Runnable) args[1]) })
+          .withArgumentTransformer(1, completion -> makeFutureListener((Runnable) completion))
           .withPublic(true)
           .withParameter(C_PACKET, false, Assignability.TARGET_TO_TYPE)
           .withParameter(GenericFutureListener.class)
@@ -138,7 +166,8 @@ public class ReflectionHelper implements IReflectionHelper {
       .orElse(() -> (
         C_NETWORK_MANAGER.locateMethod()
           .withVersionRange(null, ServerVersion.V1_12_R2)
-          .withCallTransformer(args -> new Object[] { args[0], makeFutureListener((Runnable) args[1]), new GenericFutureListener[0] })
+          .withArgumentTransformer(1, completion -> makeFutureListener((Runnable) completion))
+          .withConstantArgument(2, new GenericFutureListener[0])
           .withPublic(true)
           .withParameter(C_PACKET, false, Assignability.TARGET_TO_TYPE)
           .withParameter(GenericFutureListener.class)
@@ -147,7 +176,7 @@ public class ReflectionHelper implements IReflectionHelper {
       .orElse(() -> (
         C_NETWORK_MANAGER.locateMethod()
           .withVersionRange(null, ServerVersion.V1_7_R10)
-          .withCallTransformer(args -> new Object[] { args[0], new GenericFutureListener[] { makeFutureListener((Runnable) args[1]) } })
+          .withArgumentTransformer(1, completion -> new GenericFutureListener[] { makeFutureListener((Runnable) completion) })
           .withPublic(true)
           .withParameter(C_PACKET, false, Assignability.TARGET_TO_TYPE)
           .withParameter(GenericFutureListener[].class)
@@ -157,9 +186,6 @@ public class ReflectionHelper implements IReflectionHelper {
     F_NETWORK_MANAGER__CHANNEL = C_NETWORK_MANAGER.locateField()
       .withType(Channel.class)
       .required();
-
-    this.javaLangObjectConstructor = Object.class.getConstructor();
-    this.serializationConstructorFactory = getSerializationConstructorFactory();
   }
 
   private @Nullable GenericFutureListener<?> makeFutureListener(@Nullable Runnable runnable) {
@@ -179,7 +205,7 @@ public class ReflectionHelper implements IReflectionHelper {
   public void sendPacket(Object networkManager, Object packet, @Nullable Runnable completion) throws Exception {
     if (completion == null)
       completion = () -> {};
-    M_NETWORK_MANAGER__SEND.invoke(networkManager, packet, completion);
+    M_NETWORK_MANAGER__SEND.invoke2(networkManager, packet, completion);
   }
 
   @Override
@@ -222,14 +248,7 @@ public class ReflectionHelper implements IReflectionHelper {
 
   @Override
   public Object instantiateUnsafely(Class<?> type) throws Exception {
-    Constructor<?> constructor = emptyConstructorCache.get(type);
-
-    if (constructor == null) {
-      constructor = newConstructorForSerialization(type);
-      emptyConstructorCache.put(type, constructor);
-    }
-
-    return constructor.newInstance((Object[]) null);
+    return AllocatorFactory.getAllocator(type).allocate();
   }
 
   private int tryLocatePacketId(Class<?> type) throws Exception {
@@ -237,8 +256,8 @@ public class ReflectionHelper implements IReflectionHelper {
 
     for (EProtocol protocol : EProtocol.values) {
       for (EProtocolDirection direction : protocol.availableDirections) {
-        Object nmsProtocol = E_ENUM_PROTOCOL.getByCopy(protocol);
-        Object nmsDirection = E_ENUM_PROTOCOL_DIRECTION.getByCopy(direction);
+        Object nmsProtocol = E_ENUM_PROTOCOL.toTarget(protocol);
+        Object nmsDirection = E_ENUM_PROTOCOL_DIRECTION.toTarget(direction);
 
         Integer id = (Integer) M_ENUM_PROTOCOL__GET_PACKET_ID.invoke(nmsProtocol, nmsDirection, dummyInstance);
 
@@ -252,30 +271,33 @@ public class ReflectionHelper implements IReflectionHelper {
 
   @Override
   public int getPacketId(Class<?> type) throws Exception {
-    Integer packetId = packetIdByType.get(type);
-
-    if (packetId != null)
-      return packetId;
-
-    packetId = tryLocatePacketId(type);
-    packetIdByType.put(type, packetId);
-    return packetId;
+    return packetIdByType.get(type, this::tryLocatePacketId);
   }
 
   public ServerVersion getVersion() {
     return this.version;
   }
 
-  private Tuple<Object, Method> getSerializationConstructorFactory() throws Exception {
-    Class<?> reflectionFactoryClass = Class.forName("sun.reflect.ReflectionFactory");
-    Object factory = reflectionFactoryClass.getDeclaredMethod("getReflectionFactory").invoke(null);
-    Method method = reflectionFactoryClass.getDeclaredMethod("newConstructorForSerialization", Class.class, Constructor.class);
-    return new Tuple<>(factory, method);
+  /**
+   * Get a report of all resolutions recorded so far, which are only recorded while the
+   * {@link ResolutionProfiler} is enabled, like by the system property bbreflect.profile
+   */
+  public ResolutionReport getResolutionReport() {
+    return ResolutionProfiler.report();
   }
 
-  private Constructor<?> newConstructorForSerialization(Class<?> type) throws Exception {
-    Constructor<?> constructor = (Constructor<?>) serializationConstructorFactory.b.invoke(serializationConstructorFactory.a, type, javaLangObjectConstructor);
-    constructor.setAccessible(true);
-    return constructor;
+  /**
+   * Releases all state this library keeps about server classes, as values attached to those
+   * classes would otherwise keep the plugin's class loader from being unloaded on a reload
+   */
+  @Override
+  public void cleanup() {
+    networkManagerAndChannelCache.clear();
+
+    // Also covers the member indices, class handles, allocators and packet IDs
+    ClassCache.clearAll();
+
+    ResolutionCache.setActive(null);
+    MemberMappings.setActive(null);
   }
 }
@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Access to sun.misc.Unsafe, which is resolved reflectively and exposed through method handles
+ * bound to it's instance, as it's neither part of the API nor guaranteed to be present
+ */
+public final class UnsafeAccess {
+
+  private static final @Nullable Object UNSAFE;
+  private static final @Nullable MethodHandle OBJECT_FIELD_OFFSET, STATIC_FIELD_OFFSET, STATIC_FIELD_BASE;
+
+  static {
+    Object unsafe = null;
+    MethodHandle objectFieldOffset = null, staticFieldOffset = null, staticFieldBase = null;
+
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Field instanceField = unsafeClass.getDeclaredField("theUnsafe");
+      instanceField.setAccessible(true);
+      unsafe = instanceField.get(null);
+
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      objectFieldOffset = lookup.findVirtual(unsafeClass, "objectFieldOffset", MethodType.methodType(long.class, Field.class)).bindTo(unsafe);
+      staticFieldOffset = lookup.findVirtual(unsafeClass, "staticFieldOffset", MethodType.methodType(long.class, Field.class)).bindTo(unsafe);
+      staticFieldBase = lookup.findVirtual(unsafeClass, "staticFieldBase", MethodType.methodType(Object.class, Field.class)).bindTo(unsafe);
+    } catch (Throwable t) {
+      unsafe = null;
+    }
+
+    UNSAFE = unsafe;
+    OBJECT_FIELD_OFFSET = objectFieldOffset;
+    STATIC_FIELD_OFFSET = staticFieldOffset;
+    STATIC_FIELD_BASE = staticFieldBase;
+  }
+
+  private UnsafeAccess() {}
+
+  /**
+   * Checks whether sun.misc.Unsafe could be accessed on this runtime
+   */
+  public static boolean isAvailable() {
+    return UNSAFE != null;
+  }
+
+  /**
+   * Get the instance of sun.misc.Unsafe, for generated code to call it directly
+   * @throws UnsupportedOperationException Thrown if unavailable
+   */
+  public static Object getInstance() throws UnsupportedOperationException {
+    return requireAvailable(UNSAFE);
+  }
+
+  /**
+   * Get the offset of an instance field within the memory of it's declaring class' instances
+   * @param field Target field
+   * @throws UnsupportedOperationException Thrown if unavailable or the field's class is a record or hidden class
+   */
+  public static long objectFieldOffset(Field field) throws UnsupportedOperationException {
+    try {
+      return (long) requireAvailable(OBJECT_FIELD_OFFSET).invokeExact(field);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  /**
+   * Get the offset of a static field within the memory of it's static field base
+   * @param field Target field
+   * @throws UnsupportedOperationException Thrown if unavailable or the field's class is a record or hidden class
+   */
+  public static long staticFieldOffset(Field field) throws UnsupportedOperationException {
+    try {
+      return (long) requireAvailable(STATIC_FIELD_OFFSET).invokeExact(field);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  /**
+   * Get the base object which static fields are located relative to
+   * @param field Target field
+   * @throws UnsupportedOperationException Thrown if unavailable or the field's class is a record or hidden class
+   */
+  public static Object staticFieldBase(Field field) throws UnsupportedOperationException {
+    try {
+      return (Object) requireAvailable(STATIC_FIELD_BASE).invokeExact(field);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  /**
+   * Get a handle which reads a value of the specified type at an offset
+   * relative to a base, where references are read as objects
+   * @param type Type of the value
+   * @param isVolatile Whether to read with volatile semantics
+   * @return Handle of type (Object base, long offset)T
+   * @throws UnsupportedOperationException Thrown if unavailable
+   */
+  public static MethodHandle getter(Class<?> type, boolean isVolatile) throws UnsupportedOperationException {
+    Class<?> accessType = type.isPrimitive() ? type : Object.class;
+    return findAccessor("get" + accessorSuffix(accessType, isVolatile), MethodType.methodType(accessType, Object.class, long.class));
+  }
+
+  /**
+   * Get a handle which writes a value of the specified type at an offset
+   * relative to a base, where references are written as objects
+   * @param type Type of the value
+   * @param isVolatile Whether to write with volatile semantics
+   * @return Handle of type (Object base, long offset, T value)void
+   * @throws UnsupportedOperationException Thrown if unavailable
+   */
+  public static MethodHandle putter(Class<?> type, boolean isVolatile) throws UnsupportedOperationException {
+    Class<?> accessType = type.isPrimitive() ? type : Object.class;
+    return findAccessor("put" + accessorSuffix(accessType, isVolatile), MethodType.methodType(void.class, Object.class, long.class, accessType));
+  }
+
+  /**
+   * Get a handle which allocates instances of the specified class without calling any constructor
+   * @param type Class to allocate, which is initialized if it hasn't been already
+   * @return Handle of type ()Object
+   * @throws UnsupportedOperationException Thrown if unavailable
+   */
+  public static MethodHandle allocator(Class<?> type) throws UnsupportedOperationException {
+    return findAccessor("allocateInstance", MethodType.methodType(Object.class, Class.class)).bindTo(type);
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  private static MethodHandle findAccessor(String name, MethodType type) {
+    Object unsafe = requireAvailable(UNSAFE);
+
+    try {
+      return MethodHandles.lookup().findVirtual(unsafe.getClass(), name, type).bindTo(unsafe);
+    } catch (ReflectiveOperationException e) {
+      throw new UnsupportedOperationException("Could not access Unsafe#" + name, e);
+    }
+  }
+
+  private static String accessorSuffix(Class<?> type, boolean isVolatile) {
+    String name = type == Object.class ? "Object" : type.getName();
+    name = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    return isVolatile ? name + "Volatile" : name;
+  }
+
+  private static <T> T requireAvailable(@Nullable T value) {
+    if (value == null)
+      throw new UnsupportedOperationException("sun.misc.Unsafe is not available on this runtime");
+    return value;
+  }
+}
@@ -24,16 +24,20 @@
 
 package me.blvckbytes.bbreflect.handle;
 
+import me.blvckbytes.bbreflect.handle.cache.ResolutionCache;
+import me.blvckbytes.bbreflect.handle.metrics.ResolutionProfiler;
+import me.blvckbytes.bbreflect.handle.predicate.ComparableType;
+import me.blvckbytes.bbreflect.handle.predicate.DescribedMemberPredicate;
 import me.blvckbytes.bbreflect.handle.predicate.FMemberPredicate;
 import me.blvckbytes.bbreflect.version.ServerVersion;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.AccessibleObject;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.util.NoSuchElementException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 public abstract class AHandle<T> {
 
@@ -41,47 +45,6 @@ public abstract class AHandle<T> {
   protected final Class<T> handleType;
   protected final ServerVersion version;
 
-  /**
-   * Create a new handle by running a member predicate on a target class' members
-   * @param target Target class
-   * @param memberType Target member type
-   * @param version Current server version
-   * @param predicate Member predicate to run
-   * @throws NoSuchElementException Member predicate found no matches
-   */
-  protected AHandle(Class<?> target, Class<T> memberType, ServerVersion version, FMemberPredicate<T> predicate) throws NoSuchElementException {
-    if (target == null)
-      throw new IllegalStateException("Target has to be present");
-
-    // Execute the predicate on all members of target type within the whole target class hierarchy
-    T result = walkClassHierarchyFor(memberType, target, (member, counter) -> {
-      Boolean predicateResponse = predicate.matches(member, counter);
-      if (predicateResponse == null)
-        return HierarchyWalkDecision.SKIP;
-      return predicateResponse ? HierarchyWalkDecision.BREAK : HierarchyWalkDecision.CONTINUE;
-    });
-
-    // The predicate matched on none of them
-    if (result == null) {
-      StringBuilder message = new StringBuilder("Could not satisfy the member predicate within " + target + "\nAvailable members:\n");
-
-      // Print all available members by walking the hierarchy again
-      walkClassHierarchyFor(memberType, target, (member, counter) -> {
-        message.append('-').append(stringify(member)).append('\n');
-        return HierarchyWalkDecision.CONTINUE;
-      });
-
-      throw new NoSuchElementException(message.toString());
-    }
-
-    if (result instanceof AccessibleObject)
-      ((AccessibleObject) result).setAccessible(true);
-
-    this.version = version;
-    this.handle = result;
-    this.handleType = memberType;
-  }
-
   /**
    * Construct a new handle using an immediate value
    * @param handle Immediate value
@@ -94,6 +57,148 @@ public abstract class AHandle<T> {
     this.version = version;
   }
 
+  /**
+   * Locate the member a predicate matches within the whole class hierarchy of a target, without
+   * throwing or building any diagnostics if there is none. Found members are made accessible.
+   * @param target Class to start searching at
+   * @param memberType Type of member to search for
+   * @param predicate Predicate to match members with
+   * @param stringifier Used to list all available members within the diagnostic of a miss
+   */
+  protected static <T> Resolution<T> locate(Class<?> target, Class<T> memberType, FMemberPredicate<T> predicate, Function<T, String> stringifier) {
+    return locateAll(target, memberType, Collections.singletonList(predicate), stringifier).get(0);
+  }
+
+  /**
+   * Locate the members multiple predicates match within the whole class hierarchy of a target, which
+   * walks the hierarchy only once for all of them, while each predicate keeps it's own match counter
+   * and stops being evaluated as soon as it matched. Found members are made accessible.
+   * @param target Class to start searching at
+   * @param memberType Type of member to search for
+   * @param predicates Predicates to match members with
+   * @param stringifier Used to list all available members within the diagnostic of a miss
+   * @return Resolutions in the order of the predicates
+   */
+  @SuppressWarnings("unchecked")
+  protected static <T> List<Resolution<T>> locateAll(Class<?> target, Class<T> memberType, List<? extends FMemberPredicate<T>> predicates, Function<T, String> stringifier) {
+    if (target == null)
+      throw new IllegalStateException("Target has to be present");
+
+    int numPredicates = predicates.size();
+
+    Object[] results = new Object[numPredicates];
+    int[] counters = new int[numPredicates];
+    String[] names = new String[numPredicates];
+    ComparableType[] types = new ComparableType[numPredicates];
+
+    ResolutionCache cache = ResolutionCache.getActive();
+    boolean[] cached = new boolean[numPredicates];
+    int numPending = 0;
+
+    for (int i = 0; i < numPredicates; i++) {
+      FMemberPredicate<T> predicate = predicates.get(i);
+      DescribedMemberPredicate<T> described = predicate instanceof DescribedMemberPredicate ? (DescribedMemberPredicate<T>) predicate : null;
+
+      // Described predicates may have been resolved by a previous run already
+      if (described != null && cache != null)
+        results[i] = cache.lookup(memberType, target, described.getDescription(), predicate);
+
+      if (results[i] != null) {
+        cached[i] = true;
+        continue;
+      }
+
+      ++numPending;
+
+      // Only visit candidate members of the predicate's name and type, if known
+      if (described == null)
+        continue;
+
+      names[i] = described.getName();
+      types[i] = described.getType();
+    }
+
+    // Walk up the hierarchy chain once, evaluating all pending predicates on each level
+    int levelsWalked = 0, membersScanned = 0;
+
+    Class<?> curr = target;
+    while (numPending > 0 && curr != null && curr != Object.class) {
+      MemberIndex index = null;
+
+      for (int i = 0; i < numPredicates; i++) {
+        if (results[i] != null)
+          continue;
+
+        if (index == null) {
+          index = MemberIndex.of(curr);
+          ++levelsWalked;
+        }
+
+        FMemberPredicate<T> predicate = predicates.get(i);
+
+        for (T item : index.getCandidates(memberType, names[i], types[i])) {
+          ++membersScanned;
+          Boolean predicateResponse = predicate.matches(item, counters[i]);
+
+          // Null means that the item would have matched, but the skip counter has not yet elapsed
+          if (predicateResponse == null) {
+            counters[i]++;
+            continue;
+          }
+
+          if (!predicateResponse)
+            continue;
+
+          results[i] = item;
+          --numPending;
+
+          if (cache != null && predicate instanceof DescribedMemberPredicate)
+            cache.store(((DescribedMemberPredicate<T>) predicate).getDescription(), item, counters[i]);
+
+          break;
+        }
+      }
+
+      curr = curr.getSuperclass();
+    }
+
+    if (ResolutionProfiler.isEnabled()) {
+      ResolutionProfiler.recordWalk(levelsWalked, membersScanned);
+
+      for (int i = 0; i < numPredicates; i++) {
+        if (predicates.get(i) instanceof DescribedMemberPredicate)
+          ResolutionProfiler.recordLookup(((DescribedMemberPredicate<T>) predicates.get(i)).getDescription(), results[i] != null, cached[i]);
+      }
+    }
+
+    List<Resolution<T>> resolutions = new ArrayList<>(numPredicates);
+
+    for (Object result : results) {
+      // The predicate matched on none of them, print all available members by walking the hierarchy again
+      if (result == null) {
+        resolutions.add(Resolution.miss(() -> {
+          StringBuilder message = new StringBuilder("Could not satisfy the member predicate within " + target + "\nAvailable members:\n");
+
+          walkClassHierarchyFor(memberType, target, null, null, (member, counter) -> {
+            message.append('-').append(stringifier.apply(member)).append('\n');
+            return HierarchyWalkDecision.CONTINUE;
+          });
+
+          return message.toString();
+        }));
+
+        continue;
+      }
+
+      if (result instanceof AccessibleObject)
+        ((AccessibleObject) result).setAccessible(true);
+
+      resolutions.add(Resolution.found((T) result));
+    }
+
+    return resolutions;
+  }
+
   public T getHandle() {
     return handle;
   }
@@ -138,7 +243,25 @@ public abstract class AHandle<T> {
   //                                 Helpers                                 //
   //=========================================================================//
 
-  protected @Nullable T walkClassHierarchyFor(Class<T> member, Class<?> base, BiFunction<T, Integer, HierarchyWalkDecision> decider) {
+  protected static <T> @Nullable T walkClassHierarchyFor(Class<T> member, Class<?> base, BiFunction<T, Integer, HierarchyWalkDecision> decider) {
+    return walkClassHierarchyFor(member, base, null, null, decider);
+  }
+
+  /**
+   * Walks the class hierarchy while only visiting those members which are of a given name and type
+   * @param member Type of member to walk
+   * @param base Class to start walking at
+   * @param name Case-insensitive name of candidate members, null to visit all names
+   * @param type Type of candidate fields or return type of candidate methods, null to visit all types
+   * @param decider Decider to invoke on each candidate member
+   */
+  protected static <T> @Nullable T walkClassHierarchyFor(
+    Class<T> member,
+    Class<?> base,
+    @Nullable String name,
+    @Nullable ComparableType type,
+    BiFunction<T, Integer, HierarchyWalkDecision> decider
+  ) {
     int matchCounter = 0;
     T res = null;
 
@@ -147,7 +270,7 @@ public abstract class AHandle<T> {
     while (res == null && curr != null && curr != Object.class) {
 
       // Loop all member items of the current class
-      for (T item : getAllEntriesOf(member, curr)) {
+      for (T item : MemberIndex.of(curr).getCandidates(member, name, type)) {
         HierarchyWalkDecision decision = decider.apply(item, matchCounter);
 
         // Skip means that the item would have matched, but
@@ -169,21 +292,4 @@ public abstract class AHandle<T> {
 
     return res;
   }
-
-  @SuppressWarnings("unchecked")
-  private T[] getAllEntriesOf(Class<T> member, Class<?> from) {
-    if (member == Field.class)
-      return (T[]) from.getDeclaredFields();
-
-    if (member == Method.class)
-      return (T[]) from.getDeclaredMethods();
-
-    if (member == Class.class)
-      return (T[]) from.getDeclaredClasses();
-
-    if (member == Constructor.class)
-      return (T[]) from.getDeclaredConstructors();
-
-    throw new IllegalStateException("Unknown class member " + member + " requested");
-  }
 }
@@ -24,6 +24,8 @@
 
 package me.blvckbytes.bbreflect.handle;
 
+import me.blvckbytes.bbreflect.handle.cache.ClassCache;
+import me.blvckbytes.bbreflect.handle.mirror.MirrorFactory;
 import me.blvckbytes.bbreflect.handle.predicate.FMemberPredicate;
 import me.blvckbytes.bbreflect.handle.predicate.FieldPredicateBuilder;
 import me.blvckbytes.bbreflect.handle.predicate.MethodPredicateBuilder;
@@ -32,8 +34,8 @@ import me.blvckbytes.bbreflect.handle.predicate.ConstructorPredicateBuilder;
 import me.blvckbytes.bbreflect.version.ServerVersion;
 
 import java.lang.reflect.Modifier;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.StringJoiner;
 
@@ -41,24 +43,29 @@ import java.util.StringJoiner;
 public class ClassHandle extends AHandle<Class> {
 
   // Caching manual encapsulations using the of() constructor here
-  private static final Map<Class<?>, ClassHandle> encapsulations;
+  private static final ClassCache<ClassHandle> encapsulations = new ClassCache<>();
 
   // Caching enumeration constants
-  private static final Map<Class<?>, EnumHandle> enumerations;
-
-  static {
-    encapsulations = new HashMap<>();
-    enumerations = new HashMap<>();
-  }
+  private static final ClassCache<EnumHandle> enumerations = new ClassCache<>();
 
   public ClassHandle(Class<?> target, ServerVersion version, FMemberPredicate<Class> predicate) throws NoSuchElementException {
-    super(target, Class.class, version, predicate);
+    this(locate(target, predicate::matches).require(), version);
   }
 
   public ClassHandle(Class handle, ServerVersion version) {
     super(handle, Class.class, version);
   }
 
+  /**
+   * Locate a class by running a member predicate on a target class' members, without throwing
+   * @param target Target class
+   * @param predicate Member predicate to run
+   */
+  @SuppressWarnings("unchecked")
+  public static Resolution<Class<?>> locate(Class<?> target, FMemberPredicate<Class<?>> predicate) {
+    return locate(target, (Class<Class<?>>) (Class<?>) Class.class, predicate, ClassHandle::stringifyMember);
+  }
+
   /**
    * Checks whether an object is an instance of this class
    * @param o Object to check
@@ -79,18 +86,8 @@ public class ClassHandle extends AHandle<Class> {
    * @throws IllegalStateException Thrown if this class is not an enumeration
    */
   public EnumHandle asEnum() throws IllegalStateException {
-    EnumHandle enumHandle = enumerations.get(handle);
-
-    // Use cached value
-    if (enumHandle != null)
-      return enumHandle;
-
-    // Create a new enum handle on this class
-    enumHandle = new EnumHandle(handle, version);
-
-    // Store in cache and return
-    enumerations.put(handle, enumHandle);
-    return enumHandle;
+    // Create a new enum handle on this class, at most once
+    return enumerations.get(handle, c -> new EnumHandle(c, version));
   }
 
   /**
@@ -121,6 +118,24 @@ public class ClassHandle extends AHandle<Class> {
     return new ConstructorPredicateBuilder(this, version);
   }
 
+  /**
+   * Resolve multiple FieldHandle builders which query this class at once, walking it's hierarchy only once
+   * @param builders Builders created by {@link #locateField()}
+   * @return Resolutions in the order of the builders
+   */
+  public List<Resolution<FieldHandle>> resolveFields(FieldPredicateBuilder... builders) {
+    return FieldPredicateBuilder.resolveAll(this, Arrays.asList(builders));
+  }
+
+  /**
+   * Resolve multiple MethodHandle builders which query this class at once, walking it's hierarchy only once
+   * @param builders Builders created by {@link #locateMethod()}
+   * @return Resolutions in the order of the builders
+   */
+  public List<Resolution<MethodHandle>> resolveMethods(MethodPredicateBuilder... builders) {
+    return MethodPredicateBuilder.resolveAll(this, Arrays.asList(builders));
+  }
+
   /**
    * Create a new ClassHandle builder which will query this class
    */
@@ -128,8 +143,31 @@ public class ClassHandle extends AHandle<Class> {
     return new ClassPredicateBuilder(this, version);
   }
 
+  /**
+   * Create a new group of fields of this class, which are read and written all at once
+   * @param fields Instance fields of this class, which are addressed by their position within the group
+   * @throws IllegalArgumentException Thrown if a field cannot be grouped
+   */
+  public FieldGroup groupFields(FieldHandle... fields) throws IllegalArgumentException {
+    return new FieldGroup(this, null, fields);
+  }
+
+  /**
+   * Create a new factory of mirrors on this class, which resolves all annotated members of the interface once
+   * @param mirrorType Interface whose abstract methods are bound to members of this class
+   * @throws IllegalArgumentException Thrown if the mirror type is not an interface or one of it's methods cannot be bound
+   * @throws NoSuchElementException Thrown if the member of an annotation could not be located
+   */
+  public <M> MirrorFactory<M> mirror(Class<M> mirrorType) throws IllegalArgumentException, NoSuchElementException {
+    return new MirrorFactory<>(mirrorType, this);
+  }
+
   @Override
   protected String stringify(Class member) {
+    return stringifyMember(member);
+  }
+
+  private static String stringifyMember(Class member) {
     StringJoiner sj = new StringJoiner(" ");
 
     sj.add(Modifier.toString(member.getModifiers()));
@@ -145,16 +183,6 @@ public class ClassHandle extends AHandle<Class> {
    * @param version Current server version
    */
   public static ClassHandle of(Class<?> c, ServerVersion version) {
-    ClassHandle handle = encapsulations.get(c);
-
-    // Create new instance
-    if (handle == null) {
-      handle = new ClassHandle(c, version);
-      encapsulations.put(c, handle);
-      return handle;
-    }
-
-    // Return existing instance
-    return handle;
+    return encapsulations.get(c, k -> new ClassHandle(k, version));
   }
 }
@@ -25,7 +25,14 @@
 package me.blvckbytes.bbreflect.handle;
 
 import me.blvckbytes.bbreflect.handle.AHandle;
+import me.blvckbytes.bbreflect.handle.accessor.AccessorFactory;
+import me.blvckbytes.bbreflect.handle.accessor.IConstructorAccessor;
+import me.blvckbytes.bbreflect.handle.accessor.InvocationMode;
+import me.blvckbytes.bbreflect.handle.accessor.LambdaBinder;
+import me.blvckbytes.bbreflect.handle.metrics.HandleMetrics;
+import me.blvckbytes.bbreflect.handle.metrics.MetricsRegistry;
 import me.blvckbytes.bbreflect.handle.predicate.FMemberPredicate;
+import me.blvckbytes.bbreflect.handle.transformer.CallLayout;
 import me.blvckbytes.bbreflect.handle.transformer.FCallTransformer;
 import me.blvckbytes.bbreflect.version.ServerVersion;
 import org.jetbrains.annotations.Nullable;
@@ -39,10 +46,63 @@ import java.util.StringJoiner;
 public class ConstructorHandle extends AHandle<Constructor> {
 
   private final @Nullable FCallTransformer callTransformer;
+  private final @Nullable CallLayout callLayout;
+  private final IConstructorAccessor accessor;
 
   public ConstructorHandle(Class<?> target, ServerVersion version, @Nullable FCallTransformer callTransformer, FMemberPredicate<Constructor> predicate) throws NoSuchElementException {
-    super(target, Constructor.class, version, predicate);
+    this(target, version, null, callTransformer, predicate);
+  }
+
+  public ConstructorHandle(
+    Class<?> target, ServerVersion version, @Nullable InvocationMode invocationMode,
+    @Nullable FCallTransformer callTransformer, FMemberPredicate<Constructor> predicate
+  ) throws NoSuchElementException {
+    this(target, version, invocationMode, callTransformer, null, predicate);
+  }
+
+  public ConstructorHandle(
+    Class<?> target, ServerVersion version, @Nullable InvocationMode invocationMode,
+    @Nullable FCallTransformer callTransformer, @Nullable CallLayout callLayout,
+    FMemberPredicate<Constructor> predicate
+  ) throws NoSuchElementException {
+    this(locate(target, predicate::matches).require(), version, invocationMode, callTransformer, callLayout);
+  }
+
+  /**
+   * Create a new handle on top of a constructor which has already been located, see {@link #locate}
+   * @param constructor Located constructor
+   * @param version Current server version
+   * @param invocationMode Invocation mode, null means default
+   * @param callTransformer Call transformer, if any
+   * @param callLayout Layout of transformed or constant arguments, if any
+   */
+  public ConstructorHandle(
+    Constructor constructor, ServerVersion version, @Nullable InvocationMode invocationMode,
+    @Nullable FCallTransformer callTransformer, @Nullable CallLayout callLayout
+  ) {
+    super(constructor, Constructor.class, version);
+
+    IConstructorAccessor accessor = AccessorFactory.createConstructorAccessor(handle, invocationMode, callLayout);
+    HandleMetrics metrics = MetricsRegistry.register(this);
+
+    if (metrics != null) {
+      accessor = metrics.meterConstructor(accessor);
+      callTransformer = metrics.meterCall(callTransformer);
+    }
+
     this.callTransformer = callTransformer;
+    this.callLayout = callLayout;
+    this.accessor = accessor;
+  }
+
+  /**
+   * Locate a constructor by running a member predicate on a target class' members, without throwing
+   * @param target Target class
+   * @param predicate Member predicate to run
+   */
+  @SuppressWarnings("unchecked")
+  public static Resolution<Constructor<?>> locate(Class<?> target, FMemberPredicate<Constructor<?>> predicate) {
+    return locate(target, (Class<Constructor<?>>) (Class<?>) Constructor.class, predicate, ConstructorHandle::stringifyMember);
   }
 
   /**
@@ -53,7 +113,80 @@ public class ConstructorHandle extends AHandle<Constructor> {
   public Object newInstance(Object... args) throws Exception {
     if (callTransformer != null)
       args = callTransformer.apply(args);
-    return handle.newInstance(args);
+    return accessor.newInstance(args);
+  }
+
+  //=========================================================================//
+  //                         Fixed-Arity Invocation                          //
+  //=========================================================================//
+
+  // These skip allocating an argument array whenever the invocation mode allows for
+  // it, but have to fall back to the generic path if there's a call transformer
+
+  /**
+   * Create a new instance by invoking this constructor, which takes no arguments
+   * @return Instance of the constructor's declaring class
+   */
+  public Object newInstance0() throws Exception {
+    if (callTransformer != null)
+      return newInstance();
+    return accessor.newInstance0();
+  }
+
+  /**
+   * Create a new instance by invoking this constructor, which takes one argument
+   * @return Instance of the constructor's declaring class
+   */
+  public Object newInstance1(Object a) throws Exception {
+    if (callTransformer != null)
+      return newInstance(a);
+    return accessor.newInstance1(a);
+  }
+
+  /**
+   * Create a new instance by invoking this constructor, which takes two arguments
+   * @return Instance of the constructor's declaring class
+   */
+  public Object newInstance2(Object a, Object b) throws Exception {
+    if (callTransformer != null)
+      return newInstance(a, b);
+    return accessor.newInstance2(a, b);
+  }
+
+  /**
+   * Create a new instance by invoking this constructor, which takes three arguments
+   * @return Instance of the constructor's declaring class
+   */
+  public Object newInstance3(Object a, Object b, Object c) throws Exception {
+    if (callTransformer != null)
+      return newInstance(a, b, c);
+    return accessor.newInstance3(a, b, c);
+  }
+
+  /**
+   * Create a new instance by invoking this constructor, which takes four arguments
+   * @return Instance of the constructor's declaring class
+   */
+  public Object newInstance4(Object a, Object b, Object c, Object d) throws Exception {
+    if (callTransformer != null)
+      return newInstance(a, b, c, d);
+    return accessor.newInstance4(a, b, c, d);
+  }
+
+  /**
+   * Bind this constructor to an implementation of a functional interface, which calls
+   * it directly and thereby avoids the argument array and boxing of {@link #newInstance}.
+   * If a call transformer is present, calls are relayed through it and thereby remain generic.
+   * @param functionalInterface Functional interface to implement
+   * @return Implementation of the functional interface
+   * @throws IllegalArgumentException Thrown if the interface does not fit this constructor's signature
+   * @throws IllegalStateException Thrown if the implementation could not be created
+   */
+  public <F> F bindTo(Class<F> functionalInterface) throws IllegalArgumentException, IllegalStateException {
+    if (callTransformer == null && callLayout == null)
+      return LambdaBinder.bindConstructor(functionalInterface, handle);
+
+    return LambdaBinder.bindAccessor(functionalInterface, this::newInstance);
   }
 
   /**
@@ -65,6 +198,10 @@ public class ConstructorHandle extends AHandle<Constructor> {
 
   @Override
   protected String stringify(Constructor member) {
+    return stringifyMember(member);
+  }
+
+  private static String stringifyMember(Constructor member) {
     StringJoiner sj = new StringJoiner(" ");
 
     sj.add(Modifier.toString(member.getModifiers()));
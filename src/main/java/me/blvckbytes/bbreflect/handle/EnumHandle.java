@@ -24,18 +24,22 @@
 
 package me.blvckbytes.bbreflect.handle;
 
+import me.blvckbytes.bbreflect.handle.cache.ClassCache;
 import me.blvckbytes.bbreflect.version.ServerVersion;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 public class EnumHandle extends ClassHandle {
 
-  // TODO: Check against enum copies if they match the number of entries, else throw
   // TODO: Get an "enum" from static constants of a specific type within a class
 
   private final List<Enum<?>> e;
 
+  // Mappings by name, created on demand by getByCopy
+  private final ClassCache<EnumMapping<?>> copyMappings;
+
   /**
    * Create a new enumeration handle on top of a enumeration class
    * @param c Class which represents an enumeration
@@ -52,7 +56,8 @@ public class EnumHandle extends ClassHandle {
       throw new IllegalStateException("This class does not represent an enumeration.");
 
     // Create a unmodifiable list of constants and wrap into a handle
-    e = Arrays.asList((Enum<?>[]) constants);
+    e = Collections.unmodifiableList(Arrays.asList((Enum<?>[]) constants));
+    copyMappings = new ClassCache<>();
   }
 
   /**
@@ -63,21 +68,38 @@ public class EnumHandle extends ClassHandle {
    */
   @SuppressWarnings("unchecked")
   public Enum<?> getByOrdinal(int ordinal) throws EnumConstantNotPresentException {
-    try {
-      return e.get(ordinal);
-    } catch (Exception e) {
+    if (ordinal < 0 || ordinal >= e.size())
       throw new EnumConstantNotPresentException((Class<? extends Enum<?>>) handle, "ordinal=" + ordinal);
-    }
+
+    return e.get(ordinal);
   }
 
   /**
-   * Get an enumeration constant by looking up the ordinal of a
-   * copy enum which has it's constants sorted in the exact same order.
+   * Get an enumeration constant by looking up the constant at the same ordinal as a constant
+   * of a copy enum of equal size, whose mapping is built and validated on first use
    * @param other Constant of a copy
    * @return Enumeration constant
-   * @throws EnumConstantNotPresentException Thrown if there is no constant with this ordinal value
+   * @throws IllegalStateException Thrown if the copy doesn't list as many constants as this enumeration
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  public Enum<?> getByCopy(Enum<?> other) throws IllegalStateException {
+    EnumMapping mapping = copyMappings.get(other.getDeclaringClass(), copyType -> mapTo((Class) copyType).build());
+    return mapping.toTarget(other);
+  }
+
+  /**
+   * Create a new builder of array-indexed lookup tables between a copy enum and
+   * this enumeration, which match constants by ordinal unless specified otherwise
+   * @param copyType Library copy of this enumeration
+   */
+  public <C extends Enum<C>> EnumMappingBuilder<C> mapTo(Class<C> copyType) {
+    return new EnumMappingBuilder<>(this, copyType, version);
+  }
+
+  /**
+   * Get all constants of this enumeration, in order of their ordinals
    */
-  public Enum<?> getByCopy(Enum<?> other) throws EnumConstantNotPresentException {
-    return getByOrdinal(other.ordinal());
+  public List<Enum<?>> getConstants() {
+    return e;
   }
 }
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bidirectional lookup tables between the constants of a library copy enum and the constants
+ * of the enum it mirrors, which are indexed by ordinal and thereby resolve with a single array load
+ */
+public class EnumMapping<C extends Enum<C>> {
+
+  private final EnumHandle target;
+  private final Class<C> copyType;
+
+  // Target constant by the ordinal of it's copy, null if unmapped
+  private final Enum<?>[] targetByCopy;
+
+  // Copy constant by the ordinal of it's target, null if unmapped
+  private final C[] copyByTarget;
+
+  // Copy constant returned for targets without a counterpart
+  private final @Nullable C fallback;
+
+  EnumMapping(EnumHandle target, Class<C> copyType, Enum<?>[] targetByCopy, C[] copyByTarget, @Nullable C fallback) {
+    this.target = target;
+    this.copyType = copyType;
+    this.targetByCopy = targetByCopy;
+    this.copyByTarget = copyByTarget;
+    this.fallback = fallback;
+  }
+
+  /**
+   * Get the target constant a constant of the copy maps to
+   * @param copy Constant of the copy
+   * @throws EnumConstantNotPresentException Thrown if the copy has been declared unmapped
+   */
+  @SuppressWarnings("unchecked")
+  public Enum<?> toTarget(C copy) throws EnumConstantNotPresentException {
+    Enum<?> result = targetByCopy[copy.ordinal()];
+
+    if (result == null)
+      throw new EnumConstantNotPresentException((Class<? extends Enum<?>>) target.getHandle(), "copy=" + copy);
+
+    return result;
+  }
+
+  /**
+   * Get the constant of the copy a target constant maps to
+   * @param target Constant of the target enum
+   * @throws IllegalArgumentException Thrown if the constant is not of the target enum
+   * @throws EnumConstantNotPresentException Thrown if the target has no counterpart and there's no fallback
+   */
+  public C fromTarget(Object target) throws IllegalArgumentException, EnumConstantNotPresentException {
+    if (!(target instanceof Enum) || ((Enum<?>) target).getDeclaringClass() != this.target.getHandle())
+      throw new IllegalArgumentException("Expected a constant of " + this.target.getHandle() + ", but got " + target);
+
+    return fromOrdinal(((Enum<?>) target).ordinal());
+  }
+
+  /**
+   * Get the constant of the copy a target constant maps to by the target's ordinal
+   * @param ordinal Ordinal of the target constant
+   * @throws EnumConstantNotPresentException Thrown if the target has no counterpart and there's no fallback
+   */
+  public C fromOrdinal(int ordinal) throws EnumConstantNotPresentException {
+    C result = ordinal >= 0 && ordinal < copyByTarget.length ? copyByTarget[ordinal] : null;
+
+    if (result != null)
+      return result;
+
+    if (fallback != null)
+      return fallback;
+
+    throw new EnumConstantNotPresentException(copyType, "ordinal=" + ordinal);
+  }
+
+  public EnumHandle getTarget() {
+    return target;
+  }
+
+  public Class<C> getCopyType() {
+    return copyType;
+  }
+}
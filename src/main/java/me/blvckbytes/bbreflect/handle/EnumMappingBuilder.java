@@ -0,0 +1,241 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle;
+
+import me.blvckbytes.bbreflect.version.ServerVersion;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+public class EnumMappingBuilder<C extends Enum<C>> {
+
+  private final EnumHandle target;
+  private final Class<C> copyType;
+  private final ServerVersion version;
+
+  // Explicit target constant names, overriding the copy's name
+  private final Map<C, String> names;
+  private final Set<C> unmapped;
+  private final Set<String> ignored;
+  private @Nullable C fallback;
+  private boolean ignoreUnmatched;
+  private EnumMatching matching;
+
+  /**
+   * Create a new builder of a mapping between a copy enum and a target enum
+   * @param target Target enum
+   * @param copyType Library copy of the target enum
+   * @param version Current server version
+   */
+  public EnumMappingBuilder(EnumHandle target, Class<C> copyType, ServerVersion version) {
+    this.target = target;
+    this.copyType = copyType;
+    this.version = version;
+    this.names = new EnumMap<>(copyType);
+    this.unmapped = EnumSet.noneOf(copyType);
+    this.ignored = new HashSet<>();
+    this.matching = EnumMatching.ORDINAL;
+  }
+
+  ////////////////////////////////// Matching ///////////////////////////////////
+
+  /**
+   * Define how copy constants are matched to target constants if they have no explicit mapping,
+   * which defaults to {@link EnumMatching#ORDINAL}, as target constant names are obfuscated on
+   * some server versions
+   * @param matching Matching strategy
+   */
+  public EnumMappingBuilder<C> withMatching(EnumMatching matching) {
+    this.matching = matching;
+    return this;
+  }
+
+  /////////////////////////////////// Mapping ///////////////////////////////////
+
+  /**
+   * Map a copy constant to the target constant of the specified name, instead of matching it
+   * @param copy Constant of the copy
+   * @param name Name of the target constant
+   */
+  public EnumMappingBuilder<C> withMapping(C copy, String name) {
+    return withMapping(copy, name, null, null);
+  }
+
+  /**
+   * Map a copy constant to the target constant of the specified name, instead of
+   * matching it, if the current server version lies within the specified range
+   * @param copy Constant of the copy
+   * @param name Name of the target constant
+   * @param minVersion Minimum server version, null means no lower bound
+   * @param maxVersion Maximum server version, null means no upper bound
+   */
+  public EnumMappingBuilder<C> withMapping(C copy, String name, @Nullable ServerVersion minVersion, @Nullable ServerVersion maxVersion) {
+    if (isInVersionRange(minVersion, maxVersion))
+      names.put(copy, name);
+    return this;
+  }
+
+  /**
+   * Declare a copy constant as having no counterpart within the target
+   * @param copy Constant of the copy
+   */
+  public EnumMappingBuilder<C> withUnmapped(C copy) {
+    return withUnmapped(copy, null, null);
+  }
+
+  /**
+   * Declare a copy constant as having no counterpart within the target, if
+   * the current server version lies within the specified range
+   * @param copy Constant of the copy
+   * @param minVersion Minimum server version, null means no lower bound
+   * @param maxVersion Maximum server version, null means no upper bound
+   */
+  public EnumMappingBuilder<C> withUnmapped(C copy, @Nullable ServerVersion minVersion, @Nullable ServerVersion maxVersion) {
+    if (isInVersionRange(minVersion, maxVersion))
+      unmapped.add(copy);
+    return this;
+  }
+
+  /**
+   * Declare a target constant as having no counterpart within the copy
+   * @param name Name of the target constant
+   */
+  public EnumMappingBuilder<C> withIgnored(String name) {
+    ignored.add(name);
+    return this;
+  }
+
+  /**
+   * Declare all target constants which have no counterpart within the copy as ignored, which
+   * allows for target enums to gain constants of unknown names without failing the mapping,
+   * while looking up the copy of such a constant fails, unless there's a fallback
+   */
+  public EnumMappingBuilder<C> withUnmatchedIgnored() {
+    this.ignoreUnmatched = true;
+    return this;
+  }
+
+  /////////////////////////////////// Fallback //////////////////////////////////
+
+  /**
+   * Define the copy constant all target constants without a counterpart map to,
+   * which allows for target enums to gain constants without failing the mapping
+   * @param fallback Constant of the copy, null means none
+   */
+  public EnumMappingBuilder<C> withFallback(@Nullable C fallback) {
+    this.fallback = fallback;
+    return this;
+  }
+
+  ////////////////////////////////// Retrieval //////////////////////////////////
+
+  /**
+   * Build the lookup tables, after checking that every copy constant maps to exactly
+   * one target constant and that every target constant has a counterpart, unless ignored
+   * or there's a fallback, and that both enums are of equal size when matching by ordinal
+   * @throws IllegalStateException Thrown if the enums mismatch, listing all mismatches
+   */
+  @SuppressWarnings("unchecked")
+  public EnumMapping<C> build() throws IllegalStateException {
+    List<Enum<?>> targetConstants = target.getConstants();
+    Map<String, Enum<?>> targetByName = new HashMap<>();
+
+    for (Enum<?> constant : targetConstants)
+      targetByName.put(constant.name(), constant);
+
+    C[] copyConstants = copyType.getEnumConstants();
+    Enum<?>[] targetByCopy = new Enum<?>[copyConstants.length];
+    C[] copyByTarget = (C[]) Array.newInstance(copyType, targetConstants.size());
+    List<String> mismatches = new ArrayList<>();
+
+    for (C copy : copyConstants) {
+      if (unmapped.contains(copy))
+        continue;
+
+      String name = names.get(copy);
+      Enum<?> constant;
+
+      if (name != null || matching == EnumMatching.NAME) {
+        if (name == null)
+          name = copy.name();
+
+        constant = targetByName.get(name);
+
+        if (constant == null) {
+          mismatches.add("no target constant named " + name + " for " + copy);
+          continue;
+        }
+      }
+
+      else {
+        constant = copy.ordinal() < targetConstants.size() ? targetConstants.get(copy.ordinal()) : null;
+
+        if (constant == null) {
+          mismatches.add("no target constant at ordinal " + copy.ordinal() + " for " + copy);
+          continue;
+        }
+      }
+
+      if (copyByTarget[constant.ordinal()] != null) {
+        mismatches.add("both " + copyByTarget[constant.ordinal()] + " and " + copy + " map to " + constant.name());
+        continue;
+      }
+
+      targetByCopy[copy.ordinal()] = constant;
+      copyByTarget[constant.ordinal()] = copy;
+    }
+
+    // Matching by ordinal is only sound if both enums list the same number of constants
+    if (matching == EnumMatching.ORDINAL) {
+      int numCopies = copyConstants.length - unmapped.size();
+      int numTargets = 0;
+
+      for (Enum<?> constant : targetConstants) {
+        if (!ignored.contains(constant.name()))
+          ++numTargets;
+      }
+
+      if (numCopies > numTargets || (numCopies < numTargets && fallback == null && !ignoreUnmatched))
+        mismatches.add(0, "the copy has " + numCopies + " mapped constants, but the target has " + numTargets);
+    }
+
+    if (fallback == null && !ignoreUnmatched) {
+      for (Enum<?> constant : targetConstants) {
+        if (copyByTarget[constant.ordinal()] == null && !ignored.contains(constant.name()))
+          mismatches.add("no copy constant for " + constant.name());
+      }
+    }
+
+    if (!mismatches.isEmpty())
+      throw new IllegalStateException("Could not map " + copyType + " to " + target.getHandle() + ": " + String.join(", ", mismatches));
+
+    return new EnumMapping<>(target, copyType, targetByCopy, copyByTarget, fallback);
+  }
+
+  private boolean isInVersionRange(@Nullable ServerVersion minVersion, @Nullable ServerVersion maxVersion) {
+    return (maxVersion == null || version.compare(maxVersion) <= 0) && (minVersion == null || version.compare(minVersion) >= 0);
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle;
+
+import me.blvckbytes.bbreflect.Primitives;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reusable buffer of a {@link FieldGroup}, which holds the values of all of it's fields,
+ * addressed by their position within the group, without boxing primitives
+ */
+public final class FieldBuffer {
+
+  final FieldGroup group;
+  final long[] primitives;
+  final @Nullable Object[] objects;
+
+  private final Class<?>[] types;
+
+  FieldBuffer(FieldGroup group, Class<?>[] types) {
+    this.group = group;
+    this.types = types;
+    this.primitives = new long[types.length];
+    this.objects = new Object[types.length];
+  }
+
+  /**
+   * Get the value of a field, where primitives are boxed
+   * @param index Position of the field within the group
+   */
+  public @Nullable Object get(int index) {
+    Class<?> type = types[index];
+
+    if (!type.isPrimitive())
+      return objects[index];
+
+    if (type == int.class) return getInt(index);
+    if (type == long.class) return getLong(index);
+    if (type == boolean.class) return getBoolean(index);
+    if (type == byte.class) return getByte(index);
+    if (type == short.class) return getShort(index);
+    if (type == char.class) return getChar(index);
+    if (type == float.class) return getFloat(index);
+    return getDouble(index);
+  }
+
+  /**
+   * Set the value of a field, where primitives are unboxed
+   * @param index Position of the field within the group
+   * @param value Value to set
+   * @throws IllegalArgumentException Thrown if the value is not assignable to the field
+   */
+  public void set(int index, @Nullable Object value) throws IllegalArgumentException {
+    Class<?> type = types[index];
+
+    if (!type.isPrimitive()) {
+      if (value != null && !type.isInstance(value))
+        throw new IllegalArgumentException("Cannot assign a value of " + value.getClass() + " to a field of " + type);
+
+      objects[index] = value;
+      return;
+    }
+
+    if (type == int.class) setInt(index, Primitives.unboxInt(value));
+    else if (type == long.class) setLong(index, Primitives.unboxLong(value));
+    else if (type == boolean.class) setBoolean(index, Primitives.unboxBoolean(value));
+    else if (type == byte.class) setByte(index, Primitives.unboxByte(value));
+    else if (type == short.class) setShort(index, Primitives.unboxShort(value));
+    else if (type == char.class) setChar(index, Primitives.unboxChar(value));
+    else if (type == float.class) setFloat(index, Primitives.unboxFloat(value));
+    else setDouble(index, Primitives.unboxDouble(value));
+  }
+
+  public boolean getBoolean(int index) {
+    checkType(index, boolean.class);
+    return primitives[index] != 0;
+  }
+
+  public void setBoolean(int index, boolean value) {
+    checkType(index, boolean.class);
+    primitives[index] = value ? 1 : 0;
+  }
+
+  public byte getByte(int index) {
+    checkType(index, byte.class);
+    return (byte) primitives[index];
+  }
+
+  public void setByte(int index, byte value) {
+    checkType(index, byte.class);
+    primitives[index] = value;
+  }
+
+  public char getChar(int index) {
+    checkType(index, char.class);
+    return (char) primitives[index];
+  }
+
+  public void setChar(int index, char value) {
+    checkType(index, char.class);
+    primitives[index] = value;
+  }
+
+  public short getShort(int index) {
+    checkType(index, short.class);
+    return (short) primitives[index];
+  }
+
+  public void setShort(int index, short value) {
+    checkType(index, short.class);
+    primitives[index] = value;
+  }
+
+  public int getInt(int index) {
+    checkType(index, int.class);
+    return (int) primitives[index];
+  }
+
+  public void setInt(int index, int value) {
+    checkType(index, int.class);
+    primitives[index] = value;
+  }
+
+  public long getLong(int index) {
+    checkType(index, long.class);
+    return primitives[index];
+  }
+
+  public void setLong(int index, long value) {
+    checkType(index, long.class);
+    primitives[index] = value;
+  }
+
+  public float getFloat(int index) {
+    checkType(index, float.class);
+    return Float.intBitsToFloat((int) primitives[index]);
+  }
+
+  public void setFloat(int index, float value) {
+    checkType(index, float.class);
+    primitives[index] = Float.floatToRawIntBits(value);
+  }
+
+  public double getDouble(int index) {
+    checkType(index, double.class);
+    return Double.longBitsToDouble(primitives[index]);
+  }
+
+  public void setDouble(int index, double value) {
+    checkType(index, double.class);
+    primitives[index] = Double.doubleToRawLongBits(value);
+  }
+
+  private void checkType(int index, Class<?> type) {
+    if (types[index] != type)
+      throw new IllegalArgumentException("The field at index " + index + " is of type " + types[index] + ", not " + type);
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle;
+
+import me.blvckbytes.bbreflect.handle.accessor.AccessorFactory;
+import me.blvckbytes.bbreflect.handle.accessor.IFieldGroupAccessor;
+import me.blvckbytes.bbreflect.handle.accessor.InvocationMode;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+public class FieldGroup {
+
+  private final ClassHandle owner;
+  private final FieldHandle[] fields;
+  private final Class<?>[] types;
+  private final IFieldGroupAccessor accessor;
+
+  /**
+   * Create a new group of fields, which are read and written all at once
+   * @param owner Class whose instances are accessed
+   * @param invocationMode Invocation mode used if the group cannot be generated, null means default
+   * @param fields Instance fields of the owner, which are addressed by their position within the group
+   * @throws IllegalArgumentException Thrown if a field is static, has transformers or is not a member of the owner
+   */
+  public FieldGroup(ClassHandle owner, @Nullable InvocationMode invocationMode, FieldHandle... fields) throws IllegalArgumentException {
+    Field[] members = new Field[fields.length];
+    Class<?>[] types = new Class<?>[fields.length];
+
+    for (int i = 0; i < fields.length; i++) {
+      Field member = fields[i].getHandle();
+
+      if (Modifier.isStatic(member.getModifiers()))
+        throw new IllegalArgumentException("Cannot group the static field " + member);
+
+      // Values are read and written raw, as the transformers would require boxing them
+      if (fields[i].hasTransformers())
+        throw new IllegalArgumentException("Cannot group the field " + member + ", as it has transformers");
+
+      if (!member.getDeclaringClass().isAssignableFrom(owner.getHandle()))
+        throw new IllegalArgumentException("The field " + member + " is not a member of " + owner.getHandle());
+
+      members[i] = member;
+      types[i] = member.getType();
+    }
+
+    this.owner = owner;
+    this.fields = fields.clone();
+    this.types = types;
+    this.accessor = AccessorFactory.createFieldGroupAccessor(owner.getHandle(), members, invocationMode);
+  }
+
+  /**
+   * Create a new buffer which can be reused for all accesses on this group
+   */
+  public FieldBuffer createBuffer() {
+    return new FieldBuffer(this, types);
+  }
+
+  /**
+   * Read all fields of this group from an object instance into a buffer
+   * @param o Target object to read from
+   * @param buffer Buffer of this group to read into
+   */
+  public void read(Object o, FieldBuffer buffer) throws Exception {
+    checkBuffer(buffer);
+    accessor.read(o, buffer.primitives, buffer.objects);
+  }
+
+  /**
+   * Write all fields of this group from a buffer into an object instance
+   * @param o Target object to modify
+   * @param buffer Buffer of this group to write from
+   */
+  public void write(Object o, FieldBuffer buffer) throws Exception {
+    checkBuffer(buffer);
+    accessor.write(o, buffer.primitives, buffer.objects);
+  }
+
+  /**
+   * Get the position of a field within this group, which addresses it within buffers
+   * @param field Field to search for
+   * @return Position of the field, -1 if it's not part of this group
+   */
+  public int indexOf(FieldHandle field) {
+    for (int i = 0; i < fields.length; i++) {
+      if (fields[i].getHandle().equals(field.getHandle()))
+        return i;
+    }
+    return -1;
+  }
+
+  /**
+   * Get the number of fields within this group
+   */
+  public int size() {
+    return fields.length;
+  }
+
+  public ClassHandle getOwner() {
+    return owner;
+  }
+
+  private void checkBuffer(FieldBuffer buffer) {
+    if (buffer.group != this)
+      throw new IllegalArgumentException("The buffer has not been created by this field group");
+  }
+}
@@ -24,14 +24,20 @@
 
 package me.blvckbytes.bbreflect.handle;
 
+import me.blvckbytes.bbreflect.Primitives;
+import me.blvckbytes.bbreflect.handle.accessor.AccessorFactory;
+import me.blvckbytes.bbreflect.handle.accessor.IFieldAccessor;
+import me.blvckbytes.bbreflect.handle.accessor.InvocationMode;
+import me.blvckbytes.bbreflect.handle.metrics.HandleMetrics;
+import me.blvckbytes.bbreflect.handle.metrics.MetricsRegistry;
 import me.blvckbytes.bbreflect.handle.predicate.FMemberPredicate;
-import me.blvckbytes.bbreflect.handle.transformer.FResponseTransformer;
-import me.blvckbytes.bbreflect.handle.transformer.FValueTransformer;
+import me.blvckbytes.bbreflect.handle.transformer.*;
 import me.blvckbytes.bbreflect.version.ServerVersion;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.StringJoiner;
 
@@ -39,6 +45,15 @@ public class FieldHandle extends AHandle<Field> {
 
   private final @Nullable FResponseTransformer responseTransformer;
   private final @Nullable FValueTransformer valueTransformer;
+  private final IFieldAccessor accessor;
+
+  // Primitive specializations of the above transformers, if they've been provided as such
+  private final @Nullable FIntResponseTransformer intResponseTransformer;
+  private final @Nullable FLongResponseTransformer longResponseTransformer;
+  private final @Nullable FDoubleResponseTransformer doubleResponseTransformer;
+  private final @Nullable FIntValueTransformer intValueTransformer;
+  private final @Nullable FLongValueTransformer longValueTransformer;
+  private final @Nullable FDoubleValueTransformer doubleValueTransformer;
 
   public FieldHandle(
     Class<?> target, ServerVersion version,
@@ -46,10 +61,74 @@ public class FieldHandle extends AHandle<Field> {
     @Nullable FValueTransformer valueTransformer,
     FMemberPredicate<Field> predicate
   ) throws NoSuchElementException {
-    super(target, Field.class, version, predicate);
+    this(target, version, null, responseTransformer, valueTransformer, predicate);
+  }
+
+  public FieldHandle(
+    Class<?> target, ServerVersion version,
+    @Nullable InvocationMode invocationMode,
+    @Nullable FResponseTransformer responseTransformer,
+    @Nullable FValueTransformer valueTransformer,
+    FMemberPredicate<Field> predicate
+  ) throws NoSuchElementException {
+    this(locate(target, predicate).require(), version, invocationMode, responseTransformer, valueTransformer);
+  }
+
+  /**
+   * Create a new handle on top of a field which has already been located, see {@link #locate}
+   * @param field Located field
+   * @param version Current server version
+   * @param invocationMode Invocation mode, null means default
+   * @param responseTransformer Response transformer, if any
+   * @param valueTransformer Value transformer, if any
+   */
+  public FieldHandle(
+    Field field, ServerVersion version,
+    @Nullable InvocationMode invocationMode,
+    @Nullable FResponseTransformer responseTransformer,
+    @Nullable FValueTransformer valueTransformer
+  ) {
+    super(field, Field.class, version);
+
+    IFieldAccessor accessor = AccessorFactory.createFieldAccessor(handle, invocationMode);
+    HandleMetrics metrics = MetricsRegistry.register(this);
+
+    if (metrics != null) {
+      accessor = metrics.meterField(accessor);
+      responseTransformer = metrics.meterResponse(responseTransformer);
+      valueTransformer = metrics.meterValue(valueTransformer);
+    }
 
     this.responseTransformer = responseTransformer;
     this.valueTransformer = valueTransformer;
+    this.accessor = accessor;
+
+    this.intResponseTransformer = responseTransformer instanceof FIntResponseTransformer ? (FIntResponseTransformer) responseTransformer : null;
+    this.longResponseTransformer = responseTransformer instanceof FLongResponseTransformer ? (FLongResponseTransformer) responseTransformer : null;
+    this.doubleResponseTransformer = responseTransformer instanceof FDoubleResponseTransformer ? (FDoubleResponseTransformer) responseTransformer : null;
+    this.intValueTransformer = valueTransformer instanceof FIntValueTransformer ? (FIntValueTransformer) valueTransformer : null;
+    this.longValueTransformer = valueTransformer instanceof FLongValueTransformer ? (FLongValueTransformer) valueTransformer : null;
+    this.doubleValueTransformer = valueTransformer instanceof FDoubleValueTransformer ? (FDoubleValueTransformer) valueTransformer : null;
+  }
+
+  /**
+   * Locate a field by running a member predicate on a target class' members, without throwing
+   * @param target Target class
+   * @param predicate Member predicate to run
+   */
+  public static Resolution<Field> locate(Class<?> target, FMemberPredicate<Field> predicate) {
+    return locate(target, Field.class, predicate, FieldHandle::stringifyMember);
+  }
+
+  /**
+   * Locate multiple fields by running member predicates on a target class' members, without throwing,
+   * which walks the class hierarchy only once for all predicates
+   * @param target Target class
+   * @param predicates Member predicates to run
+   * @return Resolutions in the order of the predicates
+   */
+  public static List<Resolution<Field>> locateAll(Class<?> target, List<? extends FMemberPredicate<Field>> predicates) {
+    return locateAll(target, Field.class, predicates, FieldHandle::stringifyMember);
   }
 
   /**
@@ -60,7 +139,7 @@ public class FieldHandle extends AHandle<Field> {
   public void set(Object o, Object v) throws Exception {
     if (valueTransformer != null)
       v = valueTransformer.apply(v);
-    this.handle.set(o, v);
+    accessor.set(o, v);
   }
 
   /**
@@ -69,7 +148,7 @@ public class FieldHandle extends AHandle<Field> {
    * @return Field value
    */
   public Object get(Object o) throws Exception {
-    Object result = this.handle.get(o);
+    Object result = accessor.get(o);
 
     if (responseTransformer != null)
       result = responseTransformer.apply(result);
@@ -77,8 +156,280 @@ public class FieldHandle extends AHandle<Field> {
     return result;
   }
 
+  /**
+   * Checks whether values pass through transformers when being read or written
+   */
+  boolean hasTransformers() {
+    return responseTransformer != null || valueTransformer != null;
+  }
+
+  //=========================================================================//
+  //                            Unboxed Accessors                            //
+  //=========================================================================//
+
+  /**
+   * Get the field's value from an object instance as an int, without boxing
+   * it if the field is either not transformed or transformed into an int
+   * @param o Target object to read from
+   * @return Field value
+   */
+  public int getInt(Object o) throws Exception {
+    if (intResponseTransformer != null)
+      return intResponseTransformer.applyAsInt(accessor.get(o));
+
+    if (responseTransformer != null)
+      return Primitives.unboxInt(get(o));
+
+    return accessor.getInt(o);
+  }
+
+  /**
+   * Get the field's value from an object instance as a long, without boxing
+   * it if the field is either not transformed or transformed into a long or an int
+   * @param o Target object to read from
+   * @return Field value
+   */
+  public long getLong(Object o) throws Exception {
+    if (longResponseTransformer != null)
+      return longResponseTransformer.applyAsLong(accessor.get(o));
+
+    if (intResponseTransformer != null)
+      return intResponseTransformer.applyAsInt(accessor.get(o));
+
+    if (responseTransformer != null)
+      return Primitives.unboxLong(get(o));
+
+    return accessor.getLong(o);
+  }
+
+  /**
+   * Get the field's value from an object instance as a double, without boxing
+   * it if the field is either not transformed or transformed into any primitive
+   * @param o Target object to read from
+   * @return Field value
+   */
+  public double getDouble(Object o) throws Exception {
+    if (doubleResponseTransformer != null)
+      return doubleResponseTransformer.applyAsDouble(accessor.get(o));
+
+    if (longResponseTransformer != null)
+      return longResponseTransformer.applyAsLong(accessor.get(o));
+
+    if (intResponseTransformer != null)
+      return intResponseTransformer.applyAsInt(accessor.get(o));
+
+    if (responseTransformer != null)
+      return Primitives.unboxDouble(get(o));
+
+    return accessor.getDouble(o);
+  }
+
+  /**
+   * Get the field's value from an object instance as a boolean, without boxing
+   * it if the field is not transformed
+   * @param o Target object to read from
+   * @return Field value
+   */
+  public boolean getBoolean(Object o) throws Exception {
+    if (responseTransformer != null)
+      return Primitives.unboxBoolean(get(o));
+
+    return accessor.getBoolean(o);
+  }
+
+  /**
+   * Get the field's value from an object instance as a byte, without boxing
+   * it if the field is not transformed
+   * @param o Target object to read from
+   * @return Field value
+   */
+  public byte getByte(Object o) throws Exception {
+    if (responseTransformer != null)
+      return Primitives.unboxByte(get(o));
+
+    return accessor.getByte(o);
+  }
+
+  /**
+   * Get the field's value from an object instance as a char, without boxing
+   * it if the field is not transformed
+   * @param o Target object to read from
+   * @return Field value
+   */
+  public char getChar(Object o) throws Exception {
+    if (responseTransformer != null)
+      return Primitives.unboxChar(get(o));
+
+    return accessor.getChar(o);
+  }
+
+  /**
+   * Get the field's value from an object instance as a short, without boxing
+   * it if the field is not transformed
+   * @param o Target object to read from
+   * @return Field value
+   */
+  public short getShort(Object o) throws Exception {
+    if (responseTransformer != null)
+      return Primitives.unboxShort(get(o));
+
+    return accessor.getShort(o);
+  }
+
+  /**
+   * Get the field's value from an object instance as a float, without boxing
+   * it if the field is not transformed
+   * @param o Target object to read from
+   * @return Field value
+   */
+  public float getFloat(Object o) throws Exception {
+    if (responseTransformer != null)
+      return Primitives.unboxFloat(get(o));
+
+    return accessor.getFloat(o);
+  }
+
+  /**
+   * Set the field's value on an object instance from an int, without boxing
+   * it if the field is either not transformed or transformed from an int
+   * @param o Target object to modify
+   * @param v Field value to set
+   */
+  public void setInt(Object o, int v) throws Exception {
+    if (intValueTransformer != null) {
+      accessor.set(o, intValueTransformer.apply(v));
+      return;
+    }
+
+    if (valueTransformer != null) {
+      set(o, v);
+      return;
+    }
+
+    accessor.setInt(o, v);
+  }
+
+  /**
+   * Set the field's value on an object instance from a long, without boxing
+   * it if the field is either not transformed or transformed from a long
+   * @param o Target object to modify
+   * @param v Field value to set
+   */
+  public void setLong(Object o, long v) throws Exception {
+    if (longValueTransformer != null) {
+      accessor.set(o, longValueTransformer.apply(v));
+      return;
+    }
+
+    if (valueTransformer != null) {
+      set(o, v);
+      return;
+    }
+
+    accessor.setLong(o, v);
+  }
+
+  /**
+   * Set the field's value on an object instance from a double, without boxing
+   * it if the field is either not transformed or transformed from a double
+   * @param o Target object to modify
+   * @param v Field value to set
+   */
+  public void setDouble(Object o, double v) throws Exception {
+    if (doubleValueTransformer != null) {
+      accessor.set(o, doubleValueTransformer.apply(v));
+      return;
+    }
+
+    if (valueTransformer != null) {
+      set(o, v);
+      return;
+    }
+
+    accessor.setDouble(o, v);
+  }
+
+  /**
+   * Set the field's value on an object instance from a boolean, without boxing
+   * it if the field is not transformed
+   * @param o Target object to modify
+   * @param v Field value to set
+   */
+  public void setBoolean(Object o, boolean v) throws Exception {
+    if (valueTransformer != null) {
+      set(o, v);
+      return;
+    }
+
+    accessor.setBoolean(o, v);
+  }
+
+  /**
+   * Set the field's value on an object instance from a byte, without boxing
+   * it if the field is not transformed
+   * @param o Target object to modify
+   * @param v Field value to set
+   */
+  public void setByte(Object o, byte v) throws Exception {
+    if (valueTransformer != null) {
+      set(o, v);
+      return;
+    }
+
+    accessor.setByte(o, v);
+  }
+
+  /**
+   * Set the field's value on an object instance from a char, without boxing
+   * it if the field is not transformed
+   * @param o Target object to modify
+   * @param v Field value to set
+   */
+  public void setChar(Object o, char v) throws Exception {
+    if (valueTransformer != null) {
+      set(o, v);
+      return;
+    }
+
+    accessor.setChar(o, v);
+  }
+
+  /**
+   * Set the field's value on an object instance from a short, without boxing
+   * it if the field is not transformed
+   * @param o Target object to modify
+   * @param v Field value to set
+   */
+  public void setShort(Object o, short v) throws Exception {
+    if (valueTransformer != null) {
+      set(o, v);
+      return;
+    }
+
+    accessor.setShort(o, v);
+  }
+
+  /**
+   * Set the field's value on an object instance from a float, without boxing
+   * it if the field is not transformed
+   * @param o Target object to modify
+   * @param v Field value to set
+   */
+  public void setFloat(Object o, float v) throws Exception {
+    if (valueTransformer != null) {
+      set(o, v);
+      return;
+    }
+
+    accessor.setFloat(o, v);
+  }
+
   @Override
   protected String stringify(Field member) {
+    return stringifyMember(member);
+  }
+
+  private static String stringifyMember(Field member) {
     StringJoiner sj = new StringJoiner(" ");
 
     sj.add(Modifier.toString(member.getModifiers()));
@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle;
+
+import me.blvckbytes.bbreflect.handle.predicate.APredicateBuilder;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Handle which is only resolved on first use, or when warmed up in the background, and which
+ * is safely published to all threads afterwards. Failures are remembered and thrown on each
+ * access, just like they would have been thrown once by an eager resolution.
+ */
+public final class LazyHandle<T> {
+
+  // Lazy handles which have not been resolved yet, held weakly so that unused handles
+  // don't keep their builders and thereby their classes alive
+  private static final Set<LazyHandle<?>> pending = Collections.newSetFromMap(new WeakHashMap<>());
+
+  private @Nullable APredicateBuilder<T, ?> builder;
+  private volatile @Nullable T handle;
+  private volatile @Nullable RuntimeException failure;
+
+  /**
+   * Create a new lazy handle on top of a builder which is no longer modified afterwards
+   * @param builder Builder to resolve the handle with
+   */
+  public LazyHandle(APredicateBuilder<T, ?> builder) {
+    this.builder = builder;
+
+    synchronized (pending) {
+      pending.add(this);
+    }
+  }
+
+  /**
+   * Get the handle, which is resolved on the first call
+   * @throws NoSuchElementException Thrown if the handle could not be located
+   * @throws RuntimeException Thrown if the builder failed otherwise, like on an incomplete predicate
+   */
+  public T get() throws NoSuchElementException {
+    T result = handle;
+
+    if (result != null)
+      return result;
+
+    return resolve();
+  }
+
+  /**
+   * Get the handle, which is resolved on the first call
+   * @return Handle, null if it could not be located
+   */
+  public @Nullable T getOrNull() {
+    try {
+      return get();
+    } catch (NoSuchElementException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Checks whether the resolution has been attempted already, no matter it's outcome
+   */
+  public boolean isResolved() {
+    return handle != null || failure != null;
+  }
+
+  /**
+   * Resolve all lazy handles which have not been used yet in the background
+   * @param executor Executor to resolve on
+   * @return Future which completes after all pending handles have been resolved, where
+   *         failures are not reported but remembered until the handle is accessed
+   */
+  public static CompletableFuture<Void> warmUp(Executor executor) {
+    List<LazyHandle<?>> targets;
+
+    synchronized (pending) {
+      targets = new ArrayList<>(pending);
+      pending.clear();
+    }
+
+    List<CompletableFuture<?>> resolutions = new ArrayList<>(targets.size());
+
+    for (LazyHandle<?> target : targets)
+      resolutions.add(CompletableFuture.runAsync(target::resolveQuietly, executor));
+
+    return CompletableFuture.allOf(resolutions.toArray(new CompletableFuture<?>[0]));
+  }
+
+  private void resolveQuietly() {
+    try {
+      get();
+    } catch (RuntimeException ignored) {
+      // Remembered as the failure, which is thrown on access
+    }
+  }
+
+  private synchronized T resolve() throws NoSuchElementException {
+    // Another thread has resolved in the meantime
+    T result = handle;
+    if (result != null)
+      return result;
+
+    RuntimeException previousFailure = failure;
+    if (previousFailure != null)
+      throw previousFailure;
+
+    assert builder != null;
+
+    try {
+      result = builder.required();
+      handle = result;
+      return result;
+    } catch (RuntimeException e) {
+      failure = e;
+      throw e;
+    } finally {
+      // The builder is no longer needed once there's an outcome, while errors are retried on the next access
+      if (handle != null || failure != null) {
+        builder = null;
+
+        synchronized (pending) {
+          pending.remove(this);
+        }
+      }
+    }
+  }
+}
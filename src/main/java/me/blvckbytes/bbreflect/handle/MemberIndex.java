@@ -0,0 +1,227 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle;
+
+import me.blvckbytes.bbreflect.Primitives;
+import me.blvckbytes.bbreflect.handle.cache.ClassCache;
+import me.blvckbytes.bbreflect.handle.predicate.Assignability;
+import me.blvckbytes.bbreflect.handle.predicate.ComparableType;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Shared, thread-safe index of the members a single class declares, which avoids cloning
+ * the declared member arrays on every predicate and buckets them by name and by type, such
+ * that predicates only have to be evaluated on those members which could possibly match.
+ * All buckets keep the declaration order, so that skip counters behave like on a full scan.
+ */
+public final class MemberIndex {
+
+  private static final ClassCache<MemberIndex> INDICES = new ClassCache<>();
+
+  private static final Class<?>[] NO_ARGUMENTS = new Class<?>[0];
+
+  private final Field[] fields;
+  private final Method[] methods;
+  private final Constructor<?>[] constructors;
+  private final Class<?>[] classes;
+
+  // Names are keyed in lower case, as predicates match them case-insensitively
+  private final Map<String, Field[]> fieldsByName;
+  private final Map<String, Method[]> methodsByName;
+
+  private final Map<Class<?>, Field[]> fieldsByType;
+  private final Map<Class<?>, Method[]> methodsByReturnType;
+
+  // Primitive types to all members of either that primitive or it's wrapper type
+  private final Map<Class<?>, Field[]> fieldsByUnboxedType;
+  private final Map<Class<?>, Method[]> methodsByUnboxedReturnType;
+
+  // Generic type arguments are resolved on first use, as parsing signatures may fail
+  private final Map<Member, Class<?>[]> genericArguments;
+
+  private MemberIndex(Class<?> type) {
+    this.fields = type.getDeclaredFields();
+    this.methods = type.getDeclaredMethods();
+    this.constructors = type.getDeclaredConstructors();
+    this.classes = type.getDeclaredClasses();
+
+    this.fieldsByName = bucket(fields, Field[]::new, field -> field.getName().toLowerCase(Locale.ROOT));
+    this.methodsByName = bucket(methods, Method[]::new, method -> method.getName().toLowerCase(Locale.ROOT));
+    this.fieldsByType = bucket(fields, Field[]::new, Field::getType);
+    this.methodsByReturnType = bucket(methods, Method[]::new, Method::getReturnType);
+    this.fieldsByUnboxedType = bucket(fields, Field[]::new, field -> Primitives.unwrap(field.getType()));
+    this.methodsByUnboxedReturnType = bucket(methods, Method[]::new, method -> Primitives.unwrap(method.getReturnType()));
+
+    this.genericArguments = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Get the member index of a class, which is built on first access
+   * @param type Class to get the index of
+   */
+  public static MemberIndex of(Class<?> type) {
+    return INDICES.get(type, MemberIndex::new);
+  }
+
+  //=========================================================================//
+  //                                  Lookup                                 //
+  //=========================================================================//
+
+  /**
+   * Get all declared members of a given type in declaration order, which are
+   * shared and thus must never be modified by the caller
+   * @param memberType Type of member, either Field, Method, Constructor or Class
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T[] getMembers(Class<T> memberType) {
+    if (memberType == Field.class)
+      return (T[]) fields;
+
+    if (memberType == Method.class)
+      return (T[]) methods;
+
+    if (memberType == Class.class)
+      return (T[]) classes;
+
+    if (memberType == Constructor.class)
+      return (T[]) constructors;
+
+    throw new IllegalStateException("Unknown class member " + memberType + " requested");
+  }
+
+  /**
+   * Get all declared members of a given type which could satisfy the given name and type
+   * criteria, in declaration order, which are shared and thus must never be modified
+   * @param memberType Type of member, either Field, Method, Constructor or Class
+   * @param name Case-insensitive name of the member, null if unknown
+   * @param type Type of fields or return type of methods, null if unknown
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T[] getCandidates(Class<T> memberType, @Nullable String name, @Nullable ComparableType type) {
+    if (memberType == Field.class)
+      return (T[]) narrow(fields, fieldsByName, fieldsByType, fieldsByUnboxedType, name, type);
+
+    if (memberType == Method.class)
+      return (T[]) narrow(methods, methodsByName, methodsByReturnType, methodsByUnboxedReturnType, name, type);
+
+    return getMembers(memberType);
+  }
+
+  /**
+   * Get the raw classes of the generic type arguments of a field's type or a method's
+   * return type, where arguments which have no raw class, like type variables or
+   * wildcards, are represented by null
+   * @param member Field or method declared by the indexed class
+   * @return Type arguments, empty if the type is not parameterized
+   */
+  public Class<?>[] getGenericArguments(Member member) {
+    return genericArguments.computeIfAbsent(member, key -> {
+      Type genericType;
+
+      if (key instanceof Field)
+        genericType = ((Field) key).getGenericType();
+
+      else if (key instanceof Method)
+        genericType = ((Method) key).getGenericReturnType();
+
+      else
+        return NO_ARGUMENTS;
+
+      if (!(genericType instanceof ParameterizedType))
+        return NO_ARGUMENTS;
+
+      Type[] types = ((ParameterizedType) genericType).getActualTypeArguments();
+      Class<?>[] result = new Class<?>[types.length];
+
+      for (int i = 0; i < types.length; i++)
+        result[i] = unwrapType(types[i]);
+
+      return result;
+    });
+  }
+
+  //=========================================================================//
+  //                                 Helpers                                 //
+  //=========================================================================//
+
+  private static <M> M[] narrow(
+    M[] members,
+    Map<String, M[]> byName,
+    Map<Class<?>, M[]> byType,
+    Map<Class<?>, M[]> byUnboxedType,
+    @Nullable String name,
+    @Nullable ComparableType type
+  ) {
+    M[] result = members;
+
+    if (name != null)
+      result = byName.getOrDefault(name.toLowerCase(Locale.ROOT), Arrays.copyOf(members, 0));
+
+    // Only exact type comparisons can be looked up, assignability needs a scan
+    if (type != null && type.assignability == Assignability.NONE) {
+      Map<Class<?>, M[]> buckets = type.ignoreBoxing && type.type.isPrimitive() ? byUnboxedType : byType;
+      M[] typed = buckets.getOrDefault(type.type, Arrays.copyOf(members, 0));
+
+      if (typed.length < result.length)
+        result = typed;
+    }
+
+    return result;
+  }
+
+  private static <M, K> Map<K, M[]> bucket(M[] members, Function<Integer, M[]> arrayFactory, Function<M, K> key) {
+    Map<K, List<M>> lists = new HashMap<>();
+
+    for (M member : members)
+      lists.computeIfAbsent(key.apply(member), k -> new ArrayList<>(1)).add(member);
+
+    Map<K, M[]> result = new HashMap<>(lists.size() * 4 / 3 + 1);
+
+    for (Map.Entry<K, List<M>> entry : lists.entrySet())
+      result.put(entry.getKey(), entry.getValue().toArray(arrayFactory.apply(entry.getValue().size())));
+
+    return result;
+  }
+
+  /**
+   * Attempts to unwrap a given type to it's raw type class
+   * @param type Type to unwrap
+   * @return Unwrapped type, null if there is no raw type class
+   */
+  private static @Nullable Class<?> unwrapType(Type type) {
+    if (type instanceof Class)
+      return (Class<?>) type;
+
+    if (type instanceof ParameterizedType)
+      return unwrapType(((ParameterizedType) type).getRawType());
+
+    return null;
+  }
+}
@@ -25,7 +25,14 @@
 package me.blvckbytes.bbreflect.handle;
 
 import me.blvckbytes.bbreflect.handle.AHandle;
+import me.blvckbytes.bbreflect.handle.accessor.AccessorFactory;
+import me.blvckbytes.bbreflect.handle.accessor.IMethodAccessor;
+import me.blvckbytes.bbreflect.handle.accessor.InvocationMode;
+import me.blvckbytes.bbreflect.handle.accessor.LambdaBinder;
+import me.blvckbytes.bbreflect.handle.metrics.HandleMetrics;
+import me.blvckbytes.bbreflect.handle.metrics.MetricsRegistry;
 import me.blvckbytes.bbreflect.handle.predicate.FMemberPredicate;
+import me.blvckbytes.bbreflect.handle.transformer.CallLayout;
 import me.blvckbytes.bbreflect.handle.transformer.FCallTransformer;
 import me.blvckbytes.bbreflect.handle.transformer.FResponseTransformer;
 import me.blvckbytes.bbreflect.version.ServerVersion;
@@ -33,23 +40,90 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.StringJoiner;
 
 public class MethodHandle extends AHandle<Method> {
 
   private final @Nullable FCallTransformer callTransformer;
+  private final @Nullable CallLayout callLayout;
   private final @Nullable FResponseTransformer responseTransformer;
+  private final IMethodAccessor accessor;
 
   public MethodHandle(
     Class<?> target, ServerVersion version,
     @Nullable FCallTransformer callTransformer, @Nullable FResponseTransformer responseTransformer,
     FMemberPredicate<Method> predicate
   ) throws NoSuchElementException {
-    super(target, Method.class, version, predicate);
+    this(target, version, null, callTransformer, responseTransformer, predicate);
+  }
+
+  public MethodHandle(
+    Class<?> target, ServerVersion version, @Nullable InvocationMode invocationMode,
+    @Nullable FCallTransformer callTransformer, @Nullable FResponseTransformer responseTransformer,
+    FMemberPredicate<Method> predicate
+  ) throws NoSuchElementException {
+    this(target, version, invocationMode, callTransformer, null, responseTransformer, predicate);
+  }
+
+  public MethodHandle(
+    Class<?> target, ServerVersion version, @Nullable InvocationMode invocationMode,
+    @Nullable FCallTransformer callTransformer, @Nullable CallLayout callLayout,
+    @Nullable FResponseTransformer responseTransformer, FMemberPredicate<Method> predicate
+  ) throws NoSuchElementException {
+    this(locate(target, predicate).require(), version, invocationMode, callTransformer, callLayout, responseTransformer);
+  }
+
+  /**
+   * Create a new handle on top of a method which has already been located, see {@link #locate}
+   * @param method Located method
+   * @param version Current server version
+   * @param invocationMode Invocation mode, null means default
+   * @param callTransformer Call transformer, if any
+   * @param callLayout Layout of transformed or constant arguments, if any
+   * @param responseTransformer Response transformer, if any
+   */
+  public MethodHandle(
+    Method method, ServerVersion version, @Nullable InvocationMode invocationMode,
+    @Nullable FCallTransformer callTransformer, @Nullable CallLayout callLayout,
+    @Nullable FResponseTransformer responseTransformer
+  ) {
+    super(method, Method.class, version);
+
+    IMethodAccessor accessor = AccessorFactory.createMethodAccessor(handle, invocationMode, callLayout);
+    HandleMetrics metrics = MetricsRegistry.register(this);
+
+    if (metrics != null) {
+      accessor = metrics.meterMethod(accessor);
+      callTransformer = metrics.meterCall(callTransformer);
+      responseTransformer = metrics.meterResponse(responseTransformer);
+    }
 
     this.callTransformer = callTransformer;
+    this.callLayout = callLayout;
     this.responseTransformer = responseTransformer;
+    this.accessor = accessor;
+  }
+
+  /**
+   * Locate a method by running a member predicate on a target class' members, without throwing
+   * @param target Target class
+   * @param predicate Member predicate to run
+   */
+  public static Resolution<Method> locate(Class<?> target, FMemberPredicate<Method> predicate) {
+    return locate(target, Method.class, predicate, MethodHandle::stringifyMember);
+  }
+
+  /**
+   * Locate multiple methods by running member predicates on a target class' members, without throwing,
+   * which walks the class hierarchy only once for all predicates
+   * @param target Target class
+   * @param predicates Member predicates to run
+   * @return Resolutions in the order of the predicates
+   */
+  public static List<Resolution<Method>> locateAll(Class<?> target, List<? extends FMemberPredicate<Method>> predicates) {
+    return locateAll(target, Method.class, predicates, MethodHandle::stringifyMember);
   }
 
   /**
@@ -62,16 +136,106 @@ public class MethodHandle extends AHandle<Method> {
     if (callTransformer != null)
       args = callTransformer.apply(args);
 
-    Object response = handle.invoke(o, args);
+    return respond(accessor.invoke(o, args));
+  }
+
+  //=========================================================================//
+  //                         Fixed-Arity Invocation                          //
+  //=========================================================================//
 
+  // These skip allocating an argument array whenever the invocation mode allows for
+  // it, but have to fall back to the generic path if there's a call transformer
+
+  /**
+   * Invoke this method, which takes no arguments, on an object instance
+   * @param o Target object to invoke on
+   * @return Method return value
+   */
+  public Object invoke0(Object o) throws Exception {
+    if (callTransformer != null)
+      return invoke(o);
+
+    return respond(accessor.invoke0(o));
+  }
+
+  /**
+   * Invoke this method, which takes one argument, on an object instance
+   * @param o Target object to invoke on
+   * @return Method return value
+   */
+  public Object invoke1(Object o, Object a) throws Exception {
+    if (callTransformer != null)
+      return invoke(o, a);
+
+    return respond(accessor.invoke1(o, a));
+  }
+
+  /**
+   * Invoke this method, which takes two arguments, on an object instance
+   * @param o Target object to invoke on
+   * @return Method return value
+   */
+  public Object invoke2(Object o, Object a, Object b) throws Exception {
+    if (callTransformer != null)
+      return invoke(o, a, b);
+
+    return respond(accessor.invoke2(o, a, b));
+  }
+
+  /**
+   * Invoke this method, which takes three arguments, on an object instance
+   * @param o Target object to invoke on
+   * @return Method return value
+   */
+  public Object invoke3(Object o, Object a, Object b, Object c) throws Exception {
+    if (callTransformer != null)
+      return invoke(o, a, b, c);
+
+    return respond(accessor.invoke3(o, a, b, c));
+  }
+
+  /**
+   * Invoke this method, which takes four arguments, on an object instance
+   * @param o Target object to invoke on
+   * @return Method return value
+   */
+  public Object invoke4(Object o, Object a, Object b, Object c, Object d) throws Exception {
+    if (callTransformer != null)
+      return invoke(o, a, b, c, d);
+
+    return respond(accessor.invoke4(o, a, b, c, d));
+  }
+
+  private Object respond(Object response) throws Exception {
     if (responseTransformer != null)
       response = responseTransformer.apply(response);
 
     return response;
   }
 
+  /**
+   * Bind this method to an implementation of a functional interface, which calls
+   * it directly and thereby avoids the argument array and boxing of {@link #invoke}.
+   * Instance methods take their receiver as the first parameter of the functional method.
+   * If transformers are present, calls are relayed through them and thereby remain generic.
+   * @param functionalInterface Functional interface to implement
+   * @return Implementation of the functional interface
+   * @throws IllegalArgumentException Thrown if the interface does not fit this method's signature
+   * @throws IllegalStateException Thrown if the implementation could not be created
+   */
+  public <F> F bindTo(Class<F> functionalInterface) throws IllegalArgumentException, IllegalStateException {
+    if (callTransformer == null && callLayout == null && responseTransformer == null)
+      return LambdaBinder.bindMethod(functionalInterface, handle);
+
+    return LambdaBinder.bindAccessor(functionalInterface, this::invoke, Modifier.isStatic(handle.getModifiers()));
+  }
+
   @Override
   protected String stringify(Method member) {
+    return stringifyMember(member);
+  }
+
+  private static String stringifyMember(Method member) {
     StringJoiner sj = new StringJoiner(" ");
 
     sj.add(Modifier.toString(member.getModifiers()));
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Outcome of resolving a member or handle, which is either the found value or a miss. A miss
+ * only carries a supplier of it's diagnostic, so that neither messages nor stack traces are
+ * built unless the miss actually surfaces as a {@link NoSuchElementException}.
+ */
+public final class Resolution<T> {
+
+  private final @Nullable T value;
+  private final @Nullable Supplier<String> diagnostic;
+
+  private Resolution(@Nullable T value, @Nullable Supplier<String> diagnostic) {
+    this.value = value;
+    this.diagnostic = diagnostic;
+  }
+
+  /**
+   * Create a resolution which found it's value
+   * @param value Found value
+   */
+  public static <T> Resolution<T> found(T value) {
+    return new Resolution<>(value, null);
+  }
+
+  /**
+   * Create a resolution which missed
+   * @param diagnostic Supplier of the reason of missing, only called when required
+   */
+  public static <T> Resolution<T> miss(Supplier<String> diagnostic) {
+    return new Resolution<>(null, diagnostic);
+  }
+
+  public boolean isFound() {
+    return diagnostic == null;
+  }
+
+  /**
+   * Get the found value
+   * @throws NoSuchElementException Thrown if this resolution missed, carrying it's diagnostic
+   */
+  public T require() throws NoSuchElementException {
+    if (diagnostic != null)
+      throw new NoSuchElementException(diagnostic.get());
+
+    return value;
+  }
+
+  /**
+   * Get the found value or null if this resolution missed
+   */
+  public @Nullable T orNull() {
+    return value;
+  }
+
+  /**
+   * Get the reason of missing, null if the value has been found
+   */
+  public @Nullable String getDiagnostic() {
+    return diagnostic == null ? null : diagnostic.get();
+  }
+
+  /**
+   * Map the found value, while passing misses on as they are
+   * @param mapper Mapper to apply to the found value
+   */
+  @SuppressWarnings("unchecked")
+  public <R> Resolution<R> map(Function<T, R> mapper) {
+    if (diagnostic != null)
+      return (Resolution<R>) this;
+
+    return found(mapper.apply(value));
+  }
+}
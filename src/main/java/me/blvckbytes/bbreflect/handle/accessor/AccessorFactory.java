@@ -0,0 +1,292 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+import me.blvckbytes.bbreflect.handle.transformer.CallLayout;
+import me.blvckbytes.bbreflect.handle.transformer.FArgumentTransformer;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.Map;
+import java.util.Objects;
+
+public final class AccessorFactory {
+
+  // (FArgumentTransformer transformer, Object argument)Object
+  private static final MethodHandle ARGUMENT_TRANSFORMER_APPLY;
+
+  // (Throwable cause)InvocationTargetException
+  private static final MethodHandle INVOCATION_TARGET_EXCEPTION_NEW;
+
+  // (Object value)Object
+  private static final MethodHandle REQUIRE_NON_NULL;
+
+  private static volatile InvocationMode defaultMode = InvocationMode.REFLECTION;
+
+  static {
+    try {
+      ARGUMENT_TRANSFORMER_APPLY = MethodHandles.lookup().findVirtual(
+        FArgumentTransformer.class, "apply", MethodType.methodType(Object.class, Object.class)
+      );
+
+      INVOCATION_TARGET_EXCEPTION_NEW = MethodHandles.lookup().findConstructor(
+        InvocationTargetException.class, MethodType.methodType(void.class, Throwable.class)
+      );
+
+      REQUIRE_NON_NULL = MethodHandles.lookup().findStatic(
+        Objects.class, "requireNonNull", MethodType.methodType(Object.class, Object.class)
+      );
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private AccessorFactory() {}
+
+  /**
+   * Set the invocation mode used by all handles which haven't been
+   * given an explicit mode at the time of their creation
+   * @param mode Default invocation mode
+   */
+  public static void setDefaultMode(InvocationMode mode) {
+    defaultMode = mode;
+  }
+
+  /**
+   * Get the invocation mode used by all handles which haven't been
+   * given an explicit mode at the time of their creation
+   */
+  public static InvocationMode getDefaultMode() {
+    return defaultMode;
+  }
+
+  /**
+   * Create an accessor for an already accessible field
+   * @param field Target field
+   * @param mode Invocation mode, null means default
+   */
+  public static IFieldAccessor createFieldAccessor(Field field, @Nullable InvocationMode mode) {
+    InvocationMode resolvedMode = resolveMode(mode);
+
+    // Final fields are only written through their offset if asked for explicitly, while all other
+    // modes keep the write semantics of reflection, which they relay writes of final fields to
+    if (resolvedMode == InvocationMode.UNSAFE) {
+      try {
+        return UnsafeFieldAccessor.create(field);
+      } catch (UnsupportedOperationException ignored) {}
+    }
+
+    switch (resolvedMode) {
+      case METHOD_HANDLE:
+        try {
+          InvokeFieldAccessor accessor = new InvokeFieldAccessor(field);
+          IFieldAccessor bound = accessor.bind();
+          return bound == null ? accessor : bound;
+        } catch (IllegalAccessException ignored) {}
+        break;
+
+      case GENERATED:
+        IFieldAccessor generated = AccessorGenerator.generateFieldAccessor(field);
+        if (generated != null)
+          return generated;
+        break;
+    }
+
+    return new ReflectFieldAccessor(field);
+  }
+
+  /**
+   * Create an accessor for an already accessible method
+   * @param method Target method
+   * @param mode Invocation mode, null means default
+   */
+  public static IMethodAccessor createMethodAccessor(Method method, @Nullable InvocationMode mode) {
+    return createMethodAccessor(method, mode, null);
+  }
+
+  /**
+   * Create an accessor for an already accessible method
+   * @param method Target method
+   * @param mode Invocation mode, null means default
+   * @param layout Layout to rearrange calls with, null means none
+   */
+  public static IMethodAccessor createMethodAccessor(Method method, @Nullable InvocationMode mode, @Nullable CallLayout layout) {
+    if (layout != null && layout.isEmpty())
+      layout = null;
+
+    IMethodAccessor accessor = null;
+
+    switch (resolveMode(mode)) {
+      case METHOD_HANDLE:
+        // Method handles apply the layout on their own, without re-allocating the arguments
+        try {
+          InvokeMethodAccessor invoker = new InvokeMethodAccessor(method, layout);
+          IMethodAccessor bound = invoker.bind();
+          return bound == null ? invoker : bound;
+        } catch (IllegalAccessException | IllegalArgumentException ignored) {}
+        break;
+
+      case GENERATED:
+        accessor = AccessorGenerator.generateMethodAccessor(method);
+        break;
+    }
+
+    if (accessor == null)
+      accessor = new ReflectMethodAccessor(method);
+
+    return layout == null ? accessor : new LayoutMethodAccessor(accessor, layout);
+  }
+
+  /**
+   * Create an accessor for an already accessible constructor
+   * @param constructor Target constructor
+   * @param mode Invocation mode, null means default
+   */
+  public static IConstructorAccessor createConstructorAccessor(Constructor<?> constructor, @Nullable InvocationMode mode) {
+    return createConstructorAccessor(constructor, mode, null);
+  }
+
+  /**
+   * Create an accessor for an already accessible constructor
+   * @param constructor Target constructor
+   * @param mode Invocation mode, null means default
+   * @param layout Layout to rearrange calls with, null means none
+   */
+  public static IConstructorAccessor createConstructorAccessor(Constructor<?> constructor, @Nullable InvocationMode mode, @Nullable CallLayout layout) {
+    if (layout != null && layout.isEmpty())
+      layout = null;
+
+    IConstructorAccessor accessor = null;
+
+    switch (resolveMode(mode)) {
+      case METHOD_HANDLE:
+        // Method handles apply the layout on their own, without re-allocating the arguments
+        try {
+          InvokeConstructorAccessor invoker = new InvokeConstructorAccessor(constructor, layout);
+          IConstructorAccessor bound = invoker.bind();
+          return bound == null ? invoker : bound;
+        } catch (IllegalAccessException | IllegalArgumentException ignored) {}
+        break;
+
+      case GENERATED:
+        accessor = AccessorGenerator.generateConstructorAccessor(constructor);
+        break;
+    }
+
+    if (accessor == null)
+      accessor = new ReflectConstructorAccessor(constructor);
+
+    return layout == null ? accessor : new LayoutConstructorAccessor(accessor, layout);
+  }
+
+  /**
+   * Create an accessor for a group of already accessible instance fields, which is generated
+   * to access all fields at once, if possible, and relays to an accessor per field otherwise
+   * @param owner Class whose instances are accessed
+   * @param fields Target fields, declared by the owner or it's superclasses
+   * @param mode Invocation mode of the accessors per field, null means default
+   */
+  public static IFieldGroupAccessor createFieldGroupAccessor(Class<?> owner, Field[] fields, @Nullable InvocationMode mode) {
+    IFieldGroupAccessor generated = AccessorGenerator.generateFieldGroupAccessor(fields);
+
+    if (generated != null)
+      return new CheckedFieldGroupAccessor(owner, fields, generated);
+
+    IFieldAccessor[] accessors = new IFieldAccessor[fields.length];
+
+    for (int i = 0; i < fields.length; i++)
+      accessors[i] = createFieldAccessor(fields[i], mode);
+
+    return new CompositeFieldGroupAccessor(fields, accessors);
+  }
+
+  private static InvocationMode resolveMode(@Nullable InvocationMode mode) {
+    return mode == null ? defaultMode : mode;
+  }
+
+  /**
+   * Bakes a call layout into a method handle of generic type, which then takes the
+   * arguments as passed by the caller and rearranges them while being invoked
+   * @param target Handle to adapt
+   * @param leadingParameters Number of leading parameters which are not part of the layout, like a receiver
+   * @param layout Layout to apply
+   * @throws IllegalArgumentException Thrown if the layout does not fit the handle's parameters
+   */
+  static MethodHandle applyLayout(MethodHandle target, int leadingParameters, CallLayout layout) {
+    // Insert from the highest index downwards, as every insertion shifts all subsequent parameters
+    for (Map.Entry<Integer, Object> constant : layout.getConstantArguments().descendingMap().entrySet())
+      target = MethodHandles.insertArguments(target, leadingParameters + constant.getKey(), constant.getValue());
+
+    for (Map.Entry<Integer, FArgumentTransformer> transformer : layout.getArgumentTransformers().entrySet()) {
+      MethodHandle filter = ARGUMENT_TRANSFORMER_APPLY.bindTo(transformer.getValue());
+      target = MethodHandles.filterArguments(target, leadingParameters + transformer.getKey(), filter);
+    }
+
+    return target;
+  }
+
+  /**
+   * Wraps everything a direct method or constructor handle throws into an InvocationTargetException,
+   * just like reflection does, so that callers see the same exceptions in every invocation mode
+   * @param target Direct handle of the method or constructor
+   */
+  static MethodHandle wrapTargetExceptions(MethodHandle target) {
+    MethodType type = target.type();
+
+    MethodHandle handler = MethodHandles.throwException(type.returnType(), InvocationTargetException.class);
+    handler = MethodHandles.filterArguments(handler, 0, INVOCATION_TARGET_EXCEPTION_NEW);
+    handler = MethodHandles.dropArguments(handler, 1, type.parameterList());
+
+    return MethodHandles.catchException(target, Throwable.class, handler);
+  }
+
+  /**
+   * Rejects null receivers before they reach a handle whose exceptions are wrapped, as
+   * reflection throws a plain NullPointerException when invoking on a null receiver
+   * @param target Handle of generic type, taking the receiver as it's first parameter
+   */
+  static MethodHandle requireReceiver(MethodHandle target) {
+    return MethodHandles.filterArguments(target, 0, REQUIRE_NON_NULL);
+  }
+
+  /**
+   * Relays a throwable caught from an exact method handle invocation as an
+   * exception, while errors are rethrown as they are
+   * @param throwable Caught throwable
+   * @return Throwable as an exception, for the caller to throw
+   */
+  static Exception asException(Throwable throwable) {
+    if (throwable instanceof Error)
+      throw (Error) throwable;
+
+    if (throwable instanceof Exception)
+      return (Exception) throwable;
+
+    return new IllegalStateException(throwable);
+  }
+}
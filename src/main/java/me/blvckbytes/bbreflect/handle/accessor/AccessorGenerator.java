@@ -0,0 +1,648 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+import me.blvckbytes.bbreflect.UnsafeAccess;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class AccessorGenerator implements Opcodes {
+
+  private static final String CLASS_NAME_PREFIX = "me/blvckbytes/bbreflect/handle/accessor/GeneratedAccessor$";
+  private static final AtomicInteger classCounter = new AtomicInteger();
+
+  private static final String METHOD_HANDLE_INTERNAL_NAME = Type.getInternalName(MethodHandle.class);
+  private static final String METHOD_HANDLE_DESCRIPTOR = Type.getDescriptor(MethodHandle.class);
+  private static final String INVOCATION_TARGET_EXCEPTION_INTERNAL_NAME = "java/lang/reflect/InvocationTargetException";
+
+  // Highest arity of the fixed-arity overloads on method and constructor accessors
+  static final int MAX_FIXED_ARITY = 4;
+
+  private AccessorGenerator() {}
+
+  /**
+   * Generate an accessor which reads and writes the field through direct
+   * getfield/putfield (or their static counterparts) instructions
+   * @param field Target field
+   * @return Accessor instance, null if the field cannot be linked from generated code
+   */
+  static @Nullable IFieldAccessor generateFieldAccessor(Field field) {
+    // Final fields may only be written from within their declaring class
+    if (Modifier.isFinal(field.getModifiers()) || !Bytecode.isLinkable(field, field.getType()))
+      return null;
+
+    boolean isStatic = Modifier.isStatic(field.getModifiers());
+    String owner = Type.getInternalName(field.getDeclaringClass());
+    String descriptor = Type.getDescriptor(field.getType());
+    Type type = Type.getType(field.getType());
+
+    return instantiate(IFieldAccessor.class, new Class<?>[] { field.getDeclaringClass() }, (cw, className) -> {
+      MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "get", "(Ljava/lang/Object;)Ljava/lang/Object;", null, null);
+      mv.visitCode();
+
+      if (isStatic)
+        mv.visitFieldInsn(GETSTATIC, owner, field.getName(), descriptor);
+      else {
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, owner);
+        mv.visitFieldInsn(GETFIELD, owner, field.getName(), descriptor);
+      }
+
+      Bytecode.box(mv, type);
+      mv.visitInsn(ARETURN);
+      mv.visitMaxs(0, 0);
+      mv.visitEnd();
+
+      mv = cw.visitMethod(ACC_PUBLIC, "set", "(Ljava/lang/Object;Ljava/lang/Object;)V", null, null);
+      mv.visitCode();
+
+      if (!isStatic) {
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, owner);
+      }
+
+      mv.visitVarInsn(ALOAD, 2);
+      Bytecode.unbox(mv, type);
+      mv.visitFieldInsn(isStatic ? PUTSTATIC : PUTFIELD, owner, field.getName(), descriptor);
+      mv.visitInsn(RETURN);
+      mv.visitMaxs(0, 0);
+      mv.visitEnd();
+
+      // Primitive fields also get their unboxed accessor pair, like getInt and setInt
+      if (Bytecode.wrapperOf(type) == null)
+        return;
+
+      String typeName = type.getClassName();
+      String suffix = Character.toUpperCase(typeName.charAt(0)) + typeName.substring(1);
+
+      mv = cw.visitMethod(ACC_PUBLIC, "get" + suffix, "(Ljava/lang/Object;)" + descriptor, null, null);
+      mv.visitCode();
+
+      if (isStatic)
+        mv.visitFieldInsn(GETSTATIC, owner, field.getName(), descriptor);
+      else {
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, owner);
+        mv.visitFieldInsn(GETFIELD, owner, field.getName(), descriptor);
+      }
+
+      mv.visitInsn(type.getOpcode(IRETURN));
+      mv.visitMaxs(0, 0);
+      mv.visitEnd();
+
+      mv = cw.visitMethod(ACC_PUBLIC, "set" + suffix, "(Ljava/lang/Object;" + descriptor + ")V", null, null);
+      mv.visitCode();
+
+      if (!isStatic) {
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, owner);
+      }
+
+      mv.visitVarInsn(type.getOpcode(ILOAD), 2);
+      mv.visitFieldInsn(isStatic ? PUTSTATIC : PUTFIELD, owner, field.getName(), descriptor);
+      mv.visitInsn(RETURN);
+      mv.visitMaxs(0, 0);
+      mv.visitEnd();
+    });
+  }
+
+  /**
+   * Generate an accessor which calls the method through a direct invoke instruction
+   * @param method Target method
+   * @return Accessor instance, null if the method cannot be linked from generated code
+   */
+  static @Nullable IMethodAccessor generateMethodAccessor(Method method) {
+    if (!Bytecode.isLinkable(method, method.getReturnType()))
+      return null;
+
+    Class<?> declaringClass = method.getDeclaringClass();
+    boolean isStatic = Modifier.isStatic(method.getModifiers());
+    boolean isInterface = declaringClass.isInterface();
+    String owner = Type.getInternalName(declaringClass);
+
+    return instantiate(IMethodAccessor.class, new Class<?>[] { declaringClass }, (cw, className) -> {
+      MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "invoke", "(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;", null, null);
+      mv.visitCode();
+
+      checkArgumentCount(mv, 2, method.getParameterCount());
+      writeInvocation(mv, method, owner, isStatic, isInterface, () -> loadArguments(mv, 2, method.getParameterTypes()));
+
+      // Calls of matching arity also get their fixed-arity overload, which takes the arguments as they are
+      int parameterCount = method.getParameterCount();
+      if (parameterCount > MAX_FIXED_ARITY)
+        return;
+
+      MethodVisitor fmv = cw.visitMethod(ACC_PUBLIC, "invoke" + parameterCount, fixedArityDescriptor(parameterCount + 1), null, null);
+      fmv.visitCode();
+      writeInvocation(fmv, method, owner, isStatic, isInterface, () -> loadSpreadArguments(fmv, 2, method.getParameterTypes()));
+    });
+  }
+
+  /**
+   * Writes the remainder of an accessor method which invokes the target method on the
+   * receiver in local variable slot one and returns it's boxed result, null for void methods
+   */
+  private static void writeInvocation(MethodVisitor mv, Method method, String owner, boolean isStatic, boolean isInterface, Runnable argumentLoader) {
+    if (!isStatic) {
+      mv.visitVarInsn(ALOAD, 1);
+      mv.visitTypeInsn(CHECKCAST, owner);
+
+      // A null receiver is rejected as it is, while the invocation's exceptions are wrapped
+      mv.visitInsn(DUP);
+      mv.visitMethodInsn(INVOKESTATIC, "java/util/Objects", "requireNonNull", "(Ljava/lang/Object;)Ljava/lang/Object;", false);
+      mv.visitInsn(POP);
+    }
+
+    argumentLoader.run();
+
+    int opcode = isStatic ? INVOKESTATIC : (isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL);
+    wrapTargetExceptions(mv, () -> mv.visitMethodInsn(opcode, owner, method.getName(), Type.getMethodDescriptor(method), isInterface));
+
+    if (method.getReturnType() == void.class)
+      mv.visitInsn(ACONST_NULL);
+    else
+      Bytecode.box(mv, Type.getType(method.getReturnType()));
+
+    mv.visitInsn(ARETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+
+  /**
+   * Generate an accessor which calls the constructor through a direct new/invokespecial sequence
+   * @param constructor Target constructor
+   * @return Accessor instance, null if the constructor cannot be linked from generated code
+   */
+  static @Nullable IConstructorAccessor generateConstructorAccessor(Constructor<?> constructor) {
+    Class<?> declaringClass = constructor.getDeclaringClass();
+
+    if (Modifier.isAbstract(declaringClass.getModifiers()) || !Bytecode.isLinkable(constructor, declaringClass))
+      return null;
+
+    String owner = Type.getInternalName(declaringClass);
+
+    return instantiate(IConstructorAccessor.class, new Class<?>[] { declaringClass }, (cw, className) -> {
+      MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "newInstance", "([Ljava/lang/Object;)Ljava/lang/Object;", null, null);
+      mv.visitCode();
+
+      checkArgumentCount(mv, 1, constructor.getParameterCount());
+      writeInstantiation(mv, constructor, owner, () -> loadArguments(mv, 1, constructor.getParameterTypes()));
+
+      // Calls of matching arity also get their fixed-arity overload, which takes the arguments as they are
+      int parameterCount = constructor.getParameterCount();
+      if (parameterCount > MAX_FIXED_ARITY)
+        return;
+
+      MethodVisitor fmv = cw.visitMethod(ACC_PUBLIC, "newInstance" + parameterCount, fixedArityDescriptor(parameterCount), null, null);
+      fmv.visitCode();
+      writeInstantiation(fmv, constructor, owner, () -> loadSpreadArguments(fmv, 1, constructor.getParameterTypes()));
+    });
+  }
+
+  /**
+   * Writes the remainder of an accessor method which instantiates
+   * the target constructor's class and returns the new instance
+   */
+  private static void writeInstantiation(MethodVisitor mv, Constructor<?> constructor, String owner, Runnable argumentLoader) {
+    mv.visitTypeInsn(NEW, owner);
+    mv.visitInsn(DUP);
+    argumentLoader.run();
+    wrapTargetExceptions(mv, () -> mv.visitMethodInsn(INVOKESPECIAL, owner, "<init>", Type.getConstructorDescriptor(constructor), false));
+    mv.visitInsn(ARETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+
+  /**
+   * Generate an accessor which reads and writes a whole group of instance fields at once,
+   * either through direct getfield/putfield instructions or - if the field cannot be linked
+   * against or is final - through sun.misc.Unsafe at the field's offset
+   * @param fields Target fields, all of which are declared by the target's class or it's superclasses
+   * @return Accessor instance, null if not all fields could be accessed from generated code
+   */
+  static @Nullable IFieldGroupAccessor generateFieldGroupAccessor(Field[] fields) {
+    List<Class<?>> linkedClasses = new ArrayList<>();
+    long[] offsets = new long[fields.length];
+    boolean[] readDirectly = new boolean[fields.length];
+    boolean[] writeDirectly = new boolean[fields.length];
+    boolean requiresUnsafe = false;
+
+    for (int i = 0; i < fields.length; i++) {
+      Field field = fields[i];
+
+      readDirectly[i] = Bytecode.isLinkable(field, field.getType());
+      writeDirectly[i] = readDirectly[i] && !Modifier.isFinal(field.getModifiers());
+
+      if (readDirectly[i])
+        linkedClasses.add(field.getDeclaringClass());
+
+      if (writeDirectly[i])
+        continue;
+
+      try {
+        offsets[i] = UnsafeAccess.objectFieldOffset(field);
+        requiresUnsafe = true;
+      } catch (UnsupportedOperationException e) {
+        return null;
+      }
+    }
+
+    boolean hasUnsafeField = requiresUnsafe;
+
+    return instantiate(IFieldGroupAccessor.class, linkedClasses.toArray(new Class<?>[0]), (cw, className) -> {
+      if (hasUnsafeField)
+        Bytecode.writeUnsafeField(cw, className);
+
+      // (Object target, long[] primitives, Object[] objects)
+      MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "read", "(Ljava/lang/Object;[J[Ljava/lang/Object;)V", null, null);
+      mv.visitCode();
+
+      for (int i = 0; i < fields.length; i++) {
+        Field field = fields[i];
+        Type type = Type.getType(field.getType());
+        boolean isPrimitive = Bytecode.wrapperOf(type) != null;
+
+        mv.visitVarInsn(ALOAD, isPrimitive ? 2 : 3);
+        mv.visitLdcInsn(i);
+
+        if (readDirectly[i]) {
+          String owner = Type.getInternalName(field.getDeclaringClass());
+          mv.visitVarInsn(ALOAD, 1);
+          mv.visitTypeInsn(CHECKCAST, owner);
+          mv.visitFieldInsn(GETFIELD, owner, field.getName(), type.getDescriptor());
+        }
+
+        else {
+          mv.visitFieldInsn(GETSTATIC, className, Bytecode.UNSAFE_FIELD, Bytecode.UNSAFE_DESCRIPTOR);
+          mv.visitVarInsn(ALOAD, 1);
+          mv.visitLdcInsn(offsets[i]);
+          Type accessType = isPrimitive ? type : Type.getType(Object.class);
+          mv.visitMethodInsn(INVOKEVIRTUAL, Bytecode.UNSAFE_INTERNAL_NAME, "get" + Bytecode.unsafeSuffix(field), "(Ljava/lang/Object;J)" + accessType.getDescriptor(), false);
+        }
+
+        if (isPrimitive) {
+          encodePrimitive(mv, type);
+          mv.visitInsn(LASTORE);
+        }
+
+        else
+          mv.visitInsn(AASTORE);
+      }
+
+      mv.visitInsn(RETURN);
+      mv.visitMaxs(0, 0);
+      mv.visitEnd();
+
+      // (Object target, long[] primitives, Object[] objects)
+      mv = cw.visitMethod(ACC_PUBLIC, "write", "(Ljava/lang/Object;[J[Ljava/lang/Object;)V", null, null);
+      mv.visitCode();
+
+      for (int i = 0; i < fields.length; i++) {
+        Field field = fields[i];
+        Type type = Type.getType(field.getType());
+        boolean isPrimitive = Bytecode.wrapperOf(type) != null;
+        String owner = Type.getInternalName(field.getDeclaringClass());
+
+        if (writeDirectly[i]) {
+          mv.visitVarInsn(ALOAD, 1);
+          mv.visitTypeInsn(CHECKCAST, owner);
+        }
+
+        else {
+          mv.visitFieldInsn(GETSTATIC, className, Bytecode.UNSAFE_FIELD, Bytecode.UNSAFE_DESCRIPTOR);
+          mv.visitVarInsn(ALOAD, 1);
+          mv.visitLdcInsn(offsets[i]);
+        }
+
+        mv.visitVarInsn(ALOAD, isPrimitive ? 2 : 3);
+        mv.visitLdcInsn(i);
+
+        if (isPrimitive) {
+          mv.visitInsn(LALOAD);
+          decodePrimitive(mv, type);
+        }
+
+        else {
+          mv.visitInsn(AALOAD);
+
+          // Unsafe writes objects as they are, whose types have been checked by the caller
+          if (writeDirectly[i])
+            Bytecode.unbox(mv, type);
+        }
+
+        if (writeDirectly[i])
+          mv.visitFieldInsn(PUTFIELD, owner, field.getName(), type.getDescriptor());
+
+        else {
+          Type accessType = isPrimitive ? type : Type.getType(Object.class);
+          mv.visitMethodInsn(INVOKEVIRTUAL, Bytecode.UNSAFE_INTERNAL_NAME, "put" + Bytecode.unsafeSuffix(field), "(Ljava/lang/Object;J" + accessType.getDescriptor() + ")V", false);
+        }
+      }
+
+      mv.visitInsn(RETURN);
+      mv.visitMaxs(0, 0);
+      mv.visitEnd();
+    });
+  }
+
+  /**
+   * Generate an accessor whose methods invoke method handles which are held in static final fields of
+   * the generated class, as the JIT only trusts those to be constants and inlines through the handles,
+   * whereas handles in final fields of an ordinary accessor instance are invoked as opaque objects
+   * @param accessorType Accessor interface to implement
+   * @param handles Handles by the name of the accessor method they implement, where the type
+   *                of each handle has to equal the descriptor of it's accessor method
+   * @return Accessor instance, null if the class could not be defined
+   */
+  static <T> @Nullable T bindHandles(Class<T> accessorType, Map<String, MethodHandle> handles) {
+    MethodHandle[] handleArray = handles.values().toArray(new MethodHandle[0]);
+
+    return instantiate(accessorType, new Class<?>[0], handleArray, (cw, className) -> {
+      for (int i = 0; i < handleArray.length; i++)
+        cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, "handle" + i, METHOD_HANDLE_DESCRIPTOR, null, null).visitEnd();
+
+      // The handles are taken from the class data of the defining loader
+      MethodVisitor mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+      mv.visitCode();
+      mv.visitLdcInsn(Type.getObjectType(className));
+      mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Class", "getClassLoader", "()Ljava/lang/ClassLoader;", false);
+      mv.visitTypeInsn(CHECKCAST, Type.getInternalName(GeneratedClassLoader.class));
+      mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(GeneratedClassLoader.class), "getClassData", "()Ljava/lang/Object;", false);
+      mv.visitTypeInsn(CHECKCAST, "[" + METHOD_HANDLE_DESCRIPTOR);
+      mv.visitVarInsn(ASTORE, 0);
+
+      for (int i = 0; i < handleArray.length; i++) {
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitLdcInsn(i);
+        mv.visitInsn(AALOAD);
+        mv.visitFieldInsn(PUTSTATIC, className, "handle" + i, METHOD_HANDLE_DESCRIPTOR);
+      }
+
+      mv.visitInsn(RETURN);
+      mv.visitMaxs(0, 0);
+      mv.visitEnd();
+
+      int handleIndex = 0;
+      for (Map.Entry<String, MethodHandle> entry : handles.entrySet()) {
+        String descriptor = entry.getValue().type().toMethodDescriptorString();
+
+        mv = cw.visitMethod(ACC_PUBLIC, entry.getKey(), descriptor, null, null);
+        mv.visitCode();
+        mv.visitFieldInsn(GETSTATIC, className, "handle" + handleIndex++, METHOD_HANDLE_DESCRIPTOR);
+
+        int local = 1;
+        for (Type argumentType : Type.getArgumentTypes(descriptor)) {
+          mv.visitVarInsn(argumentType.getOpcode(ILOAD), local);
+          local += argumentType.getSize();
+        }
+
+        mv.visitMethodInsn(INVOKEVIRTUAL, METHOD_HANDLE_INTERNAL_NAME, "invokeExact", descriptor, false);
+        mv.visitInsn(Type.getReturnType(descriptor).getOpcode(IRETURN));
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+      }
+    });
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  @FunctionalInterface
+  private interface FBodyWriter {
+    void write(ClassWriter cw, String className);
+  }
+
+  /**
+   * Writes, defines and instantiates an accessor class
+   * @param accessorType Accessor interface to implement
+   * @param linkedClasses Classes the generated code links against directly
+   * @param bodyWriter Writer of all accessor methods
+   * @return Accessor instance, null if the class could not be defined
+   */
+  private static <T> @Nullable T instantiate(Class<T> accessorType, Class<?>[] linkedClasses, FBodyWriter bodyWriter) {
+    return instantiate(accessorType, linkedClasses, null, bodyWriter);
+  }
+
+  /**
+   * Writes, defines and instantiates an accessor class
+   * @param accessorType Accessor interface to implement
+   * @param linkedClasses Classes the generated code links against directly
+   * @param classData Data the class reads from it's loader while being initialized, null if not needed
+   * @param bodyWriter Writer of all accessor methods
+   * @return Accessor instance, null if the class could not be defined
+   */
+  private static <T> @Nullable T instantiate(Class<T> accessorType, Class<?>[] linkedClasses, @Nullable Object classData, FBodyWriter bodyWriter) {
+    String className = CLASS_NAME_PREFIX + classCounter.incrementAndGet();
+
+    ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+    cw.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, className, null, "java/lang/Object", new String[] { Type.getInternalName(accessorType) });
+
+    MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+    mv.visitCode();
+    mv.visitVarInsn(ALOAD, 0);
+    mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+    mv.visitInsn(RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+
+    bodyWriter.write(cw, className);
+    cw.visitEnd();
+
+    try {
+      GeneratedClassLoader loader = new GeneratedClassLoader(accessorType.getClassLoader(), classData);
+
+      // The generated code has to link against the very same classes
+      for (Class<?> linkedClass : linkedClasses) {
+        if (Class.forName(linkedClass.getName(), false, loader) != linkedClass)
+          return null;
+      }
+
+      Class<?> generated = loader.define(className.replace('/', '.'), cw.toByteArray());
+      return accessorType.cast(generated.getConstructor().newInstance());
+    } catch (Throwable t) {
+      return null;
+    }
+  }
+
+  /**
+   * Writes an invocation whose throwables are wrapped into an InvocationTargetException,
+   * just like reflection does, leaving the invocation's result on the stack
+   * @param invocation Writer of the invoke instruction
+   */
+  private static void wrapTargetExceptions(MethodVisitor mv, Runnable invocation) {
+    Label start = new Label(), end = new Label(), handler = new Label(), done = new Label();
+
+    mv.visitTryCatchBlock(start, end, handler, "java/lang/Throwable");
+    mv.visitLabel(start);
+    invocation.run();
+    mv.visitLabel(end);
+    mv.visitJumpInsn(GOTO, done);
+
+    // (Throwable) -> (InvocationTargetException, InvocationTargetException, Throwable)
+    mv.visitLabel(handler);
+    mv.visitTypeInsn(NEW, INVOCATION_TARGET_EXCEPTION_INTERNAL_NAME);
+    mv.visitInsn(DUP_X1);
+    mv.visitInsn(SWAP);
+    mv.visitMethodInsn(INVOKESPECIAL, INVOCATION_TARGET_EXCEPTION_INTERNAL_NAME, "<init>", "(Ljava/lang/Throwable;)V", false);
+    mv.visitInsn(ATHROW);
+
+    mv.visitLabel(done);
+  }
+
+  /**
+   * Throws an IllegalArgumentException if the argument array on the specified
+   * local variable slot is not of the expected length, where empty parameter
+   * lists accept any array, just like reflection does with null
+   */
+  private static void checkArgumentCount(MethodVisitor mv, int arrayLocal, int expected) {
+    if (expected == 0)
+      return;
+
+    Label valid = new Label();
+
+    mv.visitVarInsn(ALOAD, arrayLocal);
+    mv.visitInsn(ARRAYLENGTH);
+    mv.visitLdcInsn(expected);
+    mv.visitJumpInsn(IF_ICMPEQ, valid);
+    mv.visitTypeInsn(NEW, "java/lang/IllegalArgumentException");
+    mv.visitInsn(DUP);
+    mv.visitLdcInsn("wrong number of arguments");
+    mv.visitMethodInsn(INVOKESPECIAL, "java/lang/IllegalArgumentException", "<init>", "(Ljava/lang/String;)V", false);
+    mv.visitInsn(ATHROW);
+    mv.visitLabel(valid);
+  }
+
+  /**
+   * Loads all elements of the argument array on the specified local variable
+   * slot onto the stack, converted to their corresponding parameter type
+   */
+  private static void loadArguments(MethodVisitor mv, int arrayLocal, Class<?>[] parameterTypes) {
+    for (int i = 0; i < parameterTypes.length; i++) {
+      mv.visitVarInsn(ALOAD, arrayLocal);
+      mv.visitLdcInsn(i);
+      mv.visitInsn(AALOAD);
+      Bytecode.unbox(mv, Type.getType(parameterTypes[i]));
+    }
+  }
+
+  /**
+   * Loads all arguments, starting at the specified local variable slot, onto
+   * the stack, converted to their corresponding parameter type
+   */
+  private static void loadSpreadArguments(MethodVisitor mv, int firstLocal, Class<?>[] parameterTypes) {
+    for (int i = 0; i < parameterTypes.length; i++) {
+      mv.visitVarInsn(ALOAD, firstLocal + i);
+      Bytecode.unbox(mv, Type.getType(parameterTypes[i]));
+    }
+  }
+
+  /**
+   * Builds the descriptor of a fixed-arity overload, which takes and returns objects only
+   * @param parameterCount Number of object parameters
+   */
+  private static String fixedArityDescriptor(int parameterCount) {
+    StringBuilder descriptor = new StringBuilder("(");
+
+    for (int i = 0; i < parameterCount; i++)
+      descriptor.append("Ljava/lang/Object;");
+
+    return descriptor.append(")Ljava/lang/Object;").toString();
+  }
+
+  /**
+   * Converts the primitive on top of the stack into it's long encoding within a field group's
+   * buffer, where floating point numbers are stored as their raw bits, see {@link IFieldGroupAccessor}
+   */
+  private static void encodePrimitive(MethodVisitor mv, Type type) {
+    switch (type.getSort()) {
+      case Type.LONG:
+        return;
+
+      case Type.FLOAT:
+        mv.visitMethodInsn(INVOKESTATIC, "java/lang/Float", "floatToRawIntBits", "(F)I", false);
+        mv.visitInsn(I2L);
+        return;
+
+      case Type.DOUBLE:
+        mv.visitMethodInsn(INVOKESTATIC, "java/lang/Double", "doubleToRawLongBits", "(D)J", false);
+        return;
+
+      default:
+        mv.visitInsn(I2L);
+    }
+  }
+
+  /**
+   * Converts the long encoding on top of the stack back into it's primitive, see {@link #encodePrimitive}
+   */
+  private static void decodePrimitive(MethodVisitor mv, Type type) {
+    switch (type.getSort()) {
+      case Type.LONG:
+        return;
+
+      case Type.DOUBLE:
+        mv.visitMethodInsn(INVOKESTATIC, "java/lang/Double", "longBitsToDouble", "(J)D", false);
+        return;
+
+      case Type.FLOAT:
+        mv.visitInsn(L2I);
+        mv.visitMethodInsn(INVOKESTATIC, "java/lang/Float", "intBitsToFloat", "(I)F", false);
+        return;
+
+      case Type.BYTE:
+        mv.visitInsn(L2I);
+        mv.visitInsn(I2B);
+        return;
+
+      case Type.SHORT:
+        mv.visitInsn(L2I);
+        mv.visitInsn(I2S);
+        return;
+
+      case Type.CHAR:
+        mv.visitInsn(L2I);
+        mv.visitInsn(I2C);
+        return;
+
+      default:
+        mv.visitInsn(L2I);
+    }
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+import me.blvckbytes.bbreflect.UnsafeAccess;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+
+/**
+ * Conversions shared by all generated classes
+ */
+public final class Bytecode implements Opcodes {
+
+  public static final String UNSAFE_INTERNAL_NAME = "sun/misc/Unsafe";
+  public static final String UNSAFE_DESCRIPTOR = "L" + UNSAFE_INTERNAL_NAME + ";";
+
+  // Name of the static field which holds the Unsafe instance within generated classes
+  public static final String UNSAFE_FIELD = "UNSAFE";
+
+  private Bytecode() {}
+
+  /**
+   * Declares the static field which holds the Unsafe instance and initializes it
+   * within the static initializer, which thereby cannot be declared elsewhere
+   * @param cw Writer of the generated class
+   * @param className Internal name of the generated class
+   */
+  public static void writeUnsafeField(ClassWriter cw, String className) {
+    cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, UNSAFE_FIELD, UNSAFE_DESCRIPTOR, null, null).visitEnd();
+
+    MethodVisitor mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+    mv.visitCode();
+    mv.visitMethodInsn(INVOKESTATIC, Type.getInternalName(UnsafeAccess.class), "getInstance", "()Ljava/lang/Object;", false);
+    mv.visitTypeInsn(CHECKCAST, UNSAFE_INTERNAL_NAME);
+    mv.visitFieldInsn(PUTSTATIC, className, UNSAFE_FIELD, UNSAFE_DESCRIPTOR);
+    mv.visitInsn(RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+
+  /**
+   * Get the suffix of the Unsafe accessor methods, like getIntVolatile, for a field
+   */
+  public static String unsafeSuffix(Field field) {
+    Class<?> type = field.getType();
+    String name = type.isPrimitive() ? type.getName() : "object";
+    name = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    return Modifier.isVolatile(field.getModifiers()) ? name + "Volatile" : name;
+  }
+
+  /**
+   * Checks whether a member can be linked against from outside of it's declaring
+   * class' package and loader, which requires the member, it's declaring class
+   * and all types used in it's signature to be public
+   * @param member Target member
+   * @param type Field-, return- or declaring type of the member
+   */
+  public static boolean isLinkable(Member member, Class<?> type) {
+    if (!Modifier.isPublic(member.getModifiers()) || !isPublicType(member.getDeclaringClass()) || !isPublicType(type))
+      return false;
+
+    if (member instanceof Executable) {
+      for (Class<?> parameterType : ((Executable) member).getParameterTypes()) {
+        if (!isPublicType(parameterType))
+          return false;
+      }
+    }
+
+    return true;
+  }
+
+  public static boolean isPublicType(Class<?> type) {
+    while (type.isArray())
+      type = type.getComponentType();
+
+    if (type.isPrimitive())
+      return true;
+
+    for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+      if (!Modifier.isPublic(c.getModifiers()))
+        return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Converts the value on top of the stack from the specified type into an object
+   */
+  public static void box(MethodVisitor mv, Type type) {
+    String wrapper = wrapperOf(type);
+
+    if (wrapper == null)
+      return;
+
+    mv.visitMethodInsn(INVOKESTATIC, wrapper, "valueOf", "(" + type.getDescriptor() + ")L" + wrapper + ";", false);
+  }
+
+  /**
+   * Converts the object on top of the stack into the specified type
+   */
+  public static void unbox(MethodVisitor mv, Type type) {
+    String wrapper = wrapperOf(type);
+
+    if (wrapper == null) {
+      if (!type.getDescriptor().equals("Ljava/lang/Object;"))
+        mv.visitTypeInsn(CHECKCAST, type.getInternalName());
+      return;
+    }
+
+    mv.visitTypeInsn(CHECKCAST, wrapper);
+    mv.visitMethodInsn(INVOKEVIRTUAL, wrapper, type.getClassName() + "Value", "()" + type.getDescriptor(), false);
+  }
+
+  /**
+   * Get the internal name of the wrapper for a primitive type
+   * @return Wrapper name, null if the type is not primitive
+   */
+  public static @Nullable String wrapperOf(Type type) {
+    switch (type.getSort()) {
+      case Type.BOOLEAN: return "java/lang/Boolean";
+      case Type.BYTE: return "java/lang/Byte";
+      case Type.CHAR: return "java/lang/Character";
+      case Type.SHORT: return "java/lang/Short";
+      case Type.INT: return "java/lang/Integer";
+      case Type.LONG: return "java/lang/Long";
+      case Type.FLOAT: return "java/lang/Float";
+      case Type.DOUBLE: return "java/lang/Double";
+      default: return null;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+import java.lang.reflect.Field;
+
+/**
+ * Checks the target as well as all written objects once, before relaying to a generated accessor,
+ * as the latter writes through offsets, which would corrupt memory when being handed foreign types
+ */
+class CheckedFieldGroupAccessor implements IFieldGroupAccessor {
+
+  private final Class<?> owner;
+  private final Class<?>[] types;
+  private final IFieldGroupAccessor delegate;
+
+  CheckedFieldGroupAccessor(Class<?> owner, Field[] fields, IFieldGroupAccessor delegate) {
+    this.owner = owner;
+    this.delegate = delegate;
+    this.types = new Class<?>[fields.length];
+
+    for (int i = 0; i < fields.length; i++)
+      this.types[i] = fields[i].getType();
+  }
+
+  @Override
+  public void read(Object target, long[] primitives, Object[] objects) throws Exception {
+    checkTarget(target);
+    delegate.read(target, primitives, objects);
+  }
+
+  @Override
+  public void write(Object target, long[] primitives, Object[] objects) throws Exception {
+    checkTarget(target);
+
+    for (int i = 0; i < types.length; i++) {
+      Class<?> type = types[i];
+      Object value = objects[i];
+
+      if (!type.isPrimitive() && value != null && !type.isInstance(value))
+        throw new IllegalArgumentException("Cannot write a value of " + value.getClass() + " into a field of " + type);
+    }
+
+    delegate.write(target, primitives, objects);
+  }
+
+  private void checkTarget(Object target) {
+    if (target == null)
+      throw new NullPointerException("Cannot access a field group on null");
+
+    if (!owner.isInstance(target))
+      throw new IllegalArgumentException("Cannot access a field group of " + owner + " on an instance of " + target.getClass());
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+import java.lang.reflect.Field;
+
+/**
+ * Accesses a field group through an accessor per field, which is used whenever
+ * the group could not be generated, as it's fields are not accessible otherwise
+ */
+class CompositeFieldGroupAccessor implements IFieldGroupAccessor {
+
+  private final Class<?>[] types;
+  private final IFieldAccessor[] accessors;
+
+  CompositeFieldGroupAccessor(Field[] fields, IFieldAccessor[] accessors) {
+    this.accessors = accessors;
+    this.types = new Class<?>[fields.length];
+
+    for (int i = 0; i < fields.length; i++)
+      this.types[i] = fields[i].getType();
+  }
+
+  @Override
+  public void read(Object target, long[] primitives, Object[] objects) throws Exception {
+    for (int i = 0; i < accessors.length; i++) {
+      Class<?> type = types[i];
+      IFieldAccessor accessor = accessors[i];
+
+      if (!type.isPrimitive())
+        objects[i] = accessor.get(target);
+      else if (type == int.class)
+        primitives[i] = accessor.getInt(target);
+      else if (type == long.class)
+        primitives[i] = accessor.getLong(target);
+      else if (type == boolean.class)
+        primitives[i] = accessor.getBoolean(target) ? 1 : 0;
+      else if (type == byte.class)
+        primitives[i] = accessor.getByte(target);
+      else if (type == short.class)
+        primitives[i] = accessor.getShort(target);
+      else if (type == char.class)
+        primitives[i] = accessor.getChar(target);
+      else if (type == float.class)
+        primitives[i] = Float.floatToRawIntBits(accessor.getFloat(target));
+      else
+        primitives[i] = Double.doubleToRawLongBits(accessor.getDouble(target));
+    }
+  }
+
+  @Override
+  public void write(Object target, long[] primitives, Object[] objects) throws Exception {
+    for (int i = 0; i < accessors.length; i++) {
+      Class<?> type = types[i];
+      IFieldAccessor accessor = accessors[i];
+
+      if (!type.isPrimitive())
+        accessor.set(target, objects[i]);
+      else if (type == int.class)
+        accessor.setInt(target, (int) primitives[i]);
+      else if (type == long.class)
+        accessor.setLong(target, primitives[i]);
+      else if (type == boolean.class)
+        accessor.setBoolean(target, primitives[i] != 0);
+      else if (type == byte.class)
+        accessor.setByte(target, (byte) primitives[i]);
+      else if (type == short.class)
+        accessor.setShort(target, (short) primitives[i]);
+      else if (type == char.class)
+        accessor.setChar(target, (char) primitives[i]);
+      else if (type == float.class)
+        accessor.setFloat(target, Float.intBitsToFloat((int) primitives[i]));
+      else
+        accessor.setDouble(target, Double.longBitsToDouble(primitives[i]));
+    }
+  }
+}
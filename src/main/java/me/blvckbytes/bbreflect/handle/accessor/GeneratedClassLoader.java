@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+import org.jetbrains.annotations.Nullable;
+
+public class GeneratedClassLoader extends ClassLoader {
+
+  private final @Nullable Object classData;
+
+  /**
+   * Create a new loader which hosts exactly one generated class, so that it
+   * can be unloaded as soon as it's owning handle is no longer referenced
+   * @param parent Loader to resolve all referenced types through
+   */
+  public GeneratedClassLoader(ClassLoader parent) {
+    this(parent, null);
+  }
+
+  /**
+   * Create a new loader which hosts exactly one generated class, which
+   * reads the passed data while being initialized
+   * @param parent Loader to resolve all referenced types through
+   * @param classData Data to hand to the generated class
+   */
+  public GeneratedClassLoader(ClassLoader parent, @Nullable Object classData) {
+    super(parent);
+    this.classData = classData;
+  }
+
+  /**
+   * Get the data handed to the generated class, which it reads while being initialized
+   */
+  public @Nullable Object getClassData() {
+    return classData;
+  }
+
+  /**
+   * Define the generated class from it's bytecode
+   * @param name Binary name of the class
+   * @param bytecode Class file contents
+   */
+  public Class<?> define(String name, byte[] bytecode) {
+    return defineClass(name, bytecode, 0, bytecode.length);
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+public interface IConstructorAccessor {
+
+  /**
+   * Create a new instance by invoking the constructor
+   * @param args Args to pass when calling
+   * @return Instance of the constructor's declaring class
+   * @throws java.lang.reflect.InvocationTargetException Thrown if the constructor itself threw, in every invocation mode
+   */
+  Object newInstance(Object[] args) throws Exception;
+
+  //=========================================================================//
+  //                          Fixed-Arity Overloads                          //
+  //=========================================================================//
+
+  // These overloads are relayed to the generic newInstance by default, while accessors
+  // which are capable of calling without an argument array override them
+
+  default Object newInstance0() throws Exception {
+    return newInstance(new Object[0]);
+  }
+
+  default Object newInstance1(Object a) throws Exception {
+    return newInstance(new Object[] { a });
+  }
+
+  default Object newInstance2(Object a, Object b) throws Exception {
+    return newInstance(new Object[] { a, b });
+  }
+
+  default Object newInstance3(Object a, Object b, Object c) throws Exception {
+    return newInstance(new Object[] { a, b, c });
+  }
+
+  default Object newInstance4(Object a, Object b, Object c, Object d) throws Exception {
+    return newInstance(new Object[] { a, b, c, d });
+  }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+import me.blvckbytes.bbreflect.Primitives;
+import org.jetbrains.annotations.Nullable;
+
+public interface IFieldAccessor {
+
+  /**
+   * Get the field's value from an object instance
+   * @param target Target object to read from, ignored for static fields
+   * @return Field value
+   */
+  @Nullable Object get(@Nullable Object target) throws Exception;
+
+  /**
+   * Set the field's value on an object instance
+   * @param target Target object to modify, ignored for static fields
+   * @param value Field value to set
+   */
+  void set(@Nullable Object target, @Nullable Object value) throws Exception;
+
+  /**
+   * Get the field's value as a boolean without boxing, where implementations which
+   * cannot read it unboxed fall back to unboxing the result of {@link #get}
+   * @param target Target object to read from, ignored for static fields
+   */
+  default boolean getBoolean(@Nullable Object target) throws Exception {
+    return Primitives.unboxBoolean(get(target));
+  }
+
+  /**
+   * Set the field's value from a boolean without boxing, where implementations which
+   * cannot write it unboxed fall back to boxing the value for {@link #set}
+   * @param target Target object to modify, ignored for static fields
+   * @param value Field value to set
+   */
+  default void setBoolean(@Nullable Object target, boolean value) throws Exception {
+    set(target, value);
+  }
+
+  /**
+   * Get the field's value as a byte without boxing, where implementations which
+   * cannot read it unboxed fall back to unboxing the result of {@link #get}
+   * @param target Target object to read from, ignored for static fields
+   */
+  default byte getByte(@Nullable Object target) throws Exception {
+    return Primitives.unboxByte(get(target));
+  }
+
+  /**
+   * Set the field's value from a byte without boxing, where implementations which
+   * cannot write it unboxed fall back to boxing the value for {@link #set}
+   * @param target Target object to modify, ignored for static fields
+   * @param value Field value to set
+   */
+  default void setByte(@Nullable Object target, byte value) throws Exception {
+    set(target, value);
+  }
+
+  /**
+   * Get the field's value as a char without boxing, where implementations which
+   * cannot read it unboxed fall back to unboxing the result of {@link #get}
+   * @param target Target object to read from, ignored for static fields
+   */
+  default char getChar(@Nullable Object target) throws Exception {
+    return Primitives.unboxChar(get(target));
+  }
+
+  /**
+   * Set the field's value from a char without boxing, where implementations which
+   * cannot write it unboxed fall back to boxing the value for {@link #set}
+   * @param target Target object to modify, ignored for static fields
+   * @param value Field value to set
+   */
+  default void setChar(@Nullable Object target, char value) throws Exception {
+    set(target, value);
+  }
+
+  /**
+   * Get the field's value as a short without boxing, where implementations which
+   * cannot read it unboxed fall back to unboxing the result of {@link #get}
+   * @param target Target object to read from, ignored for static fields
+   */
+  default short getShort(@Nullable Object target) throws Exception {
+    return Primitives.unboxShort(get(target));
+  }
+
+  /**
+   * Set the field's value from a short without boxing, where implementations which
+   * cannot write it unboxed fall back to boxing the value for {@link #set}
+   * @param target Target object to modify, ignored for static fields
+   * @param value Field value to set
+   */
+  default void setShort(@Nullable Object target, short value) throws Exception {
+    set(target, value);
+  }
+
+  /**
+   * Get the field's value as a int without boxing, where implementations which
+   * cannot read it unboxed fall back to unboxing the result of {@link #get}
+   * @param target Target object to read from, ignored for static fields
+   */
+  default int getInt(@Nullable Object target) throws Exception {
+    return Primitives.unboxInt(get(target));
+  }
+
+  /**
+   * Set the field's value from a int without boxing, where implementations which
+   * cannot write it unboxed fall back to boxing the value for {@link #set}
+   * @param target Target object to modify, ignored for static fields
+   * @param value Field value to set
+   */
+  default void setInt(@Nullable Object target, int value) throws Exception {
+    set(target, value);
+  }
+
+  /**
+   * Get the field's value as a long without boxing, where implementations which
+   * cannot read it unboxed fall back to unboxing the result of {@link #get}
+   * @param target Target object to read from, ignored for static fields
+   */
+  default long getLong(@Nullable Object target) throws Exception {
+    return Primitives.unboxLong(get(target));
+  }
+
+  /**
+   * Set the field's value from a long without boxing, where implementations which
+   * cannot write it unboxed fall back to boxing the value for {@link #set}
+   * @param target Target object to modify, ignored for static fields
+   * @param value Field value to set
+   */
+  default void setLong(@Nullable Object target, long value) throws Exception {
+    set(target, value);
+  }
+
+  /**
+   * Get the field's value as a float without boxing, where implementations which
+   * cannot read it unboxed fall back to unboxing the result of {@link #get}
+   * @param target Target object to read from, ignored for static fields
+   */
+  default float getFloat(@Nullable Object target) throws Exception {
+    return Primitives.unboxFloat(get(target));
+  }
+
+  /**
+   * Set the field's value from a float without boxing, where implementations which
+   * cannot write it unboxed fall back to boxing the value for {@link #set}
+   * @param target Target object to modify, ignored for static fields
+   * @param value Field value to set
+   */
+  default void setFloat(@Nullable Object target, float value) throws Exception {
+    set(target, value);
+  }
+
+  /**
+   * Get the field's value as a double without boxing, where implementations which
+   * cannot read it unboxed fall back to unboxing the result of {@link #get}
+   * @param target Target object to read from, ignored for static fields
+   */
+  default double getDouble(@Nullable Object target) throws Exception {
+    return Primitives.unboxDouble(get(target));
+  }
+
+  /**
+   * Set the field's value from a double without boxing, where implementations which
+   * cannot write it unboxed fall back to boxing the value for {@link #set}
+   * @param target Target object to modify, ignored for static fields
+   * @param value Field value to set
+   */
+  default void setDouble(@Nullable Object target, double value) throws Exception {
+    set(target, value);
+  }
+
+}
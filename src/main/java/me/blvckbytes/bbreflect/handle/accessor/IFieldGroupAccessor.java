@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+/**
+ * Reads and writes a group of instance fields at once, from and into buffers. Primitive fields are
+ * kept in a long buffer: integral types and chars are widened, booleans are stored as one or zero
+ * and floating point numbers as their raw bits. Other fields are kept in an object buffer. Both
+ * buffers are indexed by the field's position within the group.
+ */
+public interface IFieldGroupAccessor {
+
+  /**
+   * Read all fields of the group from an object instance into the buffers
+   * @param target Target object to read from
+   * @param primitives Buffer of primitive fields
+   * @param objects Buffer of all other fields
+   */
+  void read(Object target, long[] primitives, Object[] objects) throws Exception;
+
+  /**
+   * Write all fields of the group from the buffers into an object instance
+   * @param target Target object to modify
+   * @param primitives Buffer of primitive fields
+   * @param objects Buffer of all other fields
+   */
+  void write(Object target, long[] primitives, Object[] objects) throws Exception;
+
+}
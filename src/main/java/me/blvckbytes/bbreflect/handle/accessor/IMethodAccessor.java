@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+import org.jetbrains.annotations.Nullable;
+
+public interface IMethodAccessor {
+
+  /**
+   * Invoke the method on an object instance
+   * @param target Target object to invoke on, ignored for static methods
+   * @param args Arguments to pass when invoking the method
+   * @return Method return value, null for void methods
+   * @throws java.lang.reflect.InvocationTargetException Thrown if the method itself threw, in every invocation mode
+   */
+  @Nullable Object invoke(@Nullable Object target, Object[] args) throws Exception;
+
+  //=========================================================================//
+  //                          Fixed-Arity Overloads                          //
+  //=========================================================================//
+
+  // These overloads are relayed to the generic invoke by default, while accessors
+  // which are capable of calling without an argument array override them
+
+  default @Nullable Object invoke0(@Nullable Object target) throws Exception {
+    return invoke(target, new Object[0]);
+  }
+
+  default @Nullable Object invoke1(@Nullable Object target, Object a) throws Exception {
+    return invoke(target, new Object[] { a });
+  }
+
+  default @Nullable Object invoke2(@Nullable Object target, Object a, Object b) throws Exception {
+    return invoke(target, new Object[] { a, b });
+  }
+
+  default @Nullable Object invoke3(@Nullable Object target, Object a, Object b, Object c) throws Exception {
+    return invoke(target, new Object[] { a, b, c });
+  }
+
+  default @Nullable Object invoke4(@Nullable Object target, Object a, Object b, Object c, Object d) throws Exception {
+    return invoke(target, new Object[] { a, b, c, d });
+  }
+
+}
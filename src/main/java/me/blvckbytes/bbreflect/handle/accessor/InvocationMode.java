@@ -0,0 +1,49 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+public enum InvocationMode {
+
+  // Core reflection through Field, Method and Constructor, which performs
+  // access checks and argument unwrapping on every single call
+  REFLECTION,
+
+  // Method handles of java.lang.invoke, which are resolved once and then
+  // invoked exactly, without any per-call access checks; the handles are
+  // held in static final fields of a class generated per member, which the
+  // JIT treats as constants, and in the fields of an instance otherwise
+  METHOD_HANDLE,
+
+  // Classes generated per member, which access it through direct bytecode
+  // instructions; members which cannot be linked against from outside of
+  // their declaring package fall back to reflection
+  GENERATED,
+
+  // Fields are accessed through their memory offset using sun.misc.Unsafe, which
+  // also writes final fields; methods and constructors fall back to reflection
+  UNSAFE
+  ;
+
+}
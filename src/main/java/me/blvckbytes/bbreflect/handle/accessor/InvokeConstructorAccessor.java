@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+import me.blvckbytes.bbreflect.handle.transformer.CallLayout;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class InvokeConstructorAccessor implements IConstructorAccessor {
+
+  // (Object[] args)Object
+  private final MethodHandle invoker;
+
+  // (Object... args)Object, with the arguments spread out
+  private final MethodHandle exactInvoker;
+
+  // Number of arguments the caller passes, which differs from the parameter count when using a layout
+  private final int arity;
+
+  InvokeConstructorAccessor(Constructor<?> constructor, @Nullable CallLayout layout) throws IllegalAccessException {
+    MethodHandle handle = AccessorFactory.wrapTargetExceptions(MethodHandles.lookup().unreflectConstructor(constructor).asFixedArity())
+      .asType(MethodType.genericMethodType(constructor.getParameterCount()));
+
+    if (layout != null)
+      handle = AccessorFactory.applyLayout(handle, 0, layout);
+
+    this.arity = handle.type().parameterCount();
+    this.exactInvoker = handle;
+    this.invoker = handle.asSpreader(Object[].class, arity);
+  }
+
+  /**
+   * Bind the handles of this accessor into static final fields of a generated class, see {@link AccessorGenerator#bindHandles}
+   * @return Bound accessor, null if the class could not be defined
+   */
+  @Nullable IConstructorAccessor bind() {
+    Map<String, MethodHandle> handles = new LinkedHashMap<>();
+    handles.put("newInstance", invoker);
+
+    if (arity <= AccessorGenerator.MAX_FIXED_ARITY)
+      handles.put("newInstance" + arity, exactInvoker);
+
+    return AccessorGenerator.bindHandles(IConstructorAccessor.class, handles);
+  }
+
+  @Override
+  public Object newInstance(Object[] args) throws Exception {
+    try {
+      return (Object) invoker.invokeExact(args);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public Object newInstance0() throws Exception {
+    if (arity != 0)
+      return IConstructorAccessor.super.newInstance0();
+
+    try {
+      return (Object) exactInvoker.invokeExact();
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public Object newInstance1(Object a) throws Exception {
+    if (arity != 1)
+      return IConstructorAccessor.super.newInstance1(a);
+
+    try {
+      return (Object) exactInvoker.invokeExact(a);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public Object newInstance2(Object a, Object b) throws Exception {
+    if (arity != 2)
+      return IConstructorAccessor.super.newInstance2(a, b);
+
+    try {
+      return (Object) exactInvoker.invokeExact(a, b);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public Object newInstance3(Object a, Object b, Object c) throws Exception {
+    if (arity != 3)
+      return IConstructorAccessor.super.newInstance3(a, b, c);
+
+    try {
+      return (Object) exactInvoker.invokeExact(a, b, c);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public Object newInstance4(Object a, Object b, Object c, Object d) throws Exception {
+    if (arity != 4)
+      return IConstructorAccessor.super.newInstance4(a, b, c, d);
+
+    try {
+      return (Object) exactInvoker.invokeExact(a, b, c, d);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+}
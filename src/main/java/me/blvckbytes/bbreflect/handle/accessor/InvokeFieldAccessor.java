@@ -0,0 +1,394 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class InvokeFieldAccessor implements IFieldAccessor {
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+  // (Class declaringClass, Object target)Object
+  private static final MethodHandle CHECK_TARGET;
+
+  static {
+    try {
+      CHECK_TARGET = MethodHandles.lookup().findStatic(
+        InvokeFieldAccessor.class, "checkTarget",
+        MethodType.methodType(Object.class, Class.class, Object.class)
+      );
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final Field field;
+  private final MethodHandle getter;
+
+  // Exactly typed handles for primitive fields, (Object)P and (Object, P)void, which
+  // serve all unboxed accesses that match the field's type without any conversion
+  private final @Nullable MethodHandle primitiveGetter, primitiveSetter;
+
+  // Null if write access has been denied (static final fields), in which case
+  // setting is relayed to reflection in order to keep it's error semantics
+  private final @Nullable MethodHandle setter;
+
+  InvokeFieldAccessor(Field field) throws IllegalAccessException {
+    this(field, checkingTarget(MethodHandles.lookup().unreflectGetter(field), field), checkingTarget(unreflectSetterOrNull(field), field));
+  }
+
+  /**
+   * @param field Target field
+   * @param getter Handle which reads the field, of type (D target)T or ()T for static fields
+   * @param setter Handle which writes the field, of type (D target, T value)void or (T value)void for static
+   *               fields, where D is the declaring class and T the field's type; null if writing is denied
+   */
+  InvokeFieldAccessor(Field field, MethodHandle getter, @Nullable MethodHandle setter) {
+    boolean isStatic = Modifier.isStatic(field.getModifiers());
+
+    this.field = field;
+    this.getter = adapt(getter, isStatic, GETTER_TYPE);
+    this.setter = setter == null ? null : adapt(setter, isStatic, SETTER_TYPE);
+
+    Class<?> type = field.getType();
+
+    if (type.isPrimitive()) {
+      this.primitiveGetter = adapt(getter, isStatic, MethodType.methodType(type, Object.class));
+      this.primitiveSetter = setter == null ? null : adapt(setter, isStatic, MethodType.methodType(void.class, Object.class, type));
+    }
+
+    else {
+      this.primitiveGetter = null;
+      this.primitiveSetter = null;
+    }
+  }
+
+  /**
+   * Bind the handles of this accessor into static final fields of a generated class, see {@link AccessorGenerator#bindHandles}
+   * @return Bound accessor, null if writing is relayed to reflection or if the class could not be defined
+   */
+  @Nullable IFieldAccessor bind() {
+    if (setter == null)
+      return null;
+
+    Map<String, MethodHandle> handles = new LinkedHashMap<>();
+    handles.put("get", getter);
+    handles.put("set", setter);
+
+    // Unbound primitive accesses of other types are relayed to get and set by the interface
+    if (primitiveGetter != null && primitiveSetter != null) {
+      String typeName = field.getType().getName();
+      String suffix = Character.toUpperCase(typeName.charAt(0)) + typeName.substring(1);
+
+      handles.put("get" + suffix, primitiveGetter);
+      handles.put("set" + suffix, primitiveSetter);
+    }
+
+    return AccessorGenerator.bindHandles(IFieldAccessor.class, handles);
+  }
+
+  @Override
+  public @Nullable Object get(@Nullable Object target) throws Exception {
+    try {
+      return (Object) getter.invokeExact(target);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public void set(@Nullable Object target, @Nullable Object value) throws Exception {
+    if (setter == null) {
+      field.set(target, value);
+      return;
+    }
+
+    try {
+      setter.invokeExact(target, value);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public boolean getBoolean(@Nullable Object target) throws Exception {
+    if (primitiveGetter == null || field.getType() != boolean.class)
+      return IFieldAccessor.super.getBoolean(target);
+
+    try {
+      return (boolean) primitiveGetter.invokeExact(target);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public void setBoolean(@Nullable Object target, boolean value) throws Exception {
+    if (primitiveSetter == null || field.getType() != boolean.class) {
+      IFieldAccessor.super.setBoolean(target, value);
+      return;
+    }
+
+    try {
+      primitiveSetter.invokeExact(target, value);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public byte getByte(@Nullable Object target) throws Exception {
+    if (primitiveGetter == null || field.getType() != byte.class)
+      return IFieldAccessor.super.getByte(target);
+
+    try {
+      return (byte) primitiveGetter.invokeExact(target);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public void setByte(@Nullable Object target, byte value) throws Exception {
+    if (primitiveSetter == null || field.getType() != byte.class) {
+      IFieldAccessor.super.setByte(target, value);
+      return;
+    }
+
+    try {
+      primitiveSetter.invokeExact(target, value);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public char getChar(@Nullable Object target) throws Exception {
+    if (primitiveGetter == null || field.getType() != char.class)
+      return IFieldAccessor.super.getChar(target);
+
+    try {
+      return (char) primitiveGetter.invokeExact(target);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public void setChar(@Nullable Object target, char value) throws Exception {
+    if (primitiveSetter == null || field.getType() != char.class) {
+      IFieldAccessor.super.setChar(target, value);
+      return;
+    }
+
+    try {
+      primitiveSetter.invokeExact(target, value);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public short getShort(@Nullable Object target) throws Exception {
+    if (primitiveGetter == null || field.getType() != short.class)
+      return IFieldAccessor.super.getShort(target);
+
+    try {
+      return (short) primitiveGetter.invokeExact(target);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public void setShort(@Nullable Object target, short value) throws Exception {
+    if (primitiveSetter == null || field.getType() != short.class) {
+      IFieldAccessor.super.setShort(target, value);
+      return;
+    }
+
+    try {
+      primitiveSetter.invokeExact(target, value);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public int getInt(@Nullable Object target) throws Exception {
+    if (primitiveGetter == null || field.getType() != int.class)
+      return IFieldAccessor.super.getInt(target);
+
+    try {
+      return (int) primitiveGetter.invokeExact(target);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public void setInt(@Nullable Object target, int value) throws Exception {
+    if (primitiveSetter == null || field.getType() != int.class) {
+      IFieldAccessor.super.setInt(target, value);
+      return;
+    }
+
+    try {
+      primitiveSetter.invokeExact(target, value);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public long getLong(@Nullable Object target) throws Exception {
+    if (primitiveGetter == null || field.getType() != long.class)
+      return IFieldAccessor.super.getLong(target);
+
+    try {
+      return (long) primitiveGetter.invokeExact(target);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public void setLong(@Nullable Object target, long value) throws Exception {
+    if (primitiveSetter == null || field.getType() != long.class) {
+      IFieldAccessor.super.setLong(target, value);
+      return;
+    }
+
+    try {
+      primitiveSetter.invokeExact(target, value);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public float getFloat(@Nullable Object target) throws Exception {
+    if (primitiveGetter == null || field.getType() != float.class)
+      return IFieldAccessor.super.getFloat(target);
+
+    try {
+      return (float) primitiveGetter.invokeExact(target);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public void setFloat(@Nullable Object target, float value) throws Exception {
+    if (primitiveSetter == null || field.getType() != float.class) {
+      IFieldAccessor.super.setFloat(target, value);
+      return;
+    }
+
+    try {
+      primitiveSetter.invokeExact(target, value);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public double getDouble(@Nullable Object target) throws Exception {
+    if (primitiveGetter == null || field.getType() != double.class)
+      return IFieldAccessor.super.getDouble(target);
+
+    try {
+      return (double) primitiveGetter.invokeExact(target);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public void setDouble(@Nullable Object target, double value) throws Exception {
+    if (primitiveSetter == null || field.getType() != double.class) {
+      IFieldAccessor.super.setDouble(target, value);
+      return;
+    }
+
+    try {
+      primitiveSetter.invokeExact(target, value);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  /**
+   * Rejects targets which are no instance of the field's declaring class before they reach the
+   * handle, with the same exceptions as reflection, instead of failing on the generic adaptation
+   * @param handle Handle which takes the target as it's first parameter, ignored for static fields
+   * @param field Target field
+   * @return Handle which takes the target as an object, null if the handle was null
+   */
+  static @Nullable MethodHandle checkingTarget(@Nullable MethodHandle handle, Field field) {
+    if (handle == null || Modifier.isStatic(field.getModifiers()))
+      return handle;
+
+    handle = handle.asType(handle.type().changeParameterType(0, Object.class));
+    return MethodHandles.filterArguments(handle, 0, CHECK_TARGET.bindTo(field.getDeclaringClass()));
+  }
+
+  private static Object checkTarget(Class<?> declaringClass, Object target) {
+    if (target == null)
+      throw new NullPointerException("Cannot access an instance field on null");
+
+    if (!declaringClass.isInstance(target))
+      throw new IllegalArgumentException("Cannot access a field of " + declaringClass + " on an instance of " + target.getClass());
+
+    return target;
+  }
+
+  private static @Nullable MethodHandle unreflectSetterOrNull(Field field) {
+    try {
+      return MethodHandles.lookup().unreflectSetter(field);
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Adapts a field handle to the generic, object based type, where static
+   * fields receive a leading dummy parameter in place of the target instance
+   */
+  private static MethodHandle adapt(MethodHandle handle, boolean isStatic, MethodType type) {
+    if (isStatic)
+      handle = MethodHandles.dropArguments(handle, 0, Object.class);
+    return handle.asType(type);
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+import me.blvckbytes.bbreflect.handle.transformer.CallLayout;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class InvokeMethodAccessor implements IMethodAccessor {
+
+  // (Object target, Object[] args)Object
+  private final MethodHandle invoker;
+
+  // (Object target, Object... args)Object, with the arguments spread out
+  private final MethodHandle exactInvoker;
+
+  // Number of arguments the caller passes, which differs from the parameter count when using a layout
+  private final int arity;
+
+  InvokeMethodAccessor(Method method, @Nullable CallLayout layout) throws IllegalAccessException {
+    int parameterCount = method.getParameterCount();
+
+    // Varargs are passed as an already collected array, just like with reflection
+    MethodHandle handle = AccessorFactory.wrapTargetExceptions(MethodHandles.lookup().unreflect(method).asFixedArity());
+    boolean isStatic = Modifier.isStatic(method.getModifiers());
+
+    if (isStatic)
+      handle = MethodHandles.dropArguments(handle, 0, Object.class);
+
+    handle = handle.asType(MethodType.genericMethodType(parameterCount + 1));
+
+    if (!isStatic)
+      handle = AccessorFactory.requireReceiver(handle);
+
+    if (layout != null)
+      handle = AccessorFactory.applyLayout(handle, 1, layout);
+
+    this.arity = handle.type().parameterCount() - 1;
+    this.exactInvoker = handle;
+    this.invoker = handle.asSpreader(Object[].class, arity);
+  }
+
+  /**
+   * Bind the handles of this accessor into static final fields of a generated class, see {@link AccessorGenerator#bindHandles}
+   * @return Bound accessor, null if the class could not be defined
+   */
+  @Nullable IMethodAccessor bind() {
+    Map<String, MethodHandle> handles = new LinkedHashMap<>();
+    handles.put("invoke", invoker);
+
+    if (arity <= AccessorGenerator.MAX_FIXED_ARITY)
+      handles.put("invoke" + arity, exactInvoker);
+
+    return AccessorGenerator.bindHandles(IMethodAccessor.class, handles);
+  }
+
+  @Override
+  public @Nullable Object invoke(@Nullable Object target, Object[] args) throws Exception {
+    try {
+      return (Object) invoker.invokeExact(target, args);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public @Nullable Object invoke0(@Nullable Object target) throws Exception {
+    if (arity != 0)
+      return IMethodAccessor.super.invoke0(target);
+
+    try {
+      return (Object) exactInvoker.invokeExact(target);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public @Nullable Object invoke1(@Nullable Object target, Object a) throws Exception {
+    if (arity != 1)
+      return IMethodAccessor.super.invoke1(target, a);
+
+    try {
+      return (Object) exactInvoker.invokeExact(target, a);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public @Nullable Object invoke2(@Nullable Object target, Object a, Object b) throws Exception {
+    if (arity != 2)
+      return IMethodAccessor.super.invoke2(target, a, b);
+
+    try {
+      return (Object) exactInvoker.invokeExact(target, a, b);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public @Nullable Object invoke3(@Nullable Object target, Object a, Object b, Object c) throws Exception {
+    if (arity != 3)
+      return IMethodAccessor.super.invoke3(target, a, b, c);
+
+    try {
+      return (Object) exactInvoker.invokeExact(target, a, b, c);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+
+  @Override
+  public @Nullable Object invoke4(@Nullable Object target, Object a, Object b, Object c, Object d) throws Exception {
+    if (arity != 4)
+      return IMethodAccessor.super.invoke4(target, a, b, c, d);
+
+    try {
+      return (Object) exactInvoker.invokeExact(target, a, b, c, d);
+    } catch (Throwable t) {
+      throw AccessorFactory.asException(t);
+    }
+  }
+}
@@ -0,0 +1,322 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+import me.blvckbytes.bbreflect.Primitives;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+public final class LambdaBinder {
+
+  private static final MethodType INVOKE_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+  private static final MethodType NEW_INSTANCE_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+  private LambdaBinder() {}
+
+  /**
+   * Bind a method to an implementation of a functional interface which is spun by
+   * the {@link LambdaMetafactory}, so that calls link just like ordinary lambdas do
+   * @param functionalInterface Interface to implement, where instance methods take
+   *                            their receiver as the first parameter
+   * @param method Method to bind
+   * @throws IllegalArgumentException Thrown if the interface does not fit the method's signature
+   */
+  public static <F> F bindMethod(Class<F> functionalInterface, Method method) throws IllegalArgumentException {
+    return bind(functionalInterface, method, lookup -> lookup.unreflect(method));
+  }
+
+  /**
+   * Bind a constructor to an implementation of a functional interface which is spun by
+   * the {@link LambdaMetafactory}, so that calls link just like ordinary lambdas do
+   * @param functionalInterface Interface to implement, which takes the constructor's
+   *                            parameters and returns the new instance
+   * @param constructor Constructor to bind
+   * @throws IllegalArgumentException Thrown if the interface does not fit the constructor's signature
+   */
+  public static <F> F bindConstructor(Class<F> functionalInterface, Constructor<?> constructor) throws IllegalArgumentException {
+    return bind(functionalInterface, constructor, lookup -> lookup.unreflectConstructor(constructor));
+  }
+
+  /**
+   * Bind a method accessor to an implementation of a functional interface through a
+   * method handle proxy, which is used when the call has to pass through transformers
+   * @param functionalInterface Interface to implement
+   * @param accessor Accessor to relay calls to
+   * @param isStatic Whether the accessor represents a static method, which takes no receiver
+   */
+  public static <F> F bindAccessor(Class<F> functionalInterface, IMethodAccessor accessor, boolean isStatic) throws IllegalArgumentException {
+    Method functionalMethod = findFunctionalMethod(functionalInterface);
+    int parameterCount = functionalMethod.getParameterCount();
+
+    try {
+      MethodHandle invoker = MethodHandles.lookup()
+        .findVirtual(IMethodAccessor.class, "invoke", INVOKE_TYPE)
+        .bindTo(accessor);
+
+      if (isStatic)
+        invoker = MethodHandles.insertArguments(invoker, 0, (Object) null).asCollector(Object[].class, parameterCount);
+      else {
+        if (parameterCount == 0)
+          throw new IllegalArgumentException("The functional method has to take the receiver as it's first parameter");
+
+        invoker = invoker.asCollector(Object[].class, parameterCount - 1);
+      }
+
+      return proxy(functionalInterface, functionalMethod, invoker);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Could not bind the method accessor", e);
+    }
+  }
+
+  /**
+   * Bind a constructor accessor to an implementation of a functional interface through a
+   * method handle proxy, which is used when the call has to pass through transformers
+   * @param functionalInterface Interface to implement
+   * @param accessor Accessor to relay calls to
+   */
+  public static <F> F bindAccessor(Class<F> functionalInterface, IConstructorAccessor accessor) throws IllegalArgumentException {
+    Method functionalMethod = findFunctionalMethod(functionalInterface);
+
+    try {
+      MethodHandle invoker = MethodHandles.lookup()
+        .findVirtual(IConstructorAccessor.class, "newInstance", NEW_INSTANCE_TYPE)
+        .bindTo(accessor)
+        .asCollector(Object[].class, functionalMethod.getParameterCount());
+
+      return proxy(functionalInterface, functionalMethod, invoker);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Could not bind the constructor accessor", e);
+    }
+  }
+
+  /**
+   * Find the single abstract method of a functional interface
+   * @param functionalInterface Interface to search through
+   * @throws IllegalArgumentException Thrown if the class is not a functional interface
+   */
+  public static Method findFunctionalMethod(Class<?> functionalInterface) throws IllegalArgumentException {
+    if (!functionalInterface.isInterface())
+      throw new IllegalArgumentException(functionalInterface + " is not an interface");
+
+    Method result = null;
+
+    for (Method method : functionalInterface.getMethods()) {
+      if (!Modifier.isAbstract(method.getModifiers()) || isObjectMethod(method))
+        continue;
+
+      // Redeclarations of the very same signature within the interface hierarchy
+      if (result != null && result.getName().equals(method.getName()) && Arrays.equals(result.getParameterTypes(), method.getParameterTypes()))
+        continue;
+
+      if (result != null)
+        throw new IllegalArgumentException(functionalInterface + " has more than one abstract method");
+
+      result = method;
+    }
+
+    if (result == null)
+      throw new IllegalArgumentException(functionalInterface + " has no abstract method");
+
+    return result;
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  @FunctionalInterface
+  private interface FImplementationResolver {
+    MethodHandle resolve(MethodHandles.Lookup lookup) throws IllegalAccessException;
+  }
+
+  private static <F> F bind(Class<F> functionalInterface, Executable member, FImplementationResolver resolver) {
+    Method functionalMethod = findFunctionalMethod(functionalInterface);
+    MethodType functionalType = MethodType.methodType(functionalMethod.getReturnType(), functionalMethod.getParameterTypes());
+
+    try {
+      Class<?> declaringClass = member.getDeclaringClass();
+      MethodHandles.Lookup lookup = Lookups.privateLookupIn(declaringClass);
+      MethodHandle implementation = resolver.resolve(lookup);
+      MethodType instantiatedType = instantiate(functionalType, implementation.type(), member);
+
+      // The spun class lives next to it's host, which thereby has to see the interface. If that's
+      // not the case, host it within the interface instead, as long as the member is publicly linkable
+      if (!isVisibleFrom(functionalInterface, declaringClass.getClassLoader())) {
+        if (!isPublicType(declaringClass) || !Modifier.isPublic(member.getModifiers()))
+          return proxy(functionalInterface, functionalMethod, implementation);
+
+        lookup = Lookups.privateLookupIn(functionalInterface);
+      }
+
+      CallSite site = LambdaMetafactory.metafactory(
+        lookup, functionalMethod.getName(), MethodType.methodType(functionalInterface),
+        functionalType, implementation, instantiatedType
+      );
+
+      return functionalInterface.cast(site.getTarget().invoke());
+    } catch (IllegalArgumentException e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException("Could not bind " + member + " to " + functionalInterface, t);
+    }
+  }
+
+  private static <F> F proxy(Class<F> functionalInterface, Method functionalMethod, MethodHandle target) {
+    MethodType functionalType = MethodType.methodType(functionalMethod.getReturnType(), functionalMethod.getParameterTypes());
+
+    if (functionalType.parameterCount() != target.type().parameterCount())
+      throw new IllegalArgumentException("The functional method " + functionalMethod + " expects " + functionalType.parameterCount() + " parameters, but the target takes " + target.type().parameterCount());
+
+    return MethodHandleProxies.asInterfaceInstance(functionalInterface, target.asType(functionalType));
+  }
+
+  /**
+   * Computes the instantiated method type for the metafactory, which specializes the functional
+   * type to the implementation's types wherever a cast or a (un-)boxing conversion is required
+   * @throws IllegalArgumentException Thrown if the types cannot be adapted to each other
+   */
+  private static MethodType instantiate(MethodType functionalType, MethodType implementationType, Executable member) {
+    int parameterCount = functionalType.parameterCount();
+
+    if (parameterCount != implementationType.parameterCount())
+      throw new IllegalArgumentException("The functional method expects " + parameterCount + " parameters, but " + member + " takes " + implementationType.parameterCount());
+
+    Class<?>[] parameters = new Class<?>[parameterCount];
+
+    for (int i = 0; i < parameterCount; i++) {
+      Class<?> parameter = adaptParameter(functionalType.parameterType(i), implementationType.parameterType(i));
+
+      if (parameter == null)
+        throw new IllegalArgumentException("Parameter " + i + " of type " + functionalType.parameterType(i) + " is not compatible with " + implementationType.parameterType(i) + " of " + member);
+
+      parameters[i] = parameter;
+    }
+
+    Class<?> functionalReturn = functionalType.returnType();
+    Class<?> implementationReturn = implementationType.returnType();
+
+    if (functionalReturn != void.class && !isReturnAdaptable(implementationReturn, functionalReturn))
+      throw new IllegalArgumentException("The return type " + implementationReturn + " of " + member + " is not compatible with " + functionalReturn);
+
+    return MethodType.methodType(functionalReturn, parameters);
+  }
+
+  /**
+   * Decides on the instantiated type of a parameter which is passed as the
+   * functional type and received as the implementation type
+   * @return Instantiated type, null if these types are incompatible
+   */
+  private static @Nullable Class<?> adaptParameter(Class<?> functional, Class<?> implementation) {
+    if (functional == implementation)
+      return functional;
+
+    if (!functional.isPrimitive() && !implementation.isPrimitive()) {
+      // Narrowing reference conversion, which the metafactory implements as a cast
+      if (functional.isAssignableFrom(implementation))
+        return implementation;
+
+      return implementation.isAssignableFrom(functional) ? functional : null;
+    }
+
+    if (functional.isPrimitive() && implementation.isPrimitive())
+      return isWidening(functional, implementation) ? functional : null;
+
+    // Boxing conversion
+    if (functional.isPrimitive())
+      return implementation.isAssignableFrom(Primitives.wrap(functional)) ? functional : null;
+
+    // Unboxing conversion, after casting to the wrapper
+    Class<?> wrapper = Primitives.wrap(implementation);
+    if (functional.isAssignableFrom(wrapper))
+      return wrapper;
+
+    Class<?> unwrapped = Primitives.unwrap(functional);
+    return unwrapped.isPrimitive() && isWidening(unwrapped, implementation) ? functional : null;
+  }
+
+  private static boolean isReturnAdaptable(Class<?> implementation, Class<?> functional) {
+    if (implementation == void.class)
+      return false;
+
+    if (!implementation.isPrimitive() && !functional.isPrimitive())
+      return functional.isAssignableFrom(implementation);
+
+    return adaptParameter(implementation, functional) != null;
+  }
+
+  private static boolean isWidening(Class<?> from, Class<?> to) {
+    if (from == to)
+      return true;
+
+    if (from == boolean.class || to == boolean.class || to == char.class)
+      return false;
+
+    if (from == char.class)
+      return rankOf(to) >= rankOf(int.class);
+
+    return rankOf(from) < rankOf(to) && !(from == byte.class && to == char.class);
+  }
+
+  private static int rankOf(Class<?> type) {
+    if (type == byte.class) return 0;
+    if (type == short.class) return 1;
+    if (type == int.class) return 2;
+    if (type == long.class) return 3;
+    if (type == float.class) return 4;
+    if (type == double.class) return 5;
+    return -1;
+  }
+
+  private static boolean isObjectMethod(Method method) {
+    try {
+      Object.class.getMethod(method.getName(), method.getParameterTypes());
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static boolean isVisibleFrom(Class<?> type, @Nullable ClassLoader loader) {
+    try {
+      return Class.forName(type.getName(), false, loader) == type;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  private static boolean isPublicType(Class<?> type) {
+    for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+      if (!Modifier.isPublic(c.getModifiers()))
+        return false;
+    }
+    return true;
+  }
+}
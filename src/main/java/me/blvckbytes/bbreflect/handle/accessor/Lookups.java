@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+public final class Lookups {
+
+  // MethodHandles#privateLookupIn, only available on Java 9 and above
+  private static final @Nullable Method PRIVATE_LOOKUP_IN;
+
+  // Lookup(Class), the full-privilege constructor on Java 8
+  private static final @Nullable Constructor<MethodHandles.Lookup> LOOKUP_CONSTRUCTOR;
+
+  static {
+    Method privateLookupIn = null;
+    Constructor<MethodHandles.Lookup> lookupConstructor = null;
+
+    try {
+      privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+    } catch (NoSuchMethodException e) {
+      try {
+        lookupConstructor = MethodHandles.Lookup.class.getDeclaredConstructor(Class.class);
+        lookupConstructor.setAccessible(true);
+      } catch (Exception ignored) {}
+    }
+
+    PRIVATE_LOOKUP_IN = privateLookupIn;
+    LOOKUP_CONSTRUCTOR = lookupConstructor;
+  }
+
+  private Lookups() {}
+
+  /**
+   * Get a lookup which has full (private) access to the members of the target class
+   * @param target Class to get a lookup on
+   * @throws ReflectiveOperationException Thrown if the runtime denied creating such a lookup
+   */
+  public static MethodHandles.Lookup privateLookupIn(Class<?> target) throws ReflectiveOperationException {
+    if (PRIVATE_LOOKUP_IN != null)
+      return (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invoke(null, target, MethodHandles.lookup());
+
+    if (LOOKUP_CONSTRUCTOR != null)
+      return LOOKUP_CONSTRUCTOR.newInstance(target);
+
+    throw new IllegalAccessException("Private lookups are not supported by this runtime");
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+
+class ReflectFieldAccessor implements IFieldAccessor {
+
+  private final Field field;
+
+  ReflectFieldAccessor(Field field) {
+    this.field = field;
+  }
+
+  @Override
+  public @Nullable Object get(@Nullable Object target) throws Exception {
+    return field.get(target);
+  }
+
+  @Override
+  public void set(@Nullable Object target, @Nullable Object value) throws Exception {
+    field.set(target, value);
+  }
+
+  @Override
+  public boolean getBoolean(@Nullable Object target) throws Exception {
+    return field.getBoolean(target);
+  }
+
+  @Override
+  public void setBoolean(@Nullable Object target, boolean value) throws Exception {
+    field.setBoolean(target, value);
+  }
+
+  @Override
+  public byte getByte(@Nullable Object target) throws Exception {
+    return field.getByte(target);
+  }
+
+  @Override
+  public void setByte(@Nullable Object target, byte value) throws Exception {
+    field.setByte(target, value);
+  }
+
+  @Override
+  public char getChar(@Nullable Object target) throws Exception {
+    return field.getChar(target);
+  }
+
+  @Override
+  public void setChar(@Nullable Object target, char value) throws Exception {
+    field.setChar(target, value);
+  }
+
+  @Override
+  public short getShort(@Nullable Object target) throws Exception {
+    return field.getShort(target);
+  }
+
+  @Override
+  public void setShort(@Nullable Object target, short value) throws Exception {
+    field.setShort(target, value);
+  }
+
+  @Override
+  public int getInt(@Nullable Object target) throws Exception {
+    return field.getInt(target);
+  }
+
+  @Override
+  public void setInt(@Nullable Object target, int value) throws Exception {
+    field.setInt(target, value);
+  }
+
+  @Override
+  public long getLong(@Nullable Object target) throws Exception {
+    return field.getLong(target);
+  }
+
+  @Override
+  public void setLong(@Nullable Object target, long value) throws Exception {
+    field.setLong(target, value);
+  }
+
+  @Override
+  public float getFloat(@Nullable Object target) throws Exception {
+    return field.getFloat(target);
+  }
+
+  @Override
+  public void setFloat(@Nullable Object target, float value) throws Exception {
+    field.setFloat(target, value);
+  }
+
+  @Override
+  public double getDouble(@Nullable Object target) throws Exception {
+    return field.getDouble(target);
+  }
+
+  @Override
+  public void setDouble(@Nullable Object target, double value) throws Exception {
+    field.setDouble(target, value);
+  }
+}
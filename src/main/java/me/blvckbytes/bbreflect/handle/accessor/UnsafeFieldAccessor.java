@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.accessor;
+
+import me.blvckbytes.bbreflect.UnsafeAccess;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Accesses a field through it's memory offset, which - other than reflection and method
+ * handles - also allows for writing final fields. Values are still type-checked by the
+ * generic method handle adaptation, and so are target instances, before touching memory.
+ */
+class UnsafeFieldAccessor extends InvokeFieldAccessor {
+
+  private UnsafeFieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+    super(field, getter, setter);
+  }
+
+  /**
+   * Create a new offset based accessor for a field
+   * @param field Target field
+   * @throws UnsupportedOperationException Thrown if Unsafe is unavailable or the field's offset cannot be determined
+   */
+  static UnsafeFieldAccessor create(Field field) throws UnsupportedOperationException {
+    Class<?> type = field.getType();
+    int modifiers = field.getModifiers();
+    boolean isVolatile = Modifier.isVolatile(modifiers);
+
+    MethodHandle getter = UnsafeAccess.getter(type, isVolatile);
+    MethodHandle setter = UnsafeAccess.putter(type, isVolatile);
+
+    // Narrow down the written value's type, so that the generic adaptation casts into it
+    if (!type.isPrimitive())
+      setter = setter.asType(MethodType.methodType(void.class, Object.class, long.class, type));
+
+    if (Modifier.isStatic(modifiers)) {
+      ensureInitialized(field.getDeclaringClass());
+
+      Object base = UnsafeAccess.staticFieldBase(field);
+      long offset = UnsafeAccess.staticFieldOffset(field);
+
+      return new UnsafeFieldAccessor(
+        field,
+        MethodHandles.insertArguments(getter, 0, base, offset),
+        MethodHandles.insertArguments(setter, 0, base, offset)
+      );
+    }
+
+    long offset = UnsafeAccess.objectFieldOffset(field);
+
+    // Accessing memory relative to anything but an instance of the declaring class would be fatal
+    return new UnsafeFieldAccessor(
+      field,
+      checkingTarget(MethodHandles.insertArguments(getter, 1, offset), field),
+      checkingTarget(MethodHandles.insertArguments(setter, 1, offset), field)
+    );
+  }
+
+  /**
+   * Static field bases do not initialize their class, which thereby has to be done up-front
+   */
+  private static void ensureInitialized(Class<?> type) {
+    try {
+      Class.forName(type.getName(), true, type.getClassLoader());
+    } catch (ClassNotFoundException ignored) {
+      // Hidden classes cannot be looked up by name, but are initialized on definition
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.allocator;
+
+import me.blvckbytes.bbreflect.handle.cache.ClassCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Modifier;
+
+public final class AllocatorFactory {
+
+  // Fastest allocator available per class, which is created on first use and
+  // dropped alongside it's class, as opposed to a map keyed by the class
+  private static final ClassCache<IAllocator> allocators = new ClassCache<>();
+
+  private AllocatorFactory() {}
+
+  /**
+   * Get the cached allocator of the fastest mode available for a class
+   * @param type Class to allocate
+   * @throws IllegalArgumentException Thrown if the type is not a concrete class
+   * @throws UnsupportedOperationException Thrown if no mode is available on this runtime
+   */
+  public static IAllocator getAllocator(Class<?> type) throws IllegalArgumentException, UnsupportedOperationException {
+    return allocators.get(type, key -> createAllocator(key, null));
+  }
+
+  /**
+   * Create a new allocator for a class, which falls back to the next slower mode if the
+   * requested mode is unavailable, in the order of {@link AllocationMode}'s constants
+   * @param type Class to allocate
+   * @param mode Mode of allocation, null means the fastest available
+   * @throws IllegalArgumentException Thrown if the type is not a concrete class
+   * @throws UnsupportedOperationException Thrown if no mode is available on this runtime
+   */
+  public static IAllocator createAllocator(Class<?> type, @Nullable AllocationMode mode) throws IllegalArgumentException, UnsupportedOperationException {
+    if (type.isPrimitive() || type.isArray() || type.isInterface() || Modifier.isAbstract(type.getModifiers()))
+      throw new IllegalArgumentException("Cannot allocate an instance of " + type);
+
+    if (mode == null)
+      mode = AllocationMode.GENERATED;
+
+    if (mode == AllocationMode.GENERATED) {
+      IAllocator generated = AllocatorGenerator.generateAllocator(type);
+
+      if (generated != null)
+        return generated;
+    }
+
+    if (mode == AllocationMode.GENERATED || mode == AllocationMode.UNSAFE) {
+      try {
+        return UnsafeAllocator.create(type);
+      } catch (UnsupportedOperationException ignored) {}
+    }
+
+    return SerializationAllocator.create(type);
+  }
+}
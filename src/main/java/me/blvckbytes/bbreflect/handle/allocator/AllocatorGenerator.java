@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.allocator;
+
+import me.blvckbytes.bbreflect.UnsafeAccess;
+import me.blvckbytes.bbreflect.handle.accessor.Bytecode;
+import me.blvckbytes.bbreflect.handle.accessor.GeneratedClassLoader;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class AllocatorGenerator implements Opcodes {
+
+  private static final String CLASS_NAME_PREFIX = "me/blvckbytes/bbreflect/handle/allocator/GeneratedAllocator$";
+  private static final AtomicInteger classCounter = new AtomicInteger();
+
+  private AllocatorGenerator() {}
+
+  /**
+   * Generate an allocator which passes the class as a constant to sun.misc.Unsafe, held
+   * by a static final field, which allows the JIT to treat it just like a new instruction
+   * @param type Class to allocate
+   * @return Allocator instance, null if the class cannot be linked against or Unsafe is unavailable
+   */
+  static @Nullable IAllocator generateAllocator(Class<?> type) {
+    if (!UnsafeAccess.isAvailable() || !Bytecode.isPublicType(type))
+      return null;
+
+    String className = CLASS_NAME_PREFIX + classCounter.incrementAndGet();
+
+    ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+    cw.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, className, null, "java/lang/Object", new String[] { Type.getInternalName(IAllocator.class) });
+
+    Bytecode.writeUnsafeField(cw, className);
+
+    MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+    mv.visitCode();
+    mv.visitVarInsn(ALOAD, 0);
+    mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+    mv.visitInsn(RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+
+    // Object allocate()
+    mv = cw.visitMethod(ACC_PUBLIC, "allocate", "()Ljava/lang/Object;", null, null);
+    mv.visitCode();
+    mv.visitFieldInsn(GETSTATIC, className, Bytecode.UNSAFE_FIELD, Bytecode.UNSAFE_DESCRIPTOR);
+    mv.visitLdcInsn(Type.getType(type));
+    mv.visitMethodInsn(INVOKEVIRTUAL, Bytecode.UNSAFE_INTERNAL_NAME, "allocateInstance", "(Ljava/lang/Class;)Ljava/lang/Object;", false);
+    mv.visitInsn(ARETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+
+    cw.visitEnd();
+
+    try {
+      GeneratedClassLoader loader = new GeneratedClassLoader(IAllocator.class.getClassLoader());
+
+      // The generated code has to link against the very same class
+      if (Class.forName(type.getName(), false, loader) != type)
+        return null;
+
+      Class<?> generated = loader.define(className.replace('/', '.'), cw.toByteArray());
+      return (IAllocator) generated.getConstructor().newInstance();
+    } catch (Throwable t) {
+      return null;
+    }
+  }
+}
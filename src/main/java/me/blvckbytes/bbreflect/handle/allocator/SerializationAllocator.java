@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.allocator;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+class SerializationAllocator implements IAllocator {
+
+  private static final @Nullable Object REFLECTION_FACTORY;
+  private static final @Nullable Method NEW_CONSTRUCTOR_FOR_SERIALIZATION;
+  private static final Constructor<Object> OBJECT_CONSTRUCTOR;
+
+  static {
+    Object reflectionFactory = null;
+    Method newConstructorForSerialization = null;
+
+    try {
+      Class<?> reflectionFactoryClass = Class.forName("sun.reflect.ReflectionFactory");
+      reflectionFactory = reflectionFactoryClass.getDeclaredMethod("getReflectionFactory").invoke(null);
+      newConstructorForSerialization = reflectionFactoryClass.getDeclaredMethod("newConstructorForSerialization", Class.class, Constructor.class);
+    } catch (Throwable t) {
+      reflectionFactory = null;
+    }
+
+    try {
+      OBJECT_CONSTRUCTOR = Object.class.getConstructor();
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException(e);
+    }
+
+    REFLECTION_FACTORY = reflectionFactory;
+    NEW_CONSTRUCTOR_FOR_SERIALIZATION = reflectionFactory == null ? null : newConstructorForSerialization;
+  }
+
+  private final Constructor<?> constructor;
+
+  private SerializationAllocator(Constructor<?> constructor) {
+    this.constructor = constructor;
+  }
+
+  @Override
+  public Object allocate() throws Exception {
+    return constructor.newInstance((Object[]) null);
+  }
+
+  /**
+   * Create a new allocator on top of a constructor for serialization
+   * @param type Class to allocate
+   * @throws UnsupportedOperationException Thrown if sun.reflect.ReflectionFactory is unavailable
+   */
+  static SerializationAllocator create(Class<?> type) throws UnsupportedOperationException {
+    if (REFLECTION_FACTORY == null || NEW_CONSTRUCTOR_FOR_SERIALIZATION == null)
+      throw new UnsupportedOperationException("sun.reflect.ReflectionFactory is not available on this runtime");
+
+    try {
+      Constructor<?> constructor = (Constructor<?>) NEW_CONSTRUCTOR_FOR_SERIALIZATION.invoke(REFLECTION_FACTORY, type, OBJECT_CONSTRUCTOR);
+      constructor.setAccessible(true);
+      return new SerializationAllocator(constructor);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      throw new UnsupportedOperationException("Could not create a constructor for serialization of " + type, e);
+    }
+  }
+}
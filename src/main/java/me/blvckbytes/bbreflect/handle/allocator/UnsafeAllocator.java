@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.allocator;
+
+import me.blvckbytes.bbreflect.UnsafeAccess;
+
+import java.lang.invoke.MethodHandle;
+
+class UnsafeAllocator implements IAllocator {
+
+  // ()Object
+  private final MethodHandle allocator;
+
+  private UnsafeAllocator(MethodHandle allocator) {
+    this.allocator = allocator;
+  }
+
+  @Override
+  public Object allocate() throws Exception {
+    try {
+      return (Object) allocator.invokeExact();
+    } catch (Exception | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  /**
+   * Create a new allocator on top of sun.misc.Unsafe
+   * @param type Class to allocate
+   * @throws UnsupportedOperationException Thrown if sun.misc.Unsafe is unavailable
+   */
+  static UnsafeAllocator create(Class<?> type) throws UnsupportedOperationException {
+    return new UnsafeAllocator(UnsafeAccess.allocator(type));
+  }
+}
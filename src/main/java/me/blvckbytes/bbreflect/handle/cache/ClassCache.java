@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.cache;
+
+import me.blvckbytes.utilitytypes.FUnsafeFunction;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cache of a value per class, which is kept alongside it's class through a {@link ClassValue} instead
+ * of in a map keyed by the class, so that it's lock-free for concurrent readers and doesn't keep the
+ * class from being unloaded. Values of classes which outlive the loader of this library, like the
+ * server's classes, would still pin that loader through their own classes, which is why caches can be
+ * cleared all at once, which {@link me.blvckbytes.bbreflect.ReflectionHelper#cleanup()} does when the
+ * plugin which ships this library is disabled.
+ */
+public final class ClassCache<V> {
+
+  private static final Set<ClassCache<?>> CACHES = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+  // Replaced on clearing, which orphans all values of the previous generation at once
+  private volatile ClassValue<AtomicReference<V>> values;
+
+  public ClassCache() {
+    this.values = createValues();
+    CACHES.add(this);
+  }
+
+  /**
+   * Get the value of a class, which is computed on first access. Concurrent computations of the
+   * same class agree on the first value, while failed computations are retried on the next access.
+   * @param type Class to get the value of
+   * @param computer Computes the value of the class, which has to be non-null
+   * @throws E Thrown if the value could not be computed
+   */
+  public <E extends Exception> V get(Class<?> type, FUnsafeFunction<Class<?>, V, E> computer) throws E {
+    AtomicReference<V> holder = values.get(type);
+    V value = holder.get();
+
+    if (value != null)
+      return value;
+
+    value = Objects.requireNonNull(computer.apply(type));
+
+    if (holder.compareAndSet(null, value))
+      return value;
+
+    return holder.get();
+  }
+
+  /**
+   * Drop all values of this cache, which are computed anew on their next access
+   */
+  public void clear() {
+    values = createValues();
+  }
+
+  /**
+   * Drop all values of all caches, which releases all references they hold onto
+   */
+  public static void clearAll() {
+    List<ClassCache<?>> caches;
+
+    synchronized (CACHES) {
+      caches = new ArrayList<>(CACHES);
+    }
+
+    for (ClassCache<?> cache : caches)
+      cache.clear();
+  }
+
+  private static <V> ClassValue<AtomicReference<V>> createValues() {
+    return new ClassValue<AtomicReference<V>>() {
+      @Override
+      protected AtomicReference<V> computeValue(Class<?> type) {
+        return new AtomicReference<>();
+      }
+    };
+  }
+}
@@ -0,0 +1,402 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.cache;
+
+import me.blvckbytes.bbreflect.handle.predicate.FMemberPredicate;
+import me.blvckbytes.bbreflect.version.ServerVersion;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persistent cache of which member a described predicate resolved to, so that later starts can
+ * look that member up directly instead of walking the target's class hierarchy. Entries are only
+ * trusted if the server version, the server jar's fingerprint and the runtime version still match,
+ * and each entry is re-verified against it's predicate on use, falling back to a walk on mismatch.
+ * Verifying a single member cannot tell how many other matches precede it, which is why predicates
+ * that skip matches are never cached and always resolved by walking the hierarchy.
+ * Manifests are caches which have been generated ahead of time and packaged as a resource, which
+ * are only bound to the server version, as their entries are verified on use all the same.
+ */
+public final class ResolutionCache {
+
+  private static final String KEY_VERSION = "@version", KEY_FINGERPRINT = "@fingerprint", KEY_RUNTIME = "@runtime";
+  private static final String SEPARATOR = ";", PARAMETER_SEPARATOR = ",";
+
+  /**
+   * Fingerprint of caches which are used as manifests, which are not bound to a server jar
+   */
+  public static final String MANIFEST_FINGERPRINT = "manifest";
+
+  private static volatile @Nullable ResolutionCache active;
+
+  private final @Nullable File file;
+  private final ServerVersion version;
+  private final String fingerprint;
+
+  // Description of the predicate to it's serialized resolution
+  private final Map<String, String> entries;
+  private volatile boolean dirty;
+
+  private ResolutionCache(@Nullable File file, ServerVersion version, String fingerprint) {
+    this.file = file;
+    this.version = version;
+    this.fingerprint = fingerprint;
+    this.entries = new ConcurrentHashMap<>();
+  }
+
+  //=========================================================================//
+  //                                Lifecycle                                //
+  //=========================================================================//
+
+  /**
+   * Load a cache from a file, which starts out empty if the file doesn't exist, cannot
+   * be read or has been written for another server version, server jar or runtime
+   * @param file File to load from and save to
+   * @param version Current server version
+   * @param fingerprint Fingerprint of the server jar, see {@link #fingerprint(Class)}
+   */
+  public static ResolutionCache load(File file, ServerVersion version, String fingerprint) {
+    ResolutionCache cache = new ResolutionCache(file, version, fingerprint);
+
+    if (!file.isFile())
+      return cache;
+
+    Properties properties;
+
+    try (
+      InputStream stream = new FileInputStream(file)
+    ) {
+      properties = read(stream);
+    } catch (IOException | IllegalArgumentException e) {
+      cache.dirty = true;
+      return cache;
+    }
+
+    // Stale cache, which will be rebuilt from scratch
+    if (
+      !version.toString().equals(properties.getProperty(KEY_VERSION)) ||
+      !fingerprint.equals(properties.getProperty(KEY_FINGERPRINT)) ||
+      !runtimeVersion().equals(properties.getProperty(KEY_RUNTIME))
+    ) {
+      cache.dirty = true;
+      return cache;
+    }
+
+    cache.putEntries(properties);
+    return cache;
+  }
+
+  /**
+   * Load the manifest of a server version which has been packaged as a resource, see {@link #getManifestPath}
+   * @param loader Loader to look up the resource with
+   * @param version Current server version
+   * @return Manifest, which is never saved, or null if there is no readable manifest for this version
+   */
+  public static @Nullable ResolutionCache loadManifest(ClassLoader loader, ServerVersion version) {
+    Properties properties;
+
+    try (
+      InputStream stream = loader.getResourceAsStream(getManifestPath(version))
+    ) {
+      if (stream == null)
+        return null;
+
+      properties = read(stream);
+    } catch (IOException | IllegalArgumentException e) {
+      return null;
+    }
+
+    if (
+      !version.toString().equals(properties.getProperty(KEY_VERSION)) ||
+      !MANIFEST_FINGERPRINT.equals(properties.getProperty(KEY_FINGERPRINT))
+    )
+      return null;
+
+    ResolutionCache manifest = new ResolutionCache(null, version, MANIFEST_FINGERPRINT);
+    manifest.putEntries(properties);
+    return manifest;
+  }
+
+  /**
+   * Get the resource path the manifest of a server version is packaged at
+   * @param version Server version of the manifest
+   */
+  public static String getManifestPath(ServerVersion version) {
+    return "bbreflect/manifest-" + version + ".properties";
+  }
+
+  /**
+   * Write this cache back into it's file, if it has changed since it has been loaded and if
+   * it has been loaded from a file at all, as opposed to manifests
+   * @throws IOException Thrown if the file could not be written
+   */
+  public synchronized void save() throws IOException {
+    if (!dirty || file == null)
+      return;
+
+    Properties properties = new Properties();
+    properties.putAll(entries);
+    properties.setProperty(KEY_VERSION, version.toString());
+    properties.setProperty(KEY_FINGERPRINT, fingerprint);
+    properties.setProperty(KEY_RUNTIME, runtimeVersion());
+
+    File parent = file.getAbsoluteFile().getParentFile();
+
+    if (parent != null && !parent.isDirectory() && !parent.mkdirs())
+      throw new IOException("Could not create the directory " + parent);
+
+    try (
+      OutputStream stream = new FileOutputStream(file)
+    ) {
+      Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+      properties.store(writer, "Resolved members of BBReflect predicates, safe to delete");
+      writer.flush();
+    }
+
+    dirty = false;
+  }
+
+  /**
+   * Make a cache the one all handles created from now on consult and populate
+   * @param cache Cache to activate, null to disable caching
+   */
+  public static void setActive(@Nullable ResolutionCache cache) {
+    active = cache;
+  }
+
+  public static @Nullable ResolutionCache getActive() {
+    return active;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public void clear() {
+    entries.clear();
+    dirty = true;
+  }
+
+  /**
+   * Compute the fingerprint of the jar a class has been loaded from, like the server's
+   * implementation class, which digests it's path, size and modification time instead of
+   * it's contents, as reading the whole jar would cost more than the walks it saves
+   * @param serverClass Class loaded from the server jar
+   * @throws IllegalArgumentException Thrown if the class has not been loaded from a file
+   */
+  public static String fingerprint(Class<?> serverClass) throws IllegalArgumentException {
+    CodeSource source = serverClass.getProtectionDomain().getCodeSource();
+
+    if (source == null || source.getLocation() == null)
+      throw new IllegalArgumentException("The class " + serverClass + " has no code source");
+
+    File jar;
+
+    try {
+      jar = new File(source.getLocation().toURI());
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      throw new IllegalArgumentException("The code source of " + serverClass + " is not a file", e);
+    }
+
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      String identity = jar.getAbsolutePath() + SEPARATOR + jar.length() + SEPARATOR + jar.lastModified();
+
+      StringBuilder result = new StringBuilder();
+      for (byte b : digest.digest(identity.getBytes(StandardCharsets.UTF_8)))
+        result.append(String.format("%02x", b));
+
+      return result.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  //=========================================================================//
+  //                                Resolution                               //
+  //=========================================================================//
+
+  /**
+   * Look up the member a described predicate resolved to before, which is dropped if it no longer
+   * exists or no longer satisfies the predicate. Entries of predicates which skip matches are dropped
+   * as well, as the matches before the member would have to be re-counted by a walk.
+   * @param memberType Type of the member
+   * @param target Class the predicate searches through
+   * @param description Canonical description of the predicate
+   * @param predicate Predicate to re-verify the member against
+   * @return Cached member, null if there's no valid entry
+   */
+  public <T> @Nullable T lookup(Class<T> memberType, Class<?> target, String description, FMemberPredicate<T> predicate) {
+    String entry = entries.get(description);
+
+    if (entry == null)
+      return null;
+
+    try {
+      String[] data = entry.split(SEPARATOR, -1);
+      T member = Integer.parseInt(data[0]) != 0 ? null : memberType.cast(resolve(memberType, target, data));
+
+      if (member != null && Boolean.TRUE.equals(predicate.matches(member, 0)))
+        return member;
+    } catch (Exception | LinkageError ignored) {}
+
+    // Mismatching entry, which is rebuilt by the caller
+    entries.remove(description, entry);
+    dirty = true;
+    return null;
+  }
+
+  /**
+   * Store the member a described predicate resolved to, unless the predicate skipped matches before
+   * @param description Canonical description of the predicate
+   * @param member Resolved member
+   * @param counter Number of members the predicate has skipped before matching
+   */
+  public void store(String description, Object member, int counter) {
+    if (counter != 0)
+      return;
+
+    String entry = serialize(member, counter);
+
+    if (entry == null || entry.equals(entries.put(description, entry)))
+      return;
+
+    dirty = true;
+  }
+
+  private @Nullable String serialize(Object member, int counter) {
+    StringJoiner sj = new StringJoiner(SEPARATOR);
+    sj.add(String.valueOf(counter));
+
+    if (member instanceof Field) {
+      Field field = (Field) member;
+      sj.add(field.getDeclaringClass().getName());
+      sj.add(field.getName());
+      return sj.toString();
+    }
+
+    Class<?>[] parameterTypes;
+
+    if (member instanceof Method) {
+      Method method = (Method) member;
+      sj.add(method.getDeclaringClass().getName());
+      sj.add(method.getName());
+      parameterTypes = method.getParameterTypes();
+    }
+
+    else if (member instanceof Constructor) {
+      Constructor<?> constructor = (Constructor<?>) member;
+      sj.add(constructor.getDeclaringClass().getName());
+      sj.add("<init>");
+      parameterTypes = constructor.getParameterTypes();
+    }
+
+    else
+      return null;
+
+    StringJoiner parameters = new StringJoiner(PARAMETER_SEPARATOR);
+    for (Class<?> parameterType : parameterTypes)
+      parameters.add(parameterType.getName());
+
+    sj.add(parameters.toString());
+    return sj.toString();
+  }
+
+  /**
+   * Resolves a serialized member through direct lookups on it's declaring class
+   * @param data Serialized member, split into counter, declaring class, name and parameters
+   * @return Resolved member, null if it's declaring class is not part of the target's hierarchy
+   */
+  private @Nullable Object resolve(Class<?> memberType, Class<?> target, String[] data) throws ReflectiveOperationException {
+    Class<?> declaringClass = target;
+
+    while (declaringClass != null && !declaringClass.getName().equals(data[1]))
+      declaringClass = declaringClass.getSuperclass();
+
+    if (declaringClass == null)
+      return null;
+
+    if (memberType == Field.class)
+      return declaringClass.getDeclaredField(data[2]);
+
+    String[] parameterNames = data[3].isEmpty() ? new String[0] : data[3].split(PARAMETER_SEPARATOR);
+    Class<?>[] parameterTypes = new Class<?>[parameterNames.length];
+
+    for (int i = 0; i < parameterNames.length; i++)
+      parameterTypes[i] = loadClass(parameterNames[i], declaringClass.getClassLoader());
+
+    if (memberType == Method.class)
+      return declaringClass.getDeclaredMethod(data[2], parameterTypes);
+
+    if (memberType == Constructor.class)
+      return declaringClass.getDeclaredConstructor(parameterTypes);
+
+    return null;
+  }
+
+  private static Class<?> loadClass(String name, @Nullable ClassLoader loader) throws ClassNotFoundException {
+    switch (name) {
+      case "boolean": return boolean.class;
+      case "byte": return byte.class;
+      case "char": return char.class;
+      case "short": return short.class;
+      case "int": return int.class;
+      case "long": return long.class;
+      case "float": return float.class;
+      case "double": return double.class;
+      default: return Class.forName(name, false, loader);
+    }
+  }
+
+  private static Properties read(InputStream stream) throws IOException {
+    Properties properties = new Properties();
+    properties.load(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    return properties;
+  }
+
+  private void putEntries(Properties properties) {
+    for (String key : properties.stringPropertyNames()) {
+      if (!key.startsWith("@"))
+        entries.put(key, properties.getProperty(key));
+    }
+  }
+
+  private static String runtimeVersion() {
+    return System.getProperty("java.vm.name") + " " + System.getProperty("java.vm.version");
+  }
+}
@@ -0,0 +1,266 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.mapping;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Table of obfuscation mappings, which translates member names as published in mapping files into the
+ * names members carry at runtime, so that predicates can look members up exactly instead of matching
+ * them fuzzily. Mojang's mappings (ProGuard format) provide the member names, while Spigot's class
+ * mappings (CSRG format) relate Spigot's runtime class names to the obfuscated class names. Files
+ * are only read and indexed on the first lookup, so that loading a table doesn't cost any startup time.
+ */
+public final class MemberMappings {
+
+  // Marks mapped names which translate to differing names, like those of overloaded methods
+  private static final String AMBIGUOUS = "";
+
+  private static volatile @Nullable MemberMappings active;
+
+  private final List<Path> files;
+  private final Logger logger;
+  private volatile @Nullable Index index;
+
+  private MemberMappings(List<Path> files, Logger logger) {
+    this.files = files;
+    this.logger = logger;
+  }
+
+  //=========================================================================//
+  //                                Lifecycle                                //
+  //=========================================================================//
+
+  /**
+   * Load mappings from a file or from all files within a directory, which are only read on the first lookup.
+   * Files which turn out to be unreadable at that point are logged and skipped, as members can still be matched fuzzily.
+   * @param path Mapping file or directory of mapping files
+   * @throws IOException Thrown if the path does not exist or the directory could not be listed
+   */
+  public static MemberMappings load(Path path) throws IOException {
+    return load(path, Logger.getLogger(MemberMappings.class.getName()));
+  }
+
+  /**
+   * Load mappings from a file or from all files within a directory, which are only read on the first lookup.
+   * Files which turn out to be unreadable at that point are logged and skipped, as members can still be matched fuzzily.
+   * @param path Mapping file or directory of mapping files
+   * @param logger Logger to report unreadable files to
+   * @throws IOException Thrown if the path does not exist or the directory could not be listed
+   */
+  public static MemberMappings load(Path path, Logger logger) throws IOException {
+    if (!Files.exists(path))
+      throw new NoSuchFileException(path.toString());
+
+    if (!Files.isDirectory(path))
+      return new MemberMappings(Collections.singletonList(path), logger);
+
+    try (
+      Stream<Path> children = Files.list(path)
+    ) {
+      return new MemberMappings(children.filter(Files::isRegularFile).sorted().collect(Collectors.toList()), logger);
+    }
+  }
+
+  /**
+   * Make a table the one all predicates created from now on look mapped names up in
+   * @param mappings Table to activate, null to disable mapped lookups
+   */
+  public static void setActive(@Nullable MemberMappings mappings) {
+    active = mappings;
+  }
+
+  public static @Nullable MemberMappings getActive() {
+    return active;
+  }
+
+  //=========================================================================//
+  //                                  Lookup                                 //
+  //=========================================================================//
+
+  /**
+   * Look up the runtime name of a field by it's mapped name
+   * @param owner Class the field is declared in
+   * @param mappedName Name of the field within the mappings
+   * @param superclasses Whether to also look through the owner's superclasses
+   * @return Runtime name, null if unknown or ambiguous
+   */
+  public @Nullable String lookupField(Class<?> owner, String mappedName, boolean superclasses) {
+    return lookup(false, owner, mappedName, superclasses);
+  }
+
+  /**
+   * Look up the runtime name of a method by it's mapped name
+   * @param owner Class the method is declared in
+   * @param mappedName Name of the method within the mappings
+   * @param superclasses Whether to also look through the owner's superclasses
+   * @return Runtime name, null if unknown or ambiguous, like for overloads with differing names
+   */
+  public @Nullable String lookupMethod(Class<?> owner, String mappedName, boolean superclasses) {
+    return lookup(true, owner, mappedName, superclasses);
+  }
+
+  private @Nullable String lookup(boolean method, Class<?> owner, String mappedName, boolean superclasses) {
+    Index index = index();
+    Map<String, String> members = method ? index.methods : index.fields;
+
+    for (Class<?> curr = owner; curr != null; curr = superclasses ? curr.getSuperclass() : null) {
+      String name = curr.getName();
+      String obfuscatedName = index.classes.get(name);
+
+      if (obfuscatedName == null) {
+        // The runtime uses the names the mappings map from already, so there's nothing to translate
+        if (index.deobfuscatedClasses.contains(name))
+          return mappedName;
+
+        obfuscatedName = name;
+      }
+
+      String result = members.get(obfuscatedName + '.' + mappedName);
+
+      if (result != null)
+        return result.equals(AMBIGUOUS) ? null : result;
+    }
+
+    return null;
+  }
+
+  //=========================================================================//
+  //                                 Indexing                                //
+  //=========================================================================//
+
+  private Index index() {
+    Index result = index;
+
+    if (result != null)
+      return result;
+
+    synchronized (this) {
+      if (index == null) {
+        Index created = new Index();
+
+        for (Path file : files) {
+          try {
+            parse(file, created);
+          } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, e, () -> "Could not read the mapping file " + file + ", skipping it");
+          }
+        }
+
+        index = created;
+      }
+
+      return index;
+    }
+  }
+
+  private static void parse(Path file, Index index) throws IOException {
+    try (
+      BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))
+    ) {
+      String currentClass = null;
+      String line;
+
+      while ((line = reader.readLine()) != null)
+        currentClass = parseLine(line, currentClass, index);
+    }
+  }
+
+  /**
+   * Parse a line of a mapping file into the index
+   * @param line Line to parse
+   * @param currentClass Obfuscated name of the class whose members are currently listed
+   * @param index Index to parse into
+   * @return Obfuscated name of the class whose members are listed from now on
+   */
+  private static @Nullable String parseLine(String line, @Nullable String currentClass, Index index) {
+    String content = line.trim();
+
+    if (content.isEmpty() || content.startsWith("#"))
+      return currentClass;
+
+    int arrow = content.indexOf(" -> ");
+
+    // CSRG format, of which only classes are relevant, as Spigot only remaps classes at runtime
+    if (arrow < 0) {
+      String[] tokens = content.split("\\s+");
+
+      if (tokens.length == 2)
+        index.classes.put(tokens[1].replace('/', '.'), tokens[0].replace('/', '.'));
+
+      return currentClass;
+    }
+
+    // ProGuard format, where classes are listed unindented with their members below
+    String from = content.substring(0, arrow).trim();
+    String to = content.substring(arrow + 4).trim();
+
+    if (!Character.isWhitespace(line.charAt(0))) {
+      if (to.endsWith(":"))
+        to = to.substring(0, to.length() - 1);
+
+      index.deobfuscatedClasses.add(from);
+      return to;
+    }
+
+    if (currentClass == null)
+      return null;
+
+    // Methods are declared as [lines:]returnType name(parameters), fields as type name
+    int parenthesis = from.indexOf('(');
+    String declaration = parenthesis < 0 ? from : from.substring(0, parenthesis);
+    String name = declaration.substring(declaration.lastIndexOf(' ') + 1);
+
+    Map<String, String> members = parenthesis < 0 ? index.fields : index.methods;
+    members.merge(currentClass + '.' + name, to, (previous, next) -> previous.equals(next) ? previous : AMBIGUOUS);
+
+    return currentClass;
+  }
+
+  private static class Index {
+
+    // Runtime class name to obfuscated class name
+    private final Map<String, String> classes = new HashMap<>();
+
+    // Names of classes the mappings map from
+    private final Set<String> deobfuscatedClasses = new HashSet<>();
+
+    // Obfuscated class name and mapped member name to the member's runtime name
+    private final Map<String, String> fields = new HashMap<>(), methods = new HashMap<>();
+  }
+}
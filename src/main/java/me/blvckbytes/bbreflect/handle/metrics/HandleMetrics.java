@@ -0,0 +1,289 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.metrics;
+
+import me.blvckbytes.bbreflect.handle.accessor.IConstructorAccessor;
+import me.blvckbytes.bbreflect.handle.accessor.IFieldAccessor;
+import me.blvckbytes.bbreflect.handle.accessor.IMethodAccessor;
+import me.blvckbytes.bbreflect.handle.transformer.*;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of all handles which stringify to the same name, striped to not contend
+ * between threads, where the latency of only every n-th call is sampled into a histogram
+ * of power-of-two buckets, as reading the clock would otherwise dominate the cost of fast accessors
+ */
+public final class HandleMetrics {
+
+  // Marks the start of a call whose latency is not sampled
+  private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+  // One bucket per bit, where bucket n holds latencies of [2^n, 2^(n+1)) nanoseconds
+  static final int NUMBER_OF_BUCKETS = 64;
+
+  private final String name;
+  private final int samplingMask;
+
+  private final LongAdder calls, failures, sampledNanos, transformerCalls, transformerNanos;
+  private final LongAdder[] buckets;
+
+  HandleMetrics(String name, int samplingInterval) {
+    this.name = name;
+    this.samplingMask = samplingInterval - 1;
+    this.calls = new LongAdder();
+    this.failures = new LongAdder();
+    this.sampledNanos = new LongAdder();
+    this.transformerCalls = new LongAdder();
+    this.transformerNanos = new LongAdder();
+    this.buckets = new LongAdder[NUMBER_OF_BUCKETS];
+
+    for (int i = 0; i < NUMBER_OF_BUCKETS; i++)
+      this.buckets[i] = new LongAdder();
+  }
+
+  /**
+   * Take a snapshot of all counters, which are read one after the other and
+   * may thereby be slightly inconsistent while calls are still being made
+   */
+  public MetricsSnapshot snapshot() {
+    long[] histogram = new long[NUMBER_OF_BUCKETS];
+
+    for (int i = 0; i < NUMBER_OF_BUCKETS; i++)
+      histogram[i] = buckets[i].sum();
+
+    return new MetricsSnapshot(
+      name, calls.sum(), failures.sum(), sampledNanos.sum(),
+      transformerCalls.sum(), transformerNanos.sum(), histogram
+    );
+  }
+
+  /**
+   * Reset all counters back to zero
+   */
+  public void reset() {
+    calls.reset();
+    failures.reset();
+    sampledNanos.reset();
+    transformerCalls.reset();
+    transformerNanos.reset();
+
+    for (LongAdder bucket : buckets)
+      bucket.reset();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  //=========================================================================//
+  //                               Decoration                                //
+  //=========================================================================//
+
+  public IFieldAccessor meterField(IFieldAccessor accessor) {
+    return new MeteredFieldAccessor(accessor, this);
+  }
+
+  public IMethodAccessor meterMethod(IMethodAccessor accessor) {
+    return new MeteredMethodAccessor(accessor, this);
+  }
+
+  public IConstructorAccessor meterConstructor(IConstructorAccessor accessor) {
+    return new MeteredConstructorAccessor(accessor, this);
+  }
+
+  /**
+   * Decorate a response transformer to count it's calls and time, while
+   * keeping it's primitive specialization, if any
+   * @return Decorated transformer, null if the transformer is null
+   */
+  public @Nullable FResponseTransformer meterResponse(@Nullable FResponseTransformer transformer) {
+    if (transformer == null)
+      return null;
+
+    if (transformer instanceof FIntResponseTransformer) {
+      FIntResponseTransformer specialized = (FIntResponseTransformer) transformer;
+      return (FIntResponseTransformer) response -> {
+        long start = System.nanoTime();
+        try {
+          return specialized.applyAsInt(response);
+        } finally {
+          recordTransformer(start);
+        }
+      };
+    }
+
+    if (transformer instanceof FLongResponseTransformer) {
+      FLongResponseTransformer specialized = (FLongResponseTransformer) transformer;
+      return (FLongResponseTransformer) response -> {
+        long start = System.nanoTime();
+        try {
+          return specialized.applyAsLong(response);
+        } finally {
+          recordTransformer(start);
+        }
+      };
+    }
+
+    if (transformer instanceof FDoubleResponseTransformer) {
+      FDoubleResponseTransformer specialized = (FDoubleResponseTransformer) transformer;
+      return (FDoubleResponseTransformer) response -> {
+        long start = System.nanoTime();
+        try {
+          return specialized.applyAsDouble(response);
+        } finally {
+          recordTransformer(start);
+        }
+      };
+    }
+
+    return response -> {
+      long start = System.nanoTime();
+      try {
+        return transformer.apply(response);
+      } finally {
+        recordTransformer(start);
+      }
+    };
+  }
+
+  /**
+   * Decorate a value transformer to count it's calls and time, while
+   * keeping it's primitive specialization, if any
+   * @return Decorated transformer, null if the transformer is null
+   */
+  public @Nullable FValueTransformer meterValue(@Nullable FValueTransformer transformer) {
+    if (transformer == null)
+      return null;
+
+    if (transformer instanceof FIntValueTransformer) {
+      FIntValueTransformer specialized = (FIntValueTransformer) transformer;
+      return (FIntValueTransformer) input -> {
+        long start = System.nanoTime();
+        try {
+          return specialized.apply(input);
+        } finally {
+          recordTransformer(start);
+        }
+      };
+    }
+
+    if (transformer instanceof FLongValueTransformer) {
+      FLongValueTransformer specialized = (FLongValueTransformer) transformer;
+      return (FLongValueTransformer) input -> {
+        long start = System.nanoTime();
+        try {
+          return specialized.apply(input);
+        } finally {
+          recordTransformer(start);
+        }
+      };
+    }
+
+    if (transformer instanceof FDoubleValueTransformer) {
+      FDoubleValueTransformer specialized = (FDoubleValueTransformer) transformer;
+      return (FDoubleValueTransformer) input -> {
+        long start = System.nanoTime();
+        try {
+          return specialized.apply(input);
+        } finally {
+          recordTransformer(start);
+        }
+      };
+    }
+
+    return input -> {
+      long start = System.nanoTime();
+      try {
+        return transformer.apply(input);
+      } finally {
+        recordTransformer(start);
+      }
+    };
+  }
+
+  /**
+   * Decorate a call transformer to count it's calls and time
+   * @return Decorated transformer, null if the transformer is null
+   */
+  public @Nullable FCallTransformer meterCall(@Nullable FCallTransformer transformer) {
+    if (transformer == null)
+      return null;
+
+    return arguments -> {
+      long start = System.nanoTime();
+      try {
+        return transformer.apply(arguments);
+      } finally {
+        recordTransformer(start);
+      }
+    };
+  }
+
+  //=========================================================================//
+  //                                Recording                                //
+  //=========================================================================//
+
+  /**
+   * Marks the start of a call
+   * @return Start time, if this call is sampled
+   */
+  long start() {
+    if ((ThreadLocalRandom.current().nextInt() & samplingMask) != 0)
+      return NOT_SAMPLED;
+
+    return System.nanoTime();
+  }
+
+  /**
+   * Marks the end of a call
+   * @param start Value returned by {@link #start()}
+   */
+  void recordCall(long start) {
+    calls.increment();
+
+    if (start == NOT_SAMPLED)
+      return;
+
+    long nanos = Math.max(System.nanoTime() - start, 0);
+    sampledNanos.add(nanos);
+    buckets[bucketOf(nanos)].increment();
+  }
+
+  void recordFailure() {
+    failures.increment();
+  }
+
+  private void recordTransformer(long start) {
+    transformerCalls.increment();
+    transformerNanos.add(System.nanoTime() - start);
+  }
+
+  private static int bucketOf(long nanos) {
+    return nanos == 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+  }
+}
@@ -0,0 +1,274 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.bbreflect.handle.metrics;
+
+import me.blvckbytes.bbreflect.handle.accessor.IFieldAccessor;
+import org.jetbrains.annotations.Nullable;
+
+class MeteredFieldAccessor implements IFieldAccessor {
+
+  private final IFieldAccessor delegate;
+  private final HandleMetrics metrics;
+
+  MeteredFieldAccessor(IFieldAccessor delegate, HandleMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public @Nullable Object get(@Nullable Object target) throws Exception {
+    long start = metrics.start();
+    try {
+      return delegate.get(target);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public void set(@Nullable Object target, @Nullable Object value) throws Exception {
+    long start = metrics.start();
+    try {
+      delegate.set(target, value);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public boolean getBoolean(@Nullable Object target) throws Exception {
+    long start = metrics.start();
+    try {
+      return delegate.getBoolean(target);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public void setBoolean(@Nullable Object target, boolean value) throws Exception {
+    long start = metrics.start();
+    try {
+      delegate.setBoolean(target, value);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public byte getByte(@Nullable Object target) throws Exception {
+    long start = metrics.start();
+    try {
+      return delegate.getByte(target);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public void setByte(@Nullable Object target, byte value) throws Exception {
+    long start = metrics.start();
+    try {
+      delegate.setByte(target, value);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public char getChar(@Nullable Object target) throws Exception {
+    long start = metrics.start();
+    try {
+      return delegate.getChar(target);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public void setChar(@Nullable Object target, char value) throws Exception {
+    long start = metrics.start();
+    try {
+      delegate.setChar(target, value);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public short getShort(@Nullable Object target) throws Exception {
+    long start = metrics.start();
+    try {
+      return delegate.getShort(target);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public void setShort(@Nullable Object target, short value) throws Exception {
+    long start = metrics.start();
+    try {
+      delegate.setShort(target, value);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public int getInt(@Nullable Object target) throws Exception {
+    long start = metrics.start();
+    try {
+      return delegate.getInt(target);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public void setInt(@Nullable Object target, int value) throws Exception {
+    long start = metrics.start();
+    try {
+      delegate.setInt(target, value);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public long getLong(@Nullable Object target) throws Exception {
+    long start = metrics.start();
+    try {
+      return delegate.getLong(target);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public void setLong(@Nullable Object target, long value) throws Exception {
+    long start = metrics.start();
+    try {
+      delegate.setLong(target, value);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public float getFloat(@Nullable Object target) throws Exception {
+    long start = metrics.start();
+    try {
+      return delegate.getFloat(target);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public void setFloat(@Nullable Object target, float value) throws Exception {
+    long start = metrics.start();
+    try {
+      delegate.setFloat(target, value);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public double getDouble(@Nullable Object target) throws Exception {
+    long start = metrics.start();
+    try {
+      return delegate.getDouble(target);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public void setDouble(@Nullable Object target, double value) throws Exception {
+    long start = metrics.start();
+    try {
+      delegate.setDouble(target, value);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package me.blvckbytes.bbreflect.handle.metrics;
+
+import me.blvckbytes.bbreflect.handle.accessor.IMethodAccessor;
+import org.jetbrains.annotations.Nullable;
+
+class MeteredMethodAccessor implements IMethodAccessor {
+
+  private final IMethodAccessor delegate;
+  private final HandleMetrics metrics;
+
+  MeteredMethodAccessor(IMethodAccessor delegate, HandleMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public @Nullable Object invoke(@Nullable Object target, Object[] args) throws Exception {
+    long start = metrics.start();
+    try {
+      return delegate.invoke(target, args);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public @Nullable Object invoke0(@Nullable Object target) throws Exception {
+    long start = metrics.start();
+    try {
+      return delegate.invoke0(target);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public @Nullable Object invoke1(@Nullable Object target, Object a) throws Exception {
+    long start = metrics.start();
+    try {
+      return delegate.invoke1(target, a);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public @Nullable Object invoke2(@Nullable Object target, Object a, Object b) throws Exception {
+    long start = metrics.start();
+    try {
+      return delegate.invoke2(target, a, b);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public @Nullable Object invoke3(@Nullable Object target, Object a, Object b, Object c) throws Exception {
+    long start = metrics.start();
+    try {
+      return delegate.invoke3(target, a, b, c);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+
+  @Override
+  public @Nullable Object invoke4(@Nullable Object target, Object a, Object b, Object c, Object d) throws Exception {
+    long start = metrics.start();
+    try {
+      return delegate.invoke4(target, a, b, c, d);
+    } catch (Throwable t) {
+      metrics.recordFailure();
+      throw t;
+    } finally {
+      metrics.recordCall(start);
+    }
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.metrics;
+
+import me.blvckbytes.bbreflect.handle.AHandle;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the metrics of all handles, which are only collected for handles created while the
+ * registry is enabled; all others keep their undecorated accessors and thereby pay no cost at all
+ */
+public final class MetricsRegistry {
+
+  private static final Map<String, HandleMetrics> metrics = new ConcurrentHashMap<>();
+
+  private static volatile boolean enabled = Boolean.getBoolean("bbreflect.metrics");
+  private static volatile int samplingInterval = 16;
+
+  private MetricsRegistry() {}
+
+  /**
+   * Enable or disable collecting metrics of handles created from now on,
+   * which can also be enabled by the system property bbreflect.metrics
+   * @param enabled Whether to collect metrics
+   */
+  public static void setEnabled(boolean enabled) {
+    MetricsRegistry.enabled = enabled;
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Set how often the latency of calls is sampled for handles created from now on
+   * @param samplingInterval Sample every n-th call on average, where n is a power of two
+   * @throws IllegalArgumentException Thrown if the interval is not a positive power of two
+   */
+  public static void setSamplingInterval(int samplingInterval) throws IllegalArgumentException {
+    if (samplingInterval <= 0 || Integer.bitCount(samplingInterval) != 1)
+      throw new IllegalArgumentException("The sampling interval has to be a positive power of two, but got " + samplingInterval);
+
+    MetricsRegistry.samplingInterval = samplingInterval;
+  }
+
+  /**
+   * Get the metrics a newly created handle is to record into, where all handles
+   * of the same string representation share their metrics
+   * @param handle Handle to register, which needs to be able to stringify itself
+   * @return Metrics to record into, null if metrics are disabled
+   */
+  public static @Nullable HandleMetrics register(AHandle<?> handle) {
+    if (!enabled)
+      return null;
+
+    return metrics.computeIfAbsent(handle.toString(), name -> new HandleMetrics(name, samplingInterval));
+  }
+
+  /**
+   * Get the metrics of a handle by it's string representation
+   * @param name Result of the handle's toString
+   * @return Metrics, null if the handle hasn't been registered
+   */
+  public static @Nullable HandleMetrics get(String name) {
+    return metrics.get(name);
+  }
+
+  /**
+   * Take a snapshot of the metrics of all registered handles
+   * @return Snapshots keyed by the handle's string representation, sorted by key
+   */
+  public static Map<String, MetricsSnapshot> snapshot() {
+    Map<String, MetricsSnapshot> result = new TreeMap<>();
+
+    for (HandleMetrics entry : metrics.values())
+      result.put(entry.getName(), entry.snapshot());
+
+    return result;
+  }
+
+  /**
+   * Reset the counters of all registered handles back to zero
+   */
+  public static void reset() {
+    for (HandleMetrics entry : metrics.values())
+      entry.reset();
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.metrics;
+
+public final class MetricsSnapshot {
+
+  private final String name;
+  private final long calls, failures, sampledNanos, transformerCalls, transformerNanos;
+
+  // Sampled calls per power-of-two latency bucket
+  private final long[] histogram;
+  private final long sampledCalls;
+
+  MetricsSnapshot(String name, long calls, long failures, long sampledNanos, long transformerCalls, long transformerNanos, long[] histogram) {
+    this.name = name;
+    this.calls = calls;
+    this.failures = failures;
+    this.sampledNanos = sampledNanos;
+    this.transformerCalls = transformerCalls;
+    this.transformerNanos = transformerNanos;
+    this.histogram = histogram;
+
+    long sampledCalls = 0;
+    for (long count : histogram)
+      sampledCalls += count;
+
+    this.sampledCalls = sampledCalls;
+  }
+
+  /**
+   * Name of the handle, as returned by it's toString
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Number of calls made through the handle's accessor, including failed ones
+   */
+  public long getCalls() {
+    return calls;
+  }
+
+  /**
+   * Number of calls which threw an exception
+   */
+  public long getFailures() {
+    return failures;
+  }
+
+  /**
+   * Number of calls whose latency has been sampled
+   */
+  public long getSampledCalls() {
+    return sampledCalls;
+  }
+
+  /**
+   * Mean latency of all sampled calls in nanoseconds, zero if none have been sampled
+   */
+  public double getMeanNanos() {
+    return sampledCalls == 0 ? 0 : (double) sampledNanos / sampledCalls;
+  }
+
+  /**
+   * Estimated total time spent within the accessor in nanoseconds, extrapolated from the samples
+   */
+  public double getEstimatedTotalNanos() {
+    return getMeanNanos() * calls;
+  }
+
+  /**
+   * Upper bound of the latency which the specified percentage of sampled calls didn't exceed,
+   * with the precision of the power-of-two buckets, zero if none have been sampled
+   * @param percentile Percentile between 0 and 100
+   */
+  public long getPercentileNanos(double percentile) {
+    if (sampledCalls == 0)
+      return 0;
+
+    long threshold = (long) Math.ceil(sampledCalls * Math.min(Math.max(percentile, 0), 100) / 100);
+    long seen = 0;
+
+    for (int i = 0; i < histogram.length; i++) {
+      seen += histogram[i];
+
+      if (seen >= threshold && seen > 0)
+        return i >= 62 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+    }
+
+    return Long.MAX_VALUE;
+  }
+
+  /**
+   * Number of calls made to the handle's transformers
+   */
+  public long getTransformerCalls() {
+    return transformerCalls;
+  }
+
+  /**
+   * Total time spent within the handle's transformers in nanoseconds
+   */
+  public long getTransformerNanos() {
+    return transformerNanos;
+  }
+
+  /**
+   * Get the number of sampled calls per bucket, where bucket n holds latencies of [2^n, 2^(n+1)) nanoseconds
+   */
+  public long[] getHistogram() {
+    return histogram.clone();
+  }
+
+  @Override
+  public String toString() {
+    return name + "{" +
+      "calls=" + calls +
+      ", failures=" + failures +
+      ", meanNanos=" + Math.round(getMeanNanos()) +
+      ", p99Nanos=" + getPercentileNanos(99) +
+      ", transformerCalls=" + transformerCalls +
+      ", transformerNanos=" + transformerNanos +
+      "}";
+  }
+}
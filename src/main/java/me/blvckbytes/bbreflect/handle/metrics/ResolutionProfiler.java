@@ -0,0 +1,204 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.metrics;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Profiler of resolutions, which records the wall time, the hierarchy walks, the fallbacks tried
+ * and the winner of each class and predicate resolved while it's enabled, in order to find those
+ * which cost the most at startup. Resolutions are tracked per thread, so that concurrent ones
+ * don't mix up their counters; nested resolutions are recorded on their own as well.
+ */
+public final class ResolutionProfiler {
+
+  public static final String KIND_CLASS = "class", KIND_PREDICATE = "predicate", KIND_BATCH = "batch";
+
+  private static final Queue<ResolutionRecord> records = new ConcurrentLinkedQueue<>();
+  private static final ThreadLocal<Deque<Frame>> frames = new ThreadLocal<>();
+
+  private static volatile boolean enabled = Boolean.getBoolean("bbreflect.profile");
+
+  private ResolutionProfiler() {}
+
+  /**
+   * Enable or disable profiling resolutions started from now on,
+   * which can also be enabled by the system property bbreflect.profile
+   * @param enabled Whether to profile
+   */
+  public static void setEnabled(boolean enabled) {
+    ResolutionProfiler.enabled = enabled;
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Begin profiling a resolution on the current thread, which has to be ended by the caller
+   * @param kind Kind of resolution, see the KIND_ constants
+   * @param label Name of the resolution, which predicates replace by the description of their first lookup
+   * @return Frame to end, null if profiling is disabled
+   */
+  public static @Nullable Frame begin(String kind, String label) {
+    if (!enabled)
+      return null;
+
+    Deque<Frame> stack = frames.get();
+
+    if (stack == null) {
+      stack = new ArrayDeque<>();
+      frames.set(stack);
+    }
+
+    Frame frame = new Frame(kind, label, stack.size());
+    stack.push(frame);
+    return frame;
+  }
+
+  /**
+   * Record that another fallback builder is being tried by the current resolution
+   */
+  public static void recordAttempt() {
+    Frame frame = current();
+
+    if (frame != null)
+      ++frame.attempts;
+  }
+
+  /**
+   * Record a walk over the class hierarchy made by the current resolution
+   * @param levels Number of classes whose members have been visited
+   * @param members Number of candidate members predicates have been evaluated on
+   */
+  public static void recordWalk(int levels, int members) {
+    Frame frame = current();
+
+    if (frame == null)
+      return;
+
+    frame.levelsWalked += levels;
+    frame.membersScanned += members;
+  }
+
+  /**
+   * Record the outcome of looking up a described predicate within the current resolution
+   * @param description Description of the predicate
+   * @param found Whether the predicate matched a member
+   * @param cached Whether the member has been served by the resolution cache
+   */
+  public static void recordLookup(String description, boolean found, boolean cached) {
+    Frame frame = current();
+
+    if (frame == null)
+      return;
+
+    if (frame.primary == null)
+      frame.primary = description;
+
+    if (cached)
+      ++frame.cacheHits;
+
+    if (found && frame.winner == null) {
+      frame.winner = description;
+      frame.winningAttempt = frame.attempts;
+    }
+  }
+
+  /**
+   * Take a report of all resolutions recorded so far
+   */
+  public static ResolutionReport report() {
+    return new ResolutionReport(new ArrayList<>(records));
+  }
+
+  /**
+   * Drop all resolutions recorded so far
+   */
+  public static void reset() {
+    records.clear();
+  }
+
+  private static @Nullable Frame current() {
+    if (!enabled)
+      return null;
+
+    Deque<Frame> stack = frames.get();
+    return stack == null ? null : stack.peek();
+  }
+
+  public static final class Frame {
+
+    private final String kind, label;
+    private final int depth;
+    private final long start;
+
+    private int attempts, winningAttempt, levelsWalked, membersScanned, cacheHits;
+    private @Nullable String primary, winner;
+
+    private Frame(String kind, String label, int depth) {
+      this.kind = kind;
+      this.label = label;
+      this.depth = depth;
+      this.attempts = 1;
+      this.start = System.nanoTime();
+    }
+
+    /**
+     * End profiling this resolution and record it
+     * @param found Whether the resolution found it's result
+     * @param winner Description of the result, null to use the description of the first lookup which found it
+     */
+    public void end(boolean found, @Nullable String winner) {
+      long nanos = System.nanoTime() - start;
+      Deque<Frame> stack = frames.get();
+
+      if (stack != null) {
+        stack.remove(this);
+
+        if (stack.isEmpty())
+          frames.remove();
+      }
+
+      String name = kind.equals(KIND_PREDICATE) && primary != null ? primary : label;
+
+      // Results which haven't been described by any lookup are reported under the resolution's name
+      String result = !found ? null : winner != null ? winner : this.winner != null ? this.winner : name;
+      int resultAttempt = !found ? 0 : winner != null || this.winner == null ? attempts : winningAttempt;
+
+      records.add(new ResolutionRecord(
+        kind, name, depth, nanos,
+        attempts, resultAttempt, levelsWalked, membersScanned, cacheHits,
+        result
+      ));
+    }
+  }
+}
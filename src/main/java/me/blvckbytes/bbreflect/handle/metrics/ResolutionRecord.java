@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.metrics;
+
+import org.jetbrains.annotations.Nullable;
+
+public final class ResolutionRecord {
+
+  private final String kind, name;
+  private final int depth;
+  private final long nanos;
+  private final int attempts, winningAttempt, levelsWalked, membersScanned, cacheHits;
+  private final @Nullable String winner;
+
+  ResolutionRecord(
+    String kind, String name, int depth, long nanos,
+    int attempts, int winningAttempt, int levelsWalked, int membersScanned, int cacheHits,
+    @Nullable String winner
+  ) {
+    this.kind = kind;
+    this.name = name;
+    this.depth = depth;
+    this.nanos = nanos;
+    this.attempts = attempts;
+    this.winningAttempt = winningAttempt;
+    this.levelsWalked = levelsWalked;
+    this.membersScanned = membersScanned;
+    this.cacheHits = cacheHits;
+    this.winner = winner;
+  }
+
+  /**
+   * Kind of resolution, see the KIND_ constants of {@link ResolutionProfiler}
+   */
+  public String getKind() {
+    return kind;
+  }
+
+  /**
+   * Name of the resolution, which is the description of it's first lookup for predicates
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Number of resolutions this resolution has been nested in on it's thread
+   */
+  public int getDepth() {
+    return depth;
+  }
+
+  /**
+   * Wall time of the resolution in nanoseconds, including nested resolutions
+   */
+  public long getNanos() {
+    return nanos;
+  }
+
+  /**
+   * Number of builders tried, which is the primary builder and all fallbacks tried
+   */
+  public int getAttempts() {
+    return attempts;
+  }
+
+  public int getFallbacksTried() {
+    return attempts - 1;
+  }
+
+  /**
+   * One-based number of the attempt which found the result, zero if none did
+   */
+  public int getWinningAttempt() {
+    return winningAttempt;
+  }
+
+  /**
+   * Number of classes within the hierarchy whose members have been visited
+   */
+  public int getLevelsWalked() {
+    return levelsWalked;
+  }
+
+  /**
+   * Number of candidate members predicates have been evaluated on
+   */
+  public int getMembersScanned() {
+    return membersScanned;
+  }
+
+  /**
+   * Number of lookups which have been served by the active resolution cache
+   */
+  public int getCacheHits() {
+    return cacheHits;
+  }
+
+  /**
+   * Description of what has been found, null if the resolution missed
+   */
+  public @Nullable String getWinner() {
+    return winner;
+  }
+
+  public boolean isFound() {
+    return winner != null;
+  }
+
+  @Override
+  public String toString() {
+    return kind + " " + name + "{" +
+      "nanos=" + nanos +
+      ", attempts=" + attempts +
+      ", winningAttempt=" + winningAttempt +
+      ", levelsWalked=" + levelsWalked +
+      ", membersScanned=" + membersScanned +
+      ", cacheHits=" + cacheHits +
+      ", winner=" + winner +
+      "}";
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.metrics;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Report of the resolutions recorded by the {@link ResolutionProfiler}, which can be summarized
+ * for humans or exported as JSON for tooling, in order to decide which predicates to pin or cache
+ */
+public final class ResolutionReport {
+
+  private final List<ResolutionRecord> records;
+
+  ResolutionReport(List<ResolutionRecord> records) {
+    this.records = Collections.unmodifiableList(records);
+  }
+
+  /**
+   * Get all recorded resolutions in the order they completed in
+   */
+  public List<ResolutionRecord> getRecords() {
+    return records;
+  }
+
+  /**
+   * Total wall time of all resolutions which haven't been nested in another one, in nanoseconds
+   */
+  public long getTotalNanos() {
+    long total = 0;
+
+    for (ResolutionRecord record : records) {
+      if (record.getDepth() == 0)
+        total += record.getNanos();
+    }
+
+    return total;
+  }
+
+  /**
+   * Get the resolutions which took the longest
+   * @param limit Maximum number of resolutions to get
+   * @return Resolutions ordered by descending wall time
+   */
+  public List<ResolutionRecord> getSlowest(int limit) {
+    List<ResolutionRecord> result = new ArrayList<>(records);
+    result.sort(Comparator.comparingLong(ResolutionRecord::getNanos).reversed());
+    return result.subList(0, Math.min(Math.max(limit, 0), result.size()));
+  }
+
+  /**
+   * Summarize the totals and the slowest resolutions in a human readable format
+   * @param limit Maximum number of resolutions to list
+   */
+  public String summarize(int limit) {
+    int fallbacks = 0, members = 0, misses = 0;
+
+    for (ResolutionRecord record : records) {
+      fallbacks += record.getFallbacksTried();
+      members += record.getMembersScanned();
+
+      if (!record.isFound())
+        ++misses;
+    }
+
+    StringBuilder result = new StringBuilder();
+
+    result.append(String.format(
+      "%d resolutions took %.2fms, scanning %d members, trying %d fallbacks and missing %d times%n",
+      records.size(), getTotalNanos() / 1_000_000D, members, fallbacks, misses
+    ));
+
+    for (ResolutionRecord record : getSlowest(limit)) {
+      result.append(String.format(
+        "%8.3fms %-9s %s (attempts=%d, members=%d, cached=%d) -> %s%n",
+        record.getNanos() / 1_000_000D, record.getKind(), record.getName(), record.getAttempts(),
+        record.getMembersScanned(), record.getCacheHits(), record.isFound() ? record.getWinner() : "miss"
+      ));
+    }
+
+    return result.toString();
+  }
+
+  /**
+   * Export all recorded resolutions as a JSON object
+   */
+  public String toJson() {
+    StringBuilder result = new StringBuilder();
+
+    result.append("{\"totalNanos\":").append(getTotalNanos()).append(",\"resolutions\":[");
+
+    for (int i = 0; i < records.size(); i++) {
+      ResolutionRecord record = records.get(i);
+
+      if (i > 0)
+        result.append(',');
+
+      result.append("{\"kind\":");
+      appendJsonString(result, record.getKind());
+      result.append(",\"name\":");
+      appendJsonString(result, record.getName());
+      result.append(",\"depth\":").append(record.getDepth());
+      result.append(",\"nanos\":").append(record.getNanos());
+      result.append(",\"attempts\":").append(record.getAttempts());
+      result.append(",\"winningAttempt\":").append(record.getWinningAttempt());
+      result.append(",\"levelsWalked\":").append(record.getLevelsWalked());
+      result.append(",\"membersScanned\":").append(record.getMembersScanned());
+      result.append(",\"cacheHits\":").append(record.getCacheHits());
+      result.append(",\"winner\":");
+      appendJsonString(result, record.getWinner());
+      result.append('}');
+    }
+
+    return result.append("]}").toString();
+  }
+
+  private static void appendJsonString(StringBuilder result, @Nullable String value) {
+    if (value == null) {
+      result.append("null");
+      return;
+    }
+
+    result.append('"');
+
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+
+      if (c == '"' || c == '\\')
+        result.append('\\').append(c);
+      else if (c < 0x20)
+        result.append(String.format("\\u%04x", (int) c));
+      else
+        result.append(c);
+    }
+
+    result.append('"');
+  }
+
+  @Override
+  public String toString() {
+    return summarize(10);
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.mirror;
+
+import me.blvckbytes.bbreflect.handle.FieldHandle;
+import me.blvckbytes.bbreflect.handle.MethodHandle;
+
+/**
+ * Base of all generated mirror implementations, which holds their state
+ * and is only public as the generated classes are not within this package
+ */
+public abstract class AMirror implements IMirror {
+
+  private final Class<?> owner;
+
+  // Bound members, addressed by their index within the generated code
+  protected final FieldHandle[] fields;
+  protected final MethodHandle[] methods;
+
+  // Always an instance of the owner, as generated code accesses it without checks
+  protected Object target;
+
+  protected AMirror(Class<?> owner, FieldHandle[] fields, MethodHandle[] methods, Object target) {
+    this.owner = owner;
+    this.fields = fields;
+    this.methods = methods;
+    this.target = checkTarget(target);
+  }
+
+  @Override
+  public void retarget(Object target) throws IllegalArgumentException {
+    this.target = checkTarget(target);
+  }
+
+  @Override
+  public Object getTarget() {
+    return target;
+  }
+
+  /**
+   * Checks whether a value is assignable to a bound field, before it's written through it's offset
+   * @param value Value to write
+   * @param fieldIndex Index of the bound field
+   * @return Value to write
+   * @throws IllegalArgumentException Thrown if the value is not assignable to the field
+   */
+  protected Object checkValue(Object value, int fieldIndex) throws IllegalArgumentException {
+    Class<?> type = fields[fieldIndex].getHandle().getType();
+
+    if (value != null && !type.isInstance(value))
+      throw new IllegalArgumentException("Cannot assign a value of " + value.getClass() + " to a field of " + type);
+
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getInterfaces()[0].getName() + "{target=" + target + "}";
+  }
+
+  private Object checkTarget(Object target) {
+    if (!owner.isInstance(target))
+      throw new IllegalArgumentException("Expected an instance of " + owner + ", but got " + (target == null ? null : target.getClass()));
+
+    return target;
+  }
+}
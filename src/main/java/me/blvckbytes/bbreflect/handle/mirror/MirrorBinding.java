@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.mirror;
+
+import java.lang.reflect.Method;
+
+class MirrorBinding {
+
+  enum Kind {
+    GETTER,
+    SETTER,
+    METHOD
+  }
+
+  final Method method;
+  final Kind kind;
+
+  // Index of the bound field or method handle, based on the kind
+  final int index;
+
+  /**
+   * Create a new binding of a mirror method to a member of the mirrored class
+   * @param method Method of the mirror interface
+   * @param kind Kind of access the method performs
+   * @param index Index of the bound member within the mirror's field or method handles
+   */
+  MirrorBinding(Method method, Kind kind, int index) {
+    this.method = method;
+    this.kind = kind;
+    this.index = index;
+  }
+}
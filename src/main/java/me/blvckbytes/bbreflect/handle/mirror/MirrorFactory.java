@@ -0,0 +1,331 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.mirror;
+
+import me.blvckbytes.bbreflect.Primitives;
+import me.blvckbytes.bbreflect.RClass;
+import me.blvckbytes.bbreflect.handle.ClassHandle;
+import me.blvckbytes.bbreflect.handle.FieldHandle;
+import me.blvckbytes.bbreflect.handle.MethodHandle;
+import me.blvckbytes.bbreflect.handle.predicate.Assignability;
+import me.blvckbytes.bbreflect.handle.predicate.FieldPredicateBuilder;
+import me.blvckbytes.bbreflect.handle.predicate.MethodPredicateBuilder;
+import me.blvckbytes.bbreflect.version.ServerVersion;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+/**
+ * Resolves all members a mirror interface is annotated with once and creates mirrors of the
+ * interface, which access instances of the mirrored class without any further lookups. Mirror
+ * methods may declare to throw Exception, as accessing the target is allowed to fail.
+ */
+public class MirrorFactory<M> {
+
+  private final Class<M> mirrorType;
+  private final ClassHandle owner;
+  private final FieldHandle[] fields;
+  private final MethodHandle[] methods;
+  private final MirrorBinding[] bindings;
+
+  // (Object)Object constructor of the generated class, null if the proxy fallback is used
+  private final @Nullable java.lang.invoke.MethodHandle constructor;
+
+  /**
+   * Create a new factory of mirrors on the specified class
+   * @param mirrorType Interface whose abstract methods are bound to members of the owner
+   * @param owner Class whose instances are mirrored
+   * @throws IllegalArgumentException Thrown if the mirror type is not an interface or one of it's methods cannot be bound
+   * @throws NoSuchElementException Thrown if the member of an annotation could not be located
+   */
+  public MirrorFactory(Class<M> mirrorType, ClassHandle owner) throws IllegalArgumentException, NoSuchElementException {
+    if (!mirrorType.isInterface())
+      throw new IllegalArgumentException("Mirrors can only be created on interfaces, but got " + mirrorType);
+
+    this.mirrorType = mirrorType;
+    this.owner = owner;
+
+    List<FieldHandle> fields = new ArrayList<>();
+    List<MethodHandle> methods = new ArrayList<>();
+    List<MirrorBinding> bindings = new ArrayList<>();
+
+    for (Method method : mirrorType.getMethods()) {
+      if (method.isDefault() || Modifier.isStatic(method.getModifiers()) || method.getDeclaringClass() == IMirror.class)
+        continue;
+
+      bindings.add(bind(method, fields, methods));
+    }
+
+    this.fields = fields.toArray(new FieldHandle[0]);
+    this.methods = methods.toArray(new MethodHandle[0]);
+    this.bindings = bindings.toArray(new MirrorBinding[0]);
+
+    Class<?> generated = MirrorGenerator.generateMirror(mirrorType, owner.getHandle(), this.fields, this.bindings);
+    this.constructor = generated == null ? null : findConstructor(generated);
+  }
+
+  /**
+   * Create a new mirror on an instance of the mirrored class, which also implements {@link IMirror}
+   * @param target Instance to access
+   * @throws IllegalArgumentException Thrown if the target is not an instance of the mirrored class
+   */
+  public M wrap(Object target) throws IllegalArgumentException {
+    if (constructor == null) {
+      MirrorInvocationHandler handler = new MirrorInvocationHandler(mirrorType, owner.getHandle(), fields, methods, bindings, target);
+      return mirrorType.cast(Proxy.newProxyInstance(mirrorType.getClassLoader(), new Class<?>[] { mirrorType, IMirror.class }, handler));
+    }
+
+    try {
+      return mirrorType.cast((Object) constructor.invokeExact(target));
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException("Could not instantiate a mirror of " + mirrorType, t);
+    }
+  }
+
+  public Class<M> getMirrorType() {
+    return mirrorType;
+  }
+
+  public ClassHandle getOwner() {
+    return owner;
+  }
+
+  /**
+   * Whether mirrors are instances of a generated class, as opposed to proxies
+   */
+  public boolean isGenerated() {
+    return constructor != null;
+  }
+
+  /**
+   * Binds a method of the mirror interface to a member of the owner
+   * @param method Method to bind
+   * @param fields Field handles bound so far, which are appended to
+   * @param methods Method handles bound so far, which are appended to
+   */
+  private MirrorBinding bind(Method method, List<FieldHandle> fields, List<MethodHandle> methods) throws IllegalArgumentException, NoSuchElementException {
+    MirrorMethod[] methodAnnotations = method.getAnnotationsByType(MirrorMethod.class);
+    MirrorField[] fieldAnnotations = method.getAnnotationsByType(MirrorField.class);
+
+    if (methodAnnotations.length > 0 && fieldAnnotations.length > 0)
+      throw new IllegalArgumentException("The mirror method " + method + " cannot be bound to both a field and a method");
+
+    if (methodAnnotations.length > 0) {
+      MethodHandle handle = resolveMethod(method, methodAnnotations);
+      methods.add(handle);
+      return new MirrorBinding(method, MirrorBinding.Kind.METHOD, methods.size() - 1);
+    }
+
+    Class<?>[] parameterTypes = method.getParameterTypes();
+    boolean isGetter = parameterTypes.length == 0 && method.getReturnType() != void.class;
+    boolean isSetter = parameterTypes.length == 1 && method.getReturnType() == void.class;
+
+    if (!isGetter && !isSetter)
+      throw new IllegalArgumentException("The mirror method " + method + " is neither a getter nor a setter");
+
+    Class<?> valueType = isGetter ? method.getReturnType() : parameterTypes[0];
+
+    // Setters without annotations write the field their getter reads
+    if (fieldAnnotations.length == 0 && isSetter) {
+      try {
+        fieldAnnotations = mirrorType.getMethod(method.getName()).getAnnotationsByType(MirrorField.class);
+      } catch (NoSuchMethodException ignored) {}
+    }
+
+    if (fieldAnnotations.length == 0)
+      throw new IllegalArgumentException("The mirror method " + method + " is not annotated");
+
+    FieldHandle handle = resolveField(method, valueType, fieldAnnotations);
+    Class<?> fieldType = handle.getHandle().getType();
+
+    if (isGetter ? !isConvertible(fieldType, valueType) : !isConvertible(valueType, fieldType))
+      throw new IllegalArgumentException("The mirror method " + method + " cannot access the field " + handle.getHandle());
+
+    int index = fields.indexOf(handle);
+
+    if (index < 0) {
+      fields.add(handle);
+      index = fields.size() - 1;
+    }
+
+    return new MirrorBinding(method, isGetter ? MirrorBinding.Kind.GETTER : MirrorBinding.Kind.SETTER, index);
+  }
+
+  private FieldHandle resolveField(Method method, Class<?> valueType, MirrorField[] annotations) throws NoSuchElementException {
+    FieldPredicateBuilder builder = null;
+
+    for (MirrorField annotation : annotations) {
+      if (!isInVersionRange(annotation.minVersion(), annotation.maxVersion()))
+        continue;
+
+      FieldPredicateBuilder current = owner.locateField()
+        .withStatic(false)
+        .withAllowSuperclass(annotation.allowSuperclass())
+        .withSkip(annotation.skip());
+
+      if (!annotation.name().isEmpty())
+        current.withName(annotation.name());
+
+      Class<?> type = resolveType(annotation.classType(), annotation.type());
+
+      if (type != null)
+        current.withType(type, annotation.allowBoxing(), annotation.assignability());
+
+      // Derive the type from the value, where Object matches any type
+      else if (valueType != Object.class)
+        current.withType(valueType, isBoxable(valueType), isBoxable(valueType) ? Assignability.NONE : Assignability.TYPE_TO_TARGET);
+
+      if (builder == null)
+        builder = current;
+      else
+        builder.orElse(() -> current);
+    }
+
+    if (builder == null)
+      throw new NoSuchElementException("No annotation of the mirror method " + method + " applies to " + owner.getVersion());
+
+    return builder.required();
+  }
+
+  private MethodHandle resolveMethod(Method method, MirrorMethod[] annotations) throws NoSuchElementException {
+    MethodPredicateBuilder builder = null;
+    Class<?> returnType = method.getReturnType();
+
+    for (MirrorMethod annotation : annotations) {
+      if (!isInVersionRange(annotation.minVersion(), annotation.maxVersion()))
+        continue;
+
+      MethodPredicateBuilder current = owner.locateMethod()
+        .withStatic(false)
+        .withAllowSuperclass(annotation.allowSuperclass())
+        .withSkip(annotation.skip());
+
+      if (!annotation.name().isEmpty())
+        current.withName(annotation.name());
+
+      Class<?> type = resolveType(annotation.classReturnType(), annotation.returnType());
+
+      if (type != null)
+        current.withReturnType(type, annotation.allowBoxing(), annotation.assignability());
+
+      else if (returnType != void.class && returnType != Object.class)
+        current.withReturnType(returnType, isBoxable(returnType), isBoxable(returnType) ? Assignability.NONE : Assignability.TYPE_TO_TARGET);
+
+      // Parameters are passed as-is, where Object matches any reference type
+      for (Class<?> parameterType : method.getParameterTypes()) {
+        if (parameterType == Object.class)
+          current.withParameter(parameterType, false, Assignability.TYPE_TO_TARGET);
+        else
+          current.withParameter(parameterType, isBoxable(parameterType), isBoxable(parameterType) ? Assignability.NONE : Assignability.TARGET_TO_TYPE);
+      }
+
+      if (builder == null)
+        builder = current;
+      else
+        builder.orElse(() -> current);
+    }
+
+    if (builder == null)
+      throw new NoSuchElementException("No annotation of the mirror method " + method + " applies to " + owner.getVersion());
+
+    MethodHandle handle = builder.required();
+
+    if (returnType != void.class && !isConvertible(handle.getHandle().getReturnType(), returnType))
+      throw new IllegalArgumentException("The mirror method " + method + " cannot return the result of " + handle.getHandle());
+
+    return handle;
+  }
+
+  /**
+   * Resolves the explicitly specified type of an annotation, where the version dependent class takes precedence
+   * @return Resolved type, null if none has been specified
+   * @throws NoSuchElementException Thrown if the version dependent class is not available
+   */
+  private @Nullable Class<?> resolveType(RClass[] classType, Class<?>[] type) throws NoSuchElementException {
+    if (classType.length > 0) {
+      try {
+        return classType[0].resolve(owner.getVersion()).getHandle();
+      } catch (ClassNotFoundException e) {
+        throw new NoSuchElementException("Could not resolve the class " + classType[0]);
+      }
+    }
+
+    return type.length > 0 ? type[0] : null;
+  }
+
+  private boolean isInVersionRange(ServerVersion[] minVersion, ServerVersion[] maxVersion) {
+    ServerVersion version = owner.getVersion();
+    return (minVersion.length == 0 || version.compare(minVersion[0]) >= 0) && (maxVersion.length == 0 || version.compare(maxVersion[0]) <= 0);
+  }
+
+  /**
+   * Checks whether a type is either primitive or the wrapper of a primitive
+   */
+  private static boolean isBoxable(Class<?> type) {
+    return Primitives.unwrap(type).isPrimitive();
+  }
+
+  /**
+   * Checks whether a value of one type can be converted into another type by
+   * boxing, unboxing or casting, which may still fail at runtime
+   */
+  private static boolean isConvertible(Class<?> from, Class<?> to) {
+    if (from == to)
+      return true;
+
+    if (from.isPrimitive() && to.isPrimitive())
+      return false;
+
+    if (from.isPrimitive())
+      return to.isAssignableFrom(Primitives.wrap(from));
+
+    if (to.isPrimitive())
+      return from.isAssignableFrom(Primitives.wrap(to));
+
+    return from.isAssignableFrom(to) || to.isAssignableFrom(from) || from.isInterface() || to.isInterface();
+  }
+
+  /**
+   * Looks up the constructor of a generated mirror class and binds all arguments but the target
+   */
+  private @Nullable java.lang.invoke.MethodHandle findConstructor(Class<?> generated) {
+    try {
+      java.lang.invoke.MethodHandle constructor = java.lang.invoke.MethodHandles.publicLookup().findConstructor(generated, MethodType.methodType(
+        void.class, Class.class, FieldHandle[].class, MethodHandle[].class, Object.class
+      ));
+
+      constructor = java.lang.invoke.MethodHandles.insertArguments(constructor, 0, owner.getHandle(), fields, methods);
+      return constructor.asType(MethodType.methodType(Object.class, Object.class));
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+}
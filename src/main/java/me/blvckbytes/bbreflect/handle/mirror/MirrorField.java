@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.mirror;
+
+import me.blvckbytes.bbreflect.RClass;
+import me.blvckbytes.bbreflect.handle.predicate.Assignability;
+import me.blvckbytes.bbreflect.version.ServerVersion;
+
+import java.lang.annotation.*;
+
+/**
+ * Binds a getter - no parameters, returning the value - or a setter - one parameter, returning void -
+ * of a mirror interface to a field of the mirrored class. The attributes correspond to the options of
+ * the field predicate builder, while repeated annotations are used as fallbacks, in order. Setters
+ * without an annotation are bound to the field of their getter, which is named the same.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Repeatable(MirrorFields.class)
+public @interface MirrorField {
+
+  /**
+   * Name of the target field, empty means wildcard
+   */
+  String name() default "";
+
+  /**
+   * Type of the target field, which defaults to the type of the mirror's value,
+   * while values of type Object are considered to be a wildcard
+   */
+  Class<?>[] type() default {};
+
+  /**
+   * Type of the target field as a version dependent class, which takes precedence over {@link #type()}
+   */
+  RClass[] classType() default {};
+
+  /**
+   * Whether boxed and unboxed versions of the type are equivalent
+   */
+  boolean allowBoxing() default false;
+
+  /**
+   * Whether assignability matching is enabled on the type, and in which direction
+   */
+  Assignability assignability() default Assignability.NONE;
+
+  /**
+   * Whether walking up into the superclass is allowed
+   */
+  boolean allowSuperclass() default false;
+
+  /**
+   * Number of matches to skip
+   */
+  int skip() default 0;
+
+  /**
+   * Minimum server version this predicate is valid on, empty means no lower bound
+   */
+  ServerVersion[] minVersion() default {};
+
+  /**
+   * Maximum server version this predicate is valid on, empty means no upper bound
+   */
+  ServerVersion[] maxVersion() default {};
+
+}
@@ -0,0 +1,350 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.mirror;
+
+import me.blvckbytes.bbreflect.Primitives;
+import me.blvckbytes.bbreflect.UnsafeAccess;
+import me.blvckbytes.bbreflect.handle.FieldHandle;
+import me.blvckbytes.bbreflect.handle.MethodHandle;
+import me.blvckbytes.bbreflect.handle.accessor.Bytecode;
+import me.blvckbytes.bbreflect.handle.accessor.GeneratedClassLoader;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class MirrorGenerator implements Opcodes {
+
+  private static final String CLASS_NAME_PREFIX = "me/blvckbytes/bbreflect/handle/mirror/GeneratedMirror$";
+  private static final AtomicInteger classCounter = new AtomicInteger();
+
+  private static final String BASE_NAME = Type.getInternalName(AMirror.class);
+  private static final String FIELD_HANDLE_NAME = Type.getInternalName(FieldHandle.class);
+  private static final String METHOD_HANDLE_NAME = Type.getInternalName(MethodHandle.class);
+  private static final String OBJECT_DESCRIPTOR = "Ljava/lang/Object;";
+
+  private static final int MAX_FIXED_ARITY = 4;
+
+  // Tiers of accessing a field, from fastest to slowest
+  private static final int ACCESS_DIRECT = 0, ACCESS_UNSAFE = 1, ACCESS_HANDLE = 2;
+
+  private MirrorGenerator() {}
+
+  /**
+   * Generate an implementation of a mirror interface, which accesses fields either through direct
+   * getfield/putfield instructions, through sun.misc.Unsafe at the field's offset or - if neither is
+   * possible - through it's handle, while methods are always invoked through their handle
+   * @param mirrorType Mirror interface to implement
+   * @param owner Class whose instances are mirrored
+   * @param fields Bound fields
+   * @param bindings Bindings of all abstract methods of the mirror interface
+   * @return Generated class extending {@link AMirror}, null if it could not be defined
+   */
+  static @Nullable Class<?> generateMirror(Class<?> mirrorType, Class<?> owner, FieldHandle[] fields, MirrorBinding[] bindings) {
+    // The signatures of the mirror are linked against from within another package
+    for (MirrorBinding binding : bindings) {
+      if (!Bytecode.isLinkable(binding.method, binding.method.getReturnType()))
+        return null;
+    }
+
+    List<Class<?>> linkedClasses = new ArrayList<>();
+    linkedClasses.add(mirrorType);
+    linkedClasses.add(AMirror.class);
+
+    int[] readTiers = new int[fields.length];
+    int[] writeTiers = new int[fields.length];
+    long[] offsets = new long[fields.length];
+    boolean requiresUnsafe = false;
+
+    for (int i = 0; i < fields.length; i++) {
+      Field field = fields[i].getHandle();
+      boolean isLinkable = Bytecode.isLinkable(field, field.getType());
+
+      readTiers[i] = isLinkable ? ACCESS_DIRECT : ACCESS_UNSAFE;
+      writeTiers[i] = isLinkable && !Modifier.isFinal(field.getModifiers()) ? ACCESS_DIRECT : ACCESS_UNSAFE;
+
+      if (isLinkable)
+        linkedClasses.add(field.getDeclaringClass());
+
+      if (writeTiers[i] == ACCESS_DIRECT)
+        continue;
+
+      try {
+        offsets[i] = UnsafeAccess.objectFieldOffset(field);
+        requiresUnsafe = true;
+      } catch (UnsupportedOperationException e) {
+        if (readTiers[i] == ACCESS_UNSAFE)
+          readTiers[i] = ACCESS_HANDLE;
+
+        writeTiers[i] = ACCESS_HANDLE;
+      }
+    }
+
+    String className = CLASS_NAME_PREFIX + classCounter.incrementAndGet();
+
+    ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+    cw.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, className, null, BASE_NAME, new String[] { Type.getInternalName(mirrorType) });
+
+    if (requiresUnsafe)
+      Bytecode.writeUnsafeField(cw, className);
+
+    // (Class owner, FieldHandle[] fields, MethodHandle[] methods, Object target)
+    String constructorDescriptor = "(Ljava/lang/Class;[L" + FIELD_HANDLE_NAME + ";[L" + METHOD_HANDLE_NAME + ";" + OBJECT_DESCRIPTOR + ")V";
+    MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", constructorDescriptor, null, null);
+    mv.visitCode();
+    for (int i = 0; i <= 4; i++)
+      mv.visitVarInsn(ALOAD, i);
+    mv.visitMethodInsn(INVOKESPECIAL, BASE_NAME, "<init>", constructorDescriptor, false);
+    mv.visitInsn(RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+
+    for (MirrorBinding binding : bindings) {
+      Method method = binding.method;
+      mv = cw.visitMethod(ACC_PUBLIC, method.getName(), Type.getMethodDescriptor(method), null, null);
+      mv.visitCode();
+
+      switch (binding.kind) {
+        case GETTER:
+          writeGetter(mv, className, fields[binding.index].getHandle(), binding.index, readTiers[binding.index], offsets[binding.index], method.getReturnType());
+          break;
+
+        case SETTER:
+          writeSetter(mv, className, fields[binding.index].getHandle(), binding.index, writeTiers[binding.index], offsets[binding.index], method.getParameterTypes()[0]);
+          break;
+
+        case METHOD:
+          writeInvocation(mv, binding.index, method);
+          break;
+      }
+
+      mv.visitMaxs(0, 0);
+      mv.visitEnd();
+    }
+
+    cw.visitEnd();
+
+    try {
+      GeneratedClassLoader loader = new GeneratedClassLoader(mirrorType.getClassLoader());
+
+      // The generated code has to link against the very same classes
+      for (Class<?> linkedClass : linkedClasses) {
+        if (Class.forName(linkedClass.getName(), false, loader) != linkedClass)
+          return null;
+      }
+
+      return loader.define(className.replace('/', '.'), cw.toByteArray());
+    } catch (Throwable t) {
+      return null;
+    }
+  }
+
+  private static void writeGetter(MethodVisitor mv, String className, Field field, int index, int tier, long offset, Class<?> valueType) {
+    Type fieldType = Type.getType(field.getType());
+
+    switch (tier) {
+      case ACCESS_DIRECT: {
+        String owner = Type.getInternalName(field.getDeclaringClass());
+        loadTarget(mv);
+        mv.visitTypeInsn(CHECKCAST, owner);
+        mv.visitFieldInsn(GETFIELD, owner, field.getName(), fieldType.getDescriptor());
+        convert(mv, field.getType(), valueType);
+        break;
+      }
+
+      case ACCESS_UNSAFE: {
+        Class<?> accessType = field.getType().isPrimitive() ? field.getType() : Object.class;
+        mv.visitFieldInsn(GETSTATIC, className, Bytecode.UNSAFE_FIELD, Bytecode.UNSAFE_DESCRIPTOR);
+        loadTarget(mv);
+        mv.visitLdcInsn(offset);
+        mv.visitMethodInsn(INVOKEVIRTUAL, Bytecode.UNSAFE_INTERNAL_NAME, "get" + Bytecode.unsafeSuffix(field), "(" + OBJECT_DESCRIPTOR + "J)" + Type.getDescriptor(accessType), false);
+        convert(mv, accessType, valueType);
+        break;
+      }
+
+      default:
+        loadHandle(mv, "fields", FIELD_HANDLE_NAME, index);
+        loadTarget(mv);
+        mv.visitMethodInsn(INVOKEVIRTUAL, FIELD_HANDLE_NAME, "get", "(" + OBJECT_DESCRIPTOR + ")" + OBJECT_DESCRIPTOR, false);
+        convert(mv, Object.class, valueType);
+        break;
+    }
+
+    mv.visitInsn(Type.getType(valueType).getOpcode(IRETURN));
+  }
+
+  private static void writeSetter(MethodVisitor mv, String className, Field field, int index, int tier, long offset, Class<?> valueType) {
+    Type fieldType = Type.getType(field.getType());
+    int valueLoad = Type.getType(valueType).getOpcode(ILOAD);
+
+    switch (tier) {
+      case ACCESS_DIRECT: {
+        String owner = Type.getInternalName(field.getDeclaringClass());
+        loadTarget(mv);
+        mv.visitTypeInsn(CHECKCAST, owner);
+        mv.visitVarInsn(valueLoad, 1);
+        convert(mv, valueType, field.getType());
+        mv.visitFieldInsn(PUTFIELD, owner, field.getName(), fieldType.getDescriptor());
+        break;
+      }
+
+      case ACCESS_UNSAFE: {
+        boolean isPrimitive = field.getType().isPrimitive();
+        mv.visitFieldInsn(GETSTATIC, className, Bytecode.UNSAFE_FIELD, Bytecode.UNSAFE_DESCRIPTOR);
+        loadTarget(mv);
+        mv.visitLdcInsn(offset);
+
+        if (isPrimitive) {
+          mv.visitVarInsn(valueLoad, 1);
+          convert(mv, valueType, field.getType());
+        }
+
+        // Unsafe performs no type checks, while the field's type may not be linkable
+        else {
+          mv.visitVarInsn(ALOAD, 0);
+          mv.visitVarInsn(valueLoad, 1);
+          convert(mv, valueType, Object.class);
+          mv.visitLdcInsn(index);
+          mv.visitMethodInsn(INVOKEVIRTUAL, BASE_NAME, "checkValue", "(" + OBJECT_DESCRIPTOR + "I)" + OBJECT_DESCRIPTOR, false);
+        }
+
+        String accessDescriptor = isPrimitive ? fieldType.getDescriptor() : OBJECT_DESCRIPTOR;
+        mv.visitMethodInsn(INVOKEVIRTUAL, Bytecode.UNSAFE_INTERNAL_NAME, "put" + Bytecode.unsafeSuffix(field), "(" + OBJECT_DESCRIPTOR + "J" + accessDescriptor + ")V", false);
+        break;
+      }
+
+      default:
+        loadHandle(mv, "fields", FIELD_HANDLE_NAME, index);
+        loadTarget(mv);
+        mv.visitVarInsn(valueLoad, 1);
+        convert(mv, valueType, Object.class);
+        mv.visitMethodInsn(INVOKEVIRTUAL, FIELD_HANDLE_NAME, "set", "(" + OBJECT_DESCRIPTOR + OBJECT_DESCRIPTOR + ")V", false);
+        break;
+    }
+
+    mv.visitInsn(RETURN);
+  }
+
+  private static void writeInvocation(MethodVisitor mv, int index, Method method) {
+    Class<?>[] parameterTypes = method.getParameterTypes();
+    Class<?> returnType = method.getReturnType();
+
+    loadHandle(mv, "methods", METHOD_HANDLE_NAME, index);
+    loadTarget(mv);
+
+    if (parameterTypes.length <= MAX_FIXED_ARITY) {
+      int local = 1;
+      for (Class<?> parameterType : parameterTypes) {
+        local = loadParameter(mv, local, parameterType);
+        convert(mv, parameterType, Object.class);
+      }
+
+      StringBuilder descriptor = new StringBuilder("(" + OBJECT_DESCRIPTOR);
+      for (int i = 0; i < parameterTypes.length; i++)
+        descriptor.append(OBJECT_DESCRIPTOR);
+      descriptor.append(")" + OBJECT_DESCRIPTOR);
+
+      mv.visitMethodInsn(INVOKEVIRTUAL, METHOD_HANDLE_NAME, "invoke" + parameterTypes.length, descriptor.toString(), false);
+    }
+
+    else {
+      mv.visitLdcInsn(parameterTypes.length);
+      mv.visitTypeInsn(ANEWARRAY, "java/lang/Object");
+
+      int local = 1;
+      for (int i = 0; i < parameterTypes.length; i++) {
+        mv.visitInsn(DUP);
+        mv.visitLdcInsn(i);
+        local = loadParameter(mv, local, parameterTypes[i]);
+        convert(mv, parameterTypes[i], Object.class);
+        mv.visitInsn(AASTORE);
+      }
+
+      mv.visitMethodInsn(INVOKEVIRTUAL, METHOD_HANDLE_NAME, "invoke", "(" + OBJECT_DESCRIPTOR + "[" + OBJECT_DESCRIPTOR + ")" + OBJECT_DESCRIPTOR, false);
+    }
+
+    if (returnType == void.class) {
+      mv.visitInsn(POP);
+      mv.visitInsn(RETURN);
+      return;
+    }
+
+    convert(mv, Object.class, returnType);
+    mv.visitInsn(Type.getType(returnType).getOpcode(IRETURN));
+  }
+
+  /**
+   * Loads a parameter of the method onto the stack
+   * @return Local variable slot of the next parameter
+   */
+  private static int loadParameter(MethodVisitor mv, int local, Class<?> parameterType) {
+    Type type = Type.getType(parameterType);
+    mv.visitVarInsn(type.getOpcode(ILOAD), local);
+    return local + type.getSize();
+  }
+
+  private static void loadTarget(MethodVisitor mv) {
+    mv.visitVarInsn(ALOAD, 0);
+    mv.visitFieldInsn(GETFIELD, BASE_NAME, "target", OBJECT_DESCRIPTOR);
+  }
+
+  private static void loadHandle(MethodVisitor mv, String arrayName, String handleName, int index) {
+    mv.visitVarInsn(ALOAD, 0);
+    mv.visitFieldInsn(GETFIELD, BASE_NAME, arrayName, "[L" + handleName + ";");
+    mv.visitLdcInsn(index);
+    mv.visitInsn(AALOAD);
+  }
+
+  /**
+   * Converts the value on top of the stack into another type by boxing, unboxing or casting
+   * @param from Type of the value on top of the stack
+   * @param to Type to convert into
+   */
+  private static void convert(MethodVisitor mv, Class<?> from, Class<?> to) {
+    if (from == to)
+      return;
+
+    if (to.isPrimitive()) {
+      Bytecode.unbox(mv, Type.getType(to));
+      return;
+    }
+
+    if (from.isPrimitive()) {
+      Bytecode.box(mv, Type.getType(from));
+      from = Primitives.wrap(from);
+    }
+
+    if (!to.isAssignableFrom(from))
+      mv.visitTypeInsn(CHECKCAST, Type.getInternalName(to));
+  }
+}
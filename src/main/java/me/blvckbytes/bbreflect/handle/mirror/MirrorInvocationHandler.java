@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.mirror;
+
+import me.blvckbytes.bbreflect.handle.FieldHandle;
+import me.blvckbytes.bbreflect.handle.MethodHandle;
+import me.blvckbytes.bbreflect.handle.accessor.Lookups;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fallback of mirrors whose class could not be generated, which
+ * performs all accesses through the bound handles, boxed
+ */
+class MirrorInvocationHandler implements InvocationHandler {
+
+  private static final Object[] NO_ARGUMENTS = new Object[0];
+
+  private final Class<?> mirrorType;
+  private final Class<?> owner;
+  private final FieldHandle[] fields;
+  private final MethodHandle[] methods;
+  private final Map<Method, MirrorBinding> bindings;
+  private Object target;
+
+  MirrorInvocationHandler(Class<?> mirrorType, Class<?> owner, FieldHandle[] fields, MethodHandle[] methods, MirrorBinding[] bindings, Object target) {
+    this.mirrorType = mirrorType;
+    this.owner = owner;
+    this.fields = fields;
+    this.methods = methods;
+    this.bindings = new HashMap<>();
+    this.target = checkTarget(target);
+
+    for (MirrorBinding binding : bindings)
+      this.bindings.put(binding.method, binding);
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    if (args == null)
+      args = NO_ARGUMENTS;
+
+    MirrorBinding binding = bindings.get(method);
+
+    if (binding != null) {
+      switch (binding.kind) {
+        case GETTER:
+          return fields[binding.index].get(target);
+
+        case SETTER:
+          fields[binding.index].set(target, args[0]);
+          return null;
+
+        case METHOD:
+          return methods[binding.index].invoke(target, args);
+      }
+    }
+
+    if (method.getDeclaringClass() == IMirror.class) {
+      if (method.getName().equals("retarget")) {
+        target = checkTarget(args[0]);
+        return null;
+      }
+
+      return target;
+    }
+
+    if (method.getDeclaringClass() == Object.class) {
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+
+        case "hashCode":
+          return System.identityHashCode(proxy);
+
+        default:
+          return mirrorType.getName() + "{target=" + target + "}";
+      }
+    }
+
+    // Default methods of the mirror are invoked on the proxy itself
+    return Lookups.privateLookupIn(method.getDeclaringClass())
+      .unreflectSpecial(method, method.getDeclaringClass())
+      .bindTo(proxy)
+      .invokeWithArguments(args);
+  }
+
+  private Object checkTarget(Object target) {
+    if (!owner.isInstance(target))
+      throw new IllegalArgumentException("Expected an instance of " + owner + ", but got " + (target == null ? null : target.getClass()));
+
+    return target;
+  }
+}
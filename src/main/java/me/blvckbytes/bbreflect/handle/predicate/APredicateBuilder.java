@@ -25,12 +25,19 @@
 package me.blvckbytes.bbreflect.handle.predicate;
 
 import me.blvckbytes.bbreflect.handle.ClassHandle;
+import me.blvckbytes.bbreflect.handle.LazyHandle;
+import me.blvckbytes.bbreflect.handle.Resolution;
+import me.blvckbytes.bbreflect.handle.accessor.InvocationMode;
+import me.blvckbytes.bbreflect.handle.metrics.ResolutionProfiler;
 import me.blvckbytes.bbreflect.version.ServerVersion;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public abstract class APredicateBuilder<T, B extends APredicateBuilder<T, B>> {
@@ -39,6 +46,7 @@ public abstract class APredicateBuilder<T, B extends APredicateBuilder<T, B>> {
   protected List<B> fallbacks;
   protected @Nullable ServerVersion minVersion, maxVersion;
   protected ServerVersion version;
+  protected @Nullable InvocationMode invocationMode;
 
   protected APredicateBuilder(ClassHandle targetClass, ServerVersion version) {
     this.targetClass = targetClass;
@@ -61,15 +69,30 @@ public abstract class APredicateBuilder<T, B extends APredicateBuilder<T, B>> {
     return (B) this;
   }
 
+  /**
+   * Set the invocation mode the resulting handle will use to access it's member,
+   * which is also inherited by all fallbacks which do not specify their own
+   * @param invocationMode Invocation mode, null means default
+   */
+  @SuppressWarnings("unchecked")
+  public B withInvocationMode(@Nullable InvocationMode invocationMode) {
+    this.invocationMode = invocationMode;
+    return (B) this;
+  }
+
   /**
    * Get the predicate's result and return null if it couldn't be located
    */
   public @Nullable T optional() {
-    try {
-      return required();
-    } catch (NoSuchElementException e) {
-      return null;
-    }
+    return resolveProfiled().orNull();
+  }
+
+  /**
+   * Get a handle to the predicate's result which is only resolved on first use, after
+   * which this builder must no longer be modified
+   */
+  public LazyHandle<T> lazy() {
+    return new LazyHandle<>(this);
   }
 
   /**
@@ -83,36 +106,151 @@ public abstract class APredicateBuilder<T, B extends APredicateBuilder<T, B>> {
     return (maxVersion == null || version.compare(maxVersion) <= 0) && (minVersion == null || version.compare(minVersion) >= 0);
   }
 
-  protected void checkVersionRange() throws NoSuchElementException {
-    if (maxVersion != null && version.compare(maxVersion) > 0)
-      throw new NoSuchElementException("This version is higher than the supported version");
-
-    if (minVersion != null && version.compare(minVersion) < 0)
-      throw new NoSuchElementException("This version is lower than the supported version");
+  /**
+   * Create a miss which describes why the current version is not within this predicate's range
+   */
+  protected Resolution<T> outOfVersionRange() {
+    return Resolution.miss(() -> (
+      maxVersion != null && version.compare(maxVersion) > 0
+        ? "This version is higher than the supported version"
+        : "This version is lower than the supported version"
+    ));
   }
 
   /**
    * Get the predicate's result and require that it's not null
    * @throws NoSuchElementException Not found exception if the result could not be located
    */
-  public abstract T required() throws NoSuchElementException;
+  public T required() throws NoSuchElementException {
+    return resolveProfiled().require();
+  }
+
+  /**
+   * Get the predicate's result without throwing if it could not be located, where
+   * no diagnostics are built unless the resulting miss is required
+   */
+  public Resolution<T> resolve() {
+    return resolve(null);
+  }
+
+  /**
+   * Get the predicate's result without throwing if it could not be located
+   * @param inheritedMode Invocation mode of the builder this one is a fallback of, which
+   *                      applies if no mode has been set explicitly, null means default
+   */
+  protected abstract Resolution<T> resolve(@Nullable InvocationMode inheritedMode);
+
+  /**
+   * Get the invocation mode to create handles with, which is either the explicitly set mode or the inherited one
+   * @param inheritedMode Invocation mode of the builder this one is a fallback of, null means default
+   */
+  protected @Nullable InvocationMode effectiveMode(@Nullable InvocationMode inheritedMode) {
+    return invocationMode != null ? invocationMode : inheritedMode;
+  }
+
+  /**
+   * Resolve this builder while recording the resolution into the {@link ResolutionProfiler}, if enabled
+   */
+  private Resolution<T> resolveProfiled() {
+    ResolutionProfiler.Frame frame = ResolutionProfiler.begin(ResolutionProfiler.KIND_PREDICATE, getClass().getSimpleName() + " on " + targetClass.getHandle().getName());
+    Resolution<T> resolution = null;
+
+    try {
+      resolution = resolve();
+      return resolution;
+    } finally {
+      if (frame != null)
+        frame.end(resolution != null && resolution.isFound(), null);
+    }
+  }
 
   /**
-   * Tries to invoke all available fallbacks and returns the result of the
-   * first successful call to {@link #required()}
-   * @throws NoSuchElementException Exception thrown by the last callback, on failure
+   * Passes found resolutions on and tries all available fallbacks on misses, where
+   * the first found resolution of a call to {@link #resolve()} is returned
+   * @param resolution Resolution of this builder
+   * @param mode Effective invocation mode of this builder, which fallbacks without an explicit mode inherit
+   * @return Found resolution or the miss of the last fallback
    */
-  protected T invokeFallbacks(NoSuchElementException firstException) throws NoSuchElementException {
-    NoSuchElementException lastThrown = firstException;
+  protected Resolution<T> resolveFallbacks(Resolution<T> resolution, @Nullable InvocationMode mode) {
+    Resolution<T> lastMiss = resolution;
+
+    if (resolution.isFound())
+      return resolution;
 
     for (B fallback : fallbacks) {
-      try {
-        return fallback.required();
-      } catch (NoSuchElementException e) {
-        lastThrown = e;
-      }
+      ResolutionProfiler.recordAttempt();
+
+      Resolution<T> fallbackResolution = fallback.resolve(mode);
+
+      if (fallbackResolution.isFound())
+        return fallbackResolution;
+
+      lastMiss = fallbackResolution;
     }
 
-    throw lastThrown;
+    return lastMiss;
+  }
+
+  /**
+   * Resolve multiple builders which search through the same class at once, where the primary lookups
+   * of all builders which are able to take part are located within a single walk over the class hierarchy,
+   * while all other builders as well as the fallbacks of builders which missed are resolved one by one
+   * @param target Class all builders search through
+   * @param builders Builders to resolve
+   * @param primaryPredicate Compiles the predicate of a builder's primary lookup, returning null if the builder cannot take part
+   * @param locator Locates the members of multiple predicates within a single walk
+   * @param handleFactory Creates the handle of a builder on it's located member
+   * @return Resolutions in the order of the builders
+   * @throws IllegalArgumentException Thrown if a builder searches through another class
+   */
+  protected static <M, T, B extends APredicateBuilder<T, B>> List<Resolution<T>> resolveAll(
+    Class<?> target,
+    List<B> builders,
+    Function<B, FMemberPredicate<M>> primaryPredicate,
+    BiFunction<Class<?>, List<FMemberPredicate<M>>, List<Resolution<M>>> locator,
+    BiFunction<B, M, T> handleFactory
+  ) throws IllegalArgumentException {
+    String label = builders.size() + " builders on " + target.getName();
+    ResolutionProfiler.Frame frame = ResolutionProfiler.begin(ResolutionProfiler.KIND_BATCH, label);
+    List<Resolution<T>> results = null;
+
+    try {
+      List<FMemberPredicate<M>> predicates = new ArrayList<>(builders.size());
+      boolean[] batched = new boolean[builders.size()];
+
+      for (int i = 0; i < builders.size(); i++) {
+        B builder = builders.get(i);
+
+        if (builder.targetClass.getHandle() != target)
+          throw new IllegalArgumentException("All builders have to search through " + target);
+
+        FMemberPredicate<M> predicate = primaryPredicate.apply(builder);
+
+        if (predicate == null)
+          continue;
+
+        predicates.add(predicate);
+        batched[i] = true;
+      }
+
+      List<Resolution<M>> located = predicates.isEmpty() ? Collections.emptyList() : locator.apply(target, predicates);
+      results = new ArrayList<>(builders.size());
+
+      for (int i = 0, nextLocated = 0; i < builders.size(); i++) {
+        B builder = builders.get(i);
+
+        if (!batched[i]) {
+          results.add(builder.resolve());
+          continue;
+        }
+
+        results.add(builder.resolveFallbacks(located.get(nextLocated++).map(member -> handleFactory.apply(builder, member)), builder.invocationMode));
+      }
+
+      return results;
+    } finally {
+      if (frame != null)
+        frame.end(results != null && results.stream().allMatch(Resolution::isFound), label);
+    }
   }
 }
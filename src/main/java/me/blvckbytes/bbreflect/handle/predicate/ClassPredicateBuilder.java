@@ -25,6 +25,8 @@
 package me.blvckbytes.bbreflect.handle.predicate;
 
 import me.blvckbytes.bbreflect.handle.ClassHandle;
+import me.blvckbytes.bbreflect.handle.Resolution;
+import me.blvckbytes.bbreflect.handle.accessor.InvocationMode;
 import me.blvckbytes.bbreflect.version.ServerVersion;
 import org.jetbrains.annotations.Nullable;
 
@@ -32,7 +34,6 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.NoSuchElementException;
 import java.util.function.Supplier;
 
 public class ClassPredicateBuilder extends APredicateBuilder<ClassHandle, ClassPredicateBuilder> {
@@ -114,37 +115,38 @@ public class ClassPredicateBuilder extends APredicateBuilder<ClassHandle, ClassP
   }
 
   @Override
-  public ClassHandle required() throws NoSuchElementException {
-    try {
-      checkVersionRange();
+  protected Resolution<ClassHandle> resolve(@Nullable InvocationMode inheritedMode) {
+    InvocationMode mode = effectiveMode(inheritedMode);
 
-      return new ClassHandle(targetClass.getHandle(), version, (c, mc) -> {
+    if (!isInVersionRange())
+      return resolveFallbacks(outOfVersionRange(), mode);
 
-        // Static modifier mismatch
-        if (isStatic != null && Modifier.isStatic(c.getModifiers()) != isStatic)
-          return false;
+    Resolution<Class<?>> located = ClassHandle.locate(targetClass.getHandle(), (c, mc) -> {
 
-        // Public modifier mismatch
-        if (isPublic != null && Modifier.isPublic(c.getModifiers()) != isPublic)
-          return false;
+      // Static modifier mismatch
+      if (isStatic != null && Modifier.isStatic(c.getModifiers()) != isStatic)
+        return false;
 
-        // Name mismatch
-        if (this.name != null && !isClassNameEqualTo(c, name))
-          return false;
+      // Public modifier mismatch
+      if (isPublic != null && Modifier.isPublic(c.getModifiers()) != isPublic)
+        return false;
 
-        // Skip this name
-        if (this.skipNames.stream().anyMatch(skip -> isClassNameEqualTo(c, skip)))
-          return false;
+      // Name mismatch
+      if (this.name != null && !isClassNameEqualTo(c, name))
+        return false;
 
-        // Everything matches, while skip > matchCounter, count up
-        if (skip > mc)
-          return null;
+      // Skip this name
+      if (this.skipNames.stream().anyMatch(skip -> isClassNameEqualTo(c, skip)))
+        return false;
 
-        return true;
-      });
-    } catch (NoSuchElementException e) {
-      return invokeFallbacks(e);
-    }
+      // Everything matches, while skip > matchCounter, count up
+      if (skip > mc)
+        return null;
+
+      return true;
+    });
+
+    return resolveFallbacks(located.map(member -> new ClassHandle(member, version)), mode);
   }
 
   private boolean isClassNameEqualTo(Class<?> c, String name) {
@@ -26,6 +26,8 @@ package me.blvckbytes.bbreflect.handle.predicate;
 
 import me.blvckbytes.bbreflect.Primitives;
 
+import java.util.function.Predicate;
+
 public class ComparableType {
 
   public final Class<?> type;
@@ -57,6 +59,37 @@ public class ComparableType {
     return isAssignable(other);
   }
 
+  /**
+   * Compile this type into a check which performs the least work possible per call, where
+   * boxing is normalized ahead of time and exact comparisons become identity checks
+   */
+  public Predicate<Class<?>> compile() {
+    Class<?> target = type;
+
+    if (assignability != Assignability.TARGET_TO_TYPE && assignability != Assignability.TYPE_TO_TARGET) {
+      Class<?> wrapper = ignoreBoxing ? Primitives.wrap(target) : target;
+
+      if (wrapper == target)
+        return other -> other == target;
+
+      return other -> other == target || other == wrapper;
+    }
+
+    // Unboxing before checking assignability cannot be normalized
+    if (ignoreBoxing)
+      return this::matches;
+
+    if (assignability == Assignability.TARGET_TO_TYPE)
+      return other -> other.isAssignableFrom(target);
+
+    return target::isAssignableFrom;
+  }
+
+  @Override
+  public String toString() {
+    return (ignoreBoxing ? "~" : "") + type.getName() + (assignability == Assignability.NONE ? "" : "/" + assignability);
+  }
+
   /**
    * Checks whether this type matches the specified
    * assignability with another type
@@ -27,19 +27,26 @@ package me.blvckbytes.bbreflect.handle.predicate;
 import me.blvckbytes.bbreflect.handle.AHandle;
 import me.blvckbytes.bbreflect.handle.ClassHandle;
 import me.blvckbytes.bbreflect.handle.ConstructorHandle;
+import me.blvckbytes.bbreflect.handle.Resolution;
+import me.blvckbytes.bbreflect.handle.accessor.InvocationMode;
+import me.blvckbytes.bbreflect.handle.transformer.CallLayout;
+import me.blvckbytes.bbreflect.handle.transformer.FArgumentTransformer;
 import me.blvckbytes.bbreflect.handle.transformer.FCallTransformer;
 import me.blvckbytes.bbreflect.version.ServerVersion;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public class ConstructorPredicateBuilder extends APredicateBuilder<ConstructorHandle, ConstructorPredicateBuilder> {
 
   private @Nullable FCallTransformer callTransformer;
+  private @Nullable CallLayout callLayout;
   private @Nullable Boolean isPublic;
   private final List<ComparableType> parameterTypes;
 
@@ -76,6 +83,44 @@ public class ConstructorPredicateBuilder extends APredicateBuilder<ConstructorHa
     return this;
   }
 
+  /**
+   * Add a transformer for a single argument of the call, which will be invoked
+   * before relaying the call to the handle's wrapped member. Other than a call
+   * transformer, this does not require re-allocating the call's arguments.
+   * @param index Index of the argument, as passed by the caller
+   * @param argumentTransformer Transformer to add
+   * @param dependencies List of handles which this transformer depends on and which have to be present
+   */
+  public ConstructorPredicateBuilder withArgumentTransformer(int index, FArgumentTransformer argumentTransformer, AHandle<?>... dependencies) {
+    initializeCallLayout().withArgumentTransformer(index, argumentTransformer);
+
+    if (isInVersionRange()) {
+      for (AHandle<?> handle : dependencies) {
+        if (handle == null)
+          throw new IllegalStateException("One of the transformers dependencies is missing");
+      }
+    }
+
+    return this;
+  }
+
+  /**
+   * Add a constant argument to the call, which will be inserted after all
+   * argument transformers ran, before relaying the call to the handle's wrapped member
+   * @param index Index of the parameter, as declared by the member
+   * @param value Value to insert
+   */
+  public ConstructorPredicateBuilder withConstantArgument(int index, @Nullable Object value) {
+    initializeCallLayout().withConstantArgument(index, value);
+    return this;
+  }
+
+  private CallLayout initializeCallLayout() {
+    if (this.callLayout == null)
+      this.callLayout = new CallLayout();
+    return this.callLayout;
+  }
+
   ////////////////////////////////// Modifiers //////////////////////////////////
 
   /**
@@ -145,34 +190,43 @@ public class ConstructorPredicateBuilder extends APredicateBuilder<ConstructorHa
   }
 
   @Override
-  public ConstructorHandle required() throws NoSuchElementException {
-    try {
-      checkVersionRange();
-
-      return new ConstructorHandle(targetClass.getHandle(), version, callTransformer, (member, count) -> {
-
-        // Public modifier mismatch
-        if (isPublic != null && Modifier.isPublic(member.getModifiers()) != isPublic)
-          return false;
-
-        // Not exactly as many parameters as requested
-        int numParameters = parameterTypes.size();
-        if (member.getParameterCount() != numParameters)
-          return false;
-
-        // Check parameters, if applicable
-        Class<?>[] parameters = member.getParameterTypes();
-
-        // Parameters need to match in sequence
-        for (int i = 0; i < numParameters; i++) {
-          if (!parameterTypes.get(i).matches(parameters[i]))
-            return false;
-        }
-
-        return true;
-      });
-    } catch (NoSuchElementException e) {
-      return invokeFallbacks(e);
+  protected Resolution<ConstructorHandle> resolve(@Nullable InvocationMode inheritedMode) {
+    InvocationMode mode = effectiveMode(inheritedMode);
+
+    if (!isInVersionRange())
+      return resolveFallbacks(outOfVersionRange(), mode);
+
+    PredicateCompiler<Constructor<?>> compiler = new PredicateCompiler<>();
+
+    // Public modifier mismatch
+    if (isPublic != null) {
+      boolean publicMode = isPublic;
+      compiler.check(PredicateCompiler.COST_TRIVIAL, member -> Modifier.isPublic(member.getModifiers()) == publicMode);
     }
+
+    // Parameters need to be exactly as many as requested and match in sequence
+    int numParameters = parameterTypes.size();
+    Predicate<Class<?>[]> parametersMatcher = PredicateCompiler.compileTypes(parameterTypes, true);
+
+    compiler.check(PredicateCompiler.COST_TRIVIAL, member -> member.getParameterCount() == numParameters);
+    compiler.check(PredicateCompiler.COST_TYPES, member -> parametersMatcher.test(member.getParameterTypes()));
+
+    Resolution<Constructor<?>> constructor = ConstructorHandle.locate(targetClass.getHandle(), new DescribedMemberPredicate<>(describe(), compiler.compile(0)));
+
+    return resolveFallbacks(constructor.map(member -> new ConstructorHandle(member, version, mode, callTransformer, callLayout)), mode);
+  }
+
+  /**
+   * Describes all criteria of this predicate canonically, excluding transformers
+   */
+  private String describe() {
+    StringJoiner sj = new StringJoiner(" ");
+
+    sj.add("constructor");
+    sj.add(targetClass.getHandle().getName());
+    sj.add("public=" + isPublic);
+    sj.add("parameters=" + parameterTypes);
+
+    return sj.toString();
   }
 }
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.predicate;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Member predicate which carries a canonical description of all of it's criteria,
+ * such that two predicates of equal descriptions always match the same member
+ */
+public final class DescribedMemberPredicate<T> implements FMemberPredicate<T> {
+
+  private final String description;
+  private final FMemberPredicate<T> predicate;
+  private final @Nullable String name;
+  private final @Nullable ComparableType type;
+
+  /**
+   * Create a new described member predicate
+   * @param description Canonical description of the predicate, including the target class
+   * @param predicate Predicate to delegate to
+   */
+  public DescribedMemberPredicate(String description, FMemberPredicate<T> predicate) {
+    this(description, null, null, predicate);
+  }
+
+  /**
+   * Create a new described member predicate which only matches members of a known name and/or
+   * type, which allows to only evaluate the predicate on members of matching index buckets
+   * @param description Canonical description of the predicate, including the target class
+   * @param name Case-insensitive name every matching member has, null if unknown
+   * @param type Type every matching field has or every matching method returns, null if unknown
+   * @param predicate Predicate to delegate to
+   */
+  public DescribedMemberPredicate(String description, @Nullable String name, @Nullable ComparableType type, FMemberPredicate<T> predicate) {
+    this.description = description;
+    this.name = name;
+    this.type = type;
+    this.predicate = predicate;
+  }
+
+  @Override
+  public Boolean matches(T member, int counter) {
+    return predicate.matches(member, counter);
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public @Nullable String getName() {
+    return name;
+  }
+
+  public @Nullable ComparableType getType() {
+    return type;
+  }
+
+  @Override
+  public String toString() {
+    return description;
+  }
+}
@@ -27,17 +27,20 @@ package me.blvckbytes.bbreflect.handle.predicate;
 import me.blvckbytes.bbreflect.handle.AHandle;
 import me.blvckbytes.bbreflect.handle.ClassHandle;
 import me.blvckbytes.bbreflect.handle.FieldHandle;
-import me.blvckbytes.bbreflect.handle.transformer.FResponseTransformer;
-import me.blvckbytes.bbreflect.handle.transformer.FValueTransformer;
+import me.blvckbytes.bbreflect.handle.Resolution;
+import me.blvckbytes.bbreflect.handle.MemberIndex;
+import me.blvckbytes.bbreflect.handle.accessor.InvocationMode;
+import me.blvckbytes.bbreflect.handle.mapping.MemberMappings;
+import me.blvckbytes.bbreflect.handle.transformer.*;
 import me.blvckbytes.bbreflect.version.ServerVersion;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public class FieldPredicateBuilder extends APredicateBuilder<FieldHandle, FieldPredicateBuilder> {
@@ -48,6 +51,7 @@ public class FieldPredicateBuilder extends APredicateBuilder<FieldHandle, FieldP
   private @Nullable Boolean isStatic;
   private @Nullable Boolean isPublic;
   private @Nullable String name;
+  private @Nullable String mappedName;
   private @Nullable ComparableType type;
   private final List<ComparableType> genericTypes;
   private boolean allowSuperclass;
@@ -104,6 +108,66 @@ public class FieldPredicateBuilder extends APredicateBuilder<FieldHandle, FieldP
     return this;
   }
 
+  /**
+   * Set a response transformer which produces an int, so that reading the field
+   * through {@link FieldHandle#getInt} does not box the transformed value
+   * @param responseTransformer Transformer to set
+   * @param dependencies List of handles which this transformer depends on and which have to be present
+   */
+  public FieldPredicateBuilder withIntResponseTransformer(@Nullable FIntResponseTransformer responseTransformer, AHandle<?>... dependencies) {
+    return withResponseTransformer(responseTransformer, dependencies);
+  }
+
+  /**
+   * Set a response transformer which produces a long, so that reading the field
+   * through {@link FieldHandle#getLong} does not box the transformed value
+   * @param responseTransformer Transformer to set
+   * @param dependencies List of handles which this transformer depends on and which have to be present
+   */
+  public FieldPredicateBuilder withLongResponseTransformer(@Nullable FLongResponseTransformer responseTransformer, AHandle<?>... dependencies) {
+    return withResponseTransformer(responseTransformer, dependencies);
+  }
+
+  /**
+   * Set a response transformer which produces a double, so that reading the field
+   * through {@link FieldHandle#getDouble} does not box the transformed value
+   * @param responseTransformer Transformer to set
+   * @param dependencies List of handles which this transformer depends on and which have to be present
+   */
+  public FieldPredicateBuilder withDoubleResponseTransformer(@Nullable FDoubleResponseTransformer responseTransformer, AHandle<?>... dependencies) {
+    return withResponseTransformer(responseTransformer, dependencies);
+  }
+
+  /**
+   * Set a value transformer which consumes an int, so that writing the field
+   * through {@link FieldHandle#setInt} does not box the value to transform
+   * @param valueTransformer Transformer to set
+   * @param dependencies List of handles which this transformer depends on and which have to be present
+   */
+  public FieldPredicateBuilder withIntValueTransformer(@Nullable FIntValueTransformer valueTransformer, AHandle<?>... dependencies) {
+    return withValueTransformer(valueTransformer, dependencies);
+  }
+
+  /**
+   * Set a value transformer which consumes a long, so that writing the field
+   * through {@link FieldHandle#setLong} does not box the value to transform
+   * @param valueTransformer Transformer to set
+   * @param dependencies List of handles which this transformer depends on and which have to be present
+   */
+  public FieldPredicateBuilder withLongValueTransformer(@Nullable FLongValueTransformer valueTransformer, AHandle<?>... dependencies) {
+    return withValueTransformer(valueTransformer, dependencies);
+  }
+
+  /**
+   * Set a value transformer which consumes a double, so that writing the field
+   * through {@link FieldHandle#setDouble} does not box the value to transform
+   * @param valueTransformer Transformer to set
+   * @param dependencies List of handles which this transformer depends on and which have to be present
+   */
+  public FieldPredicateBuilder withDoubleValueTransformer(@Nullable FDoubleValueTransformer valueTransformer, AHandle<?>... dependencies) {
+    return withValueTransformer(valueTransformer, dependencies);
+  }
+
   ////////////////////////////////// Modifiers //////////////////////////////////
 
   /**
@@ -135,6 +199,17 @@ public class FieldPredicateBuilder extends APredicateBuilder<FieldHandle, FieldP
     return this;
   }
 
+  /**
+   * Define the target field's name as listed in the active {@link MemberMappings}, which is looked up
+   * exactly, while all other criteria are still matched and the name as well as these criteria are
+   * used to match fuzzily if there's no mapping or if the mapped field could not be found
+   * @param mappedName Mapped field name, null means no mapped lookup
+   */
+  public FieldPredicateBuilder withMappedName(@Nullable String mappedName) {
+    this.mappedName = mappedName;
+    return this;
+  }
+
   //////////////////////////////////// Type /////////////////////////////////////
 
   /**
@@ -249,81 +324,131 @@ public class FieldPredicateBuilder extends APredicateBuilder<FieldHandle, FieldP
   }
 
   @Override
-  public FieldHandle required() throws NoSuchElementException {
-    try {
-      checkVersionRange();
-
-      // At least a name or a type are required
-      if (name == null && type == null)
-        throw new IncompletePredicateBuilderException();
-
-      return new FieldHandle(targetClass.getHandle(), version, responseTransformer, valueTransformer, (member, counter) -> {
-
-        // Is inside of another class but superclass walking is disabled
-        if (!allowSuperclass && member.getDeclaringClass() != targetClass.getHandle())
-          return false;
-
-        // Static modifier mismatch
-        if (isStatic != null && Modifier.isStatic(member.getModifiers()) != isStatic)
-          return false;
-
-        // Public modifier mismatch
-        if (isPublic != null && Modifier.isPublic(member.getModifiers()) != isPublic)
-          return false;
-
-        // Name mismatch
-        if (name != null && !member.getName().equalsIgnoreCase(name))
-          return false;
-
-        // Type mismatch
-        if (type != null && !type.matches(member.getType()))
-          return false;
-
-        // Check generic parameters, if applicable
-        int numGenerics = genericTypes.size();
-        if (numGenerics > 0) {
-          Type genericType = member.getGenericType();
-
-          // Not a generic type (<...>)
-          if (!(genericType instanceof ParameterizedType))
-            return false;
-
-          Type[] types = ((ParameterizedType) genericType).getActualTypeArguments();
-
-          // Not enough generic type parameters available
-          if (types.length < numGenerics)
-            return false;
-
-          // Type parameters need to match in sequence
-          for (int i = 0; i < numGenerics; i++) {
-            if (!genericTypes.get(i).matches(unwrapType(types[i])))
-              return false;
-          }
-        }
-
-        // Everything matches, while skip > matchCounter, count up
-        if (skip > counter)
-          return null;
-
-        return true;
-      });
-    } catch (NoSuchElementException e) {
-      return invokeFallbacks(e);
+  protected Resolution<FieldHandle> resolve(@Nullable InvocationMode inheritedMode) {
+    InvocationMode mode = effectiveMode(inheritedMode);
+
+    if (!isInVersionRange())
+      return resolveFallbacks(outOfVersionRange(), mode);
+
+    // At least a name, a mapped name or a type are required
+    if (name == null && mappedName == null && type == null)
+      throw new IncompletePredicateBuilderException();
+
+    Class<?> target = targetClass.getHandle();
+    Resolution<Field> field = null;
+
+    // Mapped names are looked up exactly, which is why there are no matches to skip
+    if (mappedName != null) {
+      MemberMappings mappings = MemberMappings.getActive();
+      String runtimeName = mappings == null ? null : mappings.lookupField(target, mappedName, allowSuperclass);
+
+      if (runtimeName != null)
+        field = FieldHandle.locate(target, compile(target, runtimeName, 0));
+    }
+
+    // Match fuzzily if the mapped name is unknown or went stale
+    if (field == null || !field.isFound()) {
+      if (name != null || type != null)
+        field = FieldHandle.locate(target, compile(target, name, skip));
+      else if (field == null)
+        field = Resolution.miss(() -> "There's no mapping for the field " + mappedName + " of " + target.getName());
     }
+
+    return resolveFallbacks(field.map(member -> createHandle(member, mode)), mode);
+  }
+
+  /**
+   * Resolve multiple builders which search through the same class at once, where the primary lookups of
+   * all builders without a mapped name are located within a single walk over the class hierarchy
+   * @param target Class all builders search through
+   * @param builders Builders to resolve
+   * @return Resolutions in the order of the builders
+   * @throws IllegalArgumentException Thrown if a builder searches through another class
+   */
+  public static List<Resolution<FieldHandle>> resolveAll(ClassHandle target, List<FieldPredicateBuilder> builders) throws IllegalArgumentException {
+    return resolveAll(target.getHandle(), builders, FieldPredicateBuilder::compilePrimary, FieldHandle::locateAll, (builder, member) -> builder.createHandle(member, builder.invocationMode));
+  }
+
+  /**
+   * Compiles the predicate of this builder's primary lookup, if it may be located alongside others
+   * @return Predicate, null if this builder has to be resolved on it's own
+   */
+  private @Nullable FMemberPredicate<Field> compilePrimary() {
+    // Out of range versions and incomplete builders fail on their own, while mapped names aren't fuzzy
+    if (!isInVersionRange() || mappedName != null || (name == null && type == null))
+      return null;
+
+    return compile(targetClass.getHandle(), name, skip);
+  }
+
+  private FieldHandle createHandle(Field member, @Nullable InvocationMode mode) {
+    return new FieldHandle(member, version, mode, responseTransformer, valueTransformer);
   }
 
   /**
-   * Attempts to unwrap a given type to it's raw type class
-   * @param type Type to unwrap
-   * @return Unwrapped type
+   * Compile all criteria of this predicate into a described predicate
+   * @param target Class the search starts at
+   * @param exactName Name the field has to carry, null means wildcard
+   * @param skip Number of matches to skip
    */
-  private Class<?> unwrapType(Type type) {
-    if (type instanceof Class)
-      return (Class<?>) type;
+  private DescribedMemberPredicate<Field> compile(Class<?> target, @Nullable String exactName, int skip) {
+    PredicateCompiler<Field> compiler = new PredicateCompiler<>();
+
+    // Is inside of another class but superclass walking is disabled
+    if (!allowSuperclass)
+      compiler.check(PredicateCompiler.COST_TRIVIAL, member -> member.getDeclaringClass() == target);
 
-    if (type instanceof ParameterizedType)
-      return unwrapType(((ParameterizedType) type).getRawType());
+    // Static modifier mismatch
+    if (isStatic != null) {
+      boolean staticMode = isStatic;
+      compiler.check(PredicateCompiler.COST_TRIVIAL, member -> Modifier.isStatic(member.getModifiers()) == staticMode);
+    }
+
+    // Public modifier mismatch
+    if (isPublic != null) {
+      boolean publicMode = isPublic;
+      compiler.check(PredicateCompiler.COST_TRIVIAL, member -> Modifier.isPublic(member.getModifiers()) == publicMode);
+    }
+
+    // Name mismatch
+    if (exactName != null) {
+      String expectedName = exactName;
+      compiler.check(PredicateCompiler.COST_NAME, member -> member.getName().equalsIgnoreCase(expectedName));
+    }
 
-    throw new IllegalStateException("Cannot unwrap type of class=" + type.getClass());
+    // Type mismatch
+    if (type != null) {
+      Predicate<Class<?>> typeMatcher = type.compile();
+      compiler.check(PredicateCompiler.COST_TYPE, member -> typeMatcher.test(member.getType()));
+    }
+
+    // Check generic parameters, if applicable, which need to match in sequence
+    if (!genericTypes.isEmpty()) {
+      Predicate<Class<?>[]> genericsMatcher = PredicateCompiler.compileTypes(genericTypes, false);
+      compiler.check(PredicateCompiler.COST_GENERICS, member -> genericsMatcher.test(MemberIndex.of(member.getDeclaringClass()).getGenericArguments(member)));
+    }
+
+    return new DescribedMemberPredicate<>(describe(exactName, skip), exactName, type, compiler.compile(skip));
+  }
+
+  /**
+   * Describes all criteria of this predicate canonically, excluding transformers
+   * @param exactName Name the field has to carry, null means wildcard
+   * @param skip Number of matches to skip
+   */
+  private String describe(@Nullable String exactName, int skip) {
+    StringJoiner sj = new StringJoiner(" ");
+
+    sj.add("field");
+    sj.add(targetClass.getHandle().getName());
+    sj.add("static=" + isStatic);
+    sj.add("public=" + isPublic);
+    sj.add("name=" + exactName);
+    sj.add("type=" + type);
+    sj.add("generics=" + genericTypes);
+    sj.add("superclass=" + allowSuperclass);
+    sj.add("skip=" + skip);
+
+    return sj.toString();
   }
 }
@@ -27,29 +27,37 @@ package me.blvckbytes.bbreflect.handle.predicate;
 import me.blvckbytes.bbreflect.handle.AHandle;
 import me.blvckbytes.bbreflect.handle.ClassHandle;
 import me.blvckbytes.bbreflect.handle.MethodHandle;
+import me.blvckbytes.bbreflect.handle.Resolution;
+import me.blvckbytes.bbreflect.handle.MemberIndex;
+import me.blvckbytes.bbreflect.handle.accessor.InvocationMode;
+import me.blvckbytes.bbreflect.handle.mapping.MemberMappings;
+import me.blvckbytes.bbreflect.handle.transformer.CallLayout;
+import me.blvckbytes.bbreflect.handle.transformer.FArgumentTransformer;
 import me.blvckbytes.bbreflect.handle.transformer.FCallTransformer;
 import me.blvckbytes.bbreflect.handle.transformer.FResponseTransformer;
 import me.blvckbytes.bbreflect.version.ServerVersion;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.StringJoiner;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public class MethodPredicateBuilder extends APredicateBuilder<MethodHandle, MethodPredicateBuilder> {
 
   private @Nullable FCallTransformer callTransformer;
+  private @Nullable CallLayout callLayout;
   private @Nullable FResponseTransformer responseTransformer;
 
   private @Nullable Boolean isStatic;
   private @Nullable Boolean isPublic;
   private @Nullable Boolean isAbstract;
   private @Nullable String name;
+  private @Nullable String mappedName;
   private @Nullable ComparableType returnType;
   private final List<ComparableType> returnGenerics;
   private @Nullable List<ComparableType> parameterTypes;
@@ -90,6 +98,44 @@ public class MethodPredicateBuilder extends APredicateBuilder<MethodHandle, Meth
     return this;
   }
 
+  /**
+   * Add a transformer for a single argument of the call, which will be invoked
+   * before relaying the call to the handle's wrapped member. Other than a call
+   * transformer, this does not require re-allocating the call's arguments.
+   * @param index Index of the argument, as passed by the caller
+   * @param argumentTransformer Transformer to add
+   * @param dependencies List of handles which this transformer depends on and which have to be present
+   */
+  public MethodPredicateBuilder withArgumentTransformer(int index, FArgumentTransformer argumentTransformer, AHandle<?>... dependencies) {
+    initializeCallLayout().withArgumentTransformer(index, argumentTransformer);
+
+    if (isInVersionRange()) {
+      for (AHandle<?> handle : dependencies) {
+        if (handle == null)
+          throw new IllegalStateException("One of the transformers dependencies is missing");
+      }
+    }
+
+    return this;
+  }
+
+  /**
+   * Add a constant argument to the call, which will be inserted after all
+   * argument transformers ran, before relaying the call to the handle's wrapped member
+   * @param index Index of the parameter, as declared by the member
+   * @param value Value to insert
+   */
+  public MethodPredicateBuilder withConstantArgument(int index, @Nullable Object value) {
+    initializeCallLayout().withConstantArgument(index, value);
+    return this;
+  }
+
+  private CallLayout initializeCallLayout() {
+    if (this.callLayout == null)
+      this.callLayout = new CallLayout();
+    return this.callLayout;
+  }
+
   /**
    * Set the response transformer which will be invoked before responding with the function's result
    * @param responseTransformer Transformer to set
@@ -148,6 +194,17 @@ public class MethodPredicateBuilder extends APredicateBuilder<MethodHandle, Meth
     return this;
   }
 
+  /**
+   * Define the target method's name as listed in the active {@link MemberMappings}, which is looked up
+   * exactly, while all other criteria are still matched and the name as well as these criteria are
+   * used to match fuzzily if there's no mapping or if the mapped method could not be found
+   * @param mappedName Mapped method name, null means no mapped lookup
+   */
+  public MethodPredicateBuilder withMappedName(@Nullable String mappedName) {
+    this.mappedName = mappedName;
+    return this;
+  }
+
   //////////////////////////////////// Type /////////////////////////////////////
 
   /**
@@ -338,95 +395,148 @@ public class MethodPredicateBuilder extends APredicateBuilder<MethodHandle, Meth
   }
 
   @Override
-  public MethodHandle required() throws NoSuchElementException {
-    try {
-      checkVersionRange();
-
-      // At least a name, a return type or parameter types are required
-      if (name == null && returnType == null && parameterTypes == null)
-        throw new IncompletePredicateBuilderException();
-
-      return new MethodHandle(targetClass.getHandle(), version, callTransformer, responseTransformer, (member, counter) -> {
-
-        // Is inside of another class but superclass walking is disabled
-        if (!allowSuperclass && member.getDeclaringClass() != targetClass.getHandle())
-          return false;
-
-        // Static modifier mismatch
-        if (isStatic != null && Modifier.isStatic(member.getModifiers()) != isStatic)
-          return false;
-
-        // Abstract modifier mismatch
-        if (isAbstract != null && Modifier.isAbstract(member.getModifiers()) != isAbstract)
-          return false;
-
-        // Public modifier mismatch
-        if (isPublic != null && Modifier.isPublic(member.getModifiers()) != isPublic)
-          return false;
-
-        // Name mismatch
-        if (name != null && !member.getName().equalsIgnoreCase(name))
-          return false;
-
-        // Return type mismatch
-        if (returnType != null && !returnType.matches(member.getReturnType()))
-          return false;
-
-        // Check parameters, if applicable
-        if (this.parameterTypes != null) {
-          int numParameters = parameterTypes.size();
-          Class<?>[] parameters = member.getParameterTypes();
-
-          // Not exactly as many parameters as requested
-          if (numParameters != parameters.length)
-            return false;
-
-          // Parameters need to match in sequence
-          for (int i = 0; i < numParameters; i++) {
-            if (!parameterTypes.get(i).matches(parameters[i]))
-              return false;
-          }
-        }
-
-        // Check generic return parameters, if applicable
-        int numGenerics = returnGenerics.size();
-        if (numGenerics > 0) {
-          Type[] types = ((ParameterizedType) member.getGenericReturnType()).getActualTypeArguments();
-
-          // Not enough generic type parameters available
-          if (types.length < numGenerics)
-            return false;
-
-          // Type parameters need to match in sequence
-          for (int i = 0; i < numGenerics; i++) {
-            if (!returnGenerics.get(i).matches(unwrapType(types[i])))
-              return false;
-          }
-        }
-
-        // Everything matches, while skip > matchCounter, count up
-        if (skip > counter)
-          return null;
-
-        return true;
-      });
-    } catch (NoSuchElementException e) {
-      return invokeFallbacks(e);
+  protected Resolution<MethodHandle> resolve(@Nullable InvocationMode inheritedMode) {
+    InvocationMode mode = effectiveMode(inheritedMode);
+
+    if (!isInVersionRange())
+      return resolveFallbacks(outOfVersionRange(), mode);
+
+    // At least a name, a mapped name, a return type or parameter types are required
+    if (name == null && mappedName == null && returnType == null && parameterTypes == null)
+      throw new IncompletePredicateBuilderException();
+
+    Class<?> target = targetClass.getHandle();
+    Resolution<Method> method = null;
+
+    // Mapped names are looked up exactly, which is why there are no matches to skip
+    if (mappedName != null) {
+      MemberMappings mappings = MemberMappings.getActive();
+      String runtimeName = mappings == null ? null : mappings.lookupMethod(target, mappedName, allowSuperclass);
+
+      if (runtimeName != null)
+        method = MethodHandle.locate(target, compile(target, runtimeName, 0));
+    }
+
+    // Match fuzzily if the mapped name is unknown or went stale
+    if (method == null || !method.isFound()) {
+      if (name != null || returnType != null || parameterTypes != null)
+        method = MethodHandle.locate(target, compile(target, name, skip));
+      else if (method == null)
+        method = Resolution.miss(() -> "There's no mapping for the method " + mappedName + " of " + target.getName());
     }
+
+    return resolveFallbacks(method.map(member -> createHandle(member, mode)), mode);
+  }
+
+  /**
+   * Resolve multiple builders which search through the same class at once, where the primary lookups of
+   * all builders without a mapped name are located within a single walk over the class hierarchy
+   * @param target Class all builders search through
+   * @param builders Builders to resolve
+   * @return Resolutions in the order of the builders
+   * @throws IllegalArgumentException Thrown if a builder searches through another class
+   */
+  public static List<Resolution<MethodHandle>> resolveAll(ClassHandle target, List<MethodPredicateBuilder> builders) throws IllegalArgumentException {
+    return resolveAll(target.getHandle(), builders, MethodPredicateBuilder::compilePrimary, MethodHandle::locateAll, (builder, member) -> builder.createHandle(member, builder.invocationMode));
   }
 
   /**
-   * Attempts to unwrap a given type to it's raw type class
-   * @param type Type to unwrap
-   * @return Unwrapped type
+   * Compiles the predicate of this builder's primary lookup, if it may be located alongside others
+   * @return Predicate, null if this builder has to be resolved on it's own
    */
-  private Class<?> unwrapType(Type type) {
-    if (type instanceof Class)
-      return (Class<?>) type;
+  private @Nullable FMemberPredicate<Method> compilePrimary() {
+    // Out of range versions and incomplete builders fail on their own, while mapped names aren't fuzzy
+    if (!isInVersionRange() || mappedName != null || (name == null && returnType == null && parameterTypes == null))
+      return null;
+
+    return compile(targetClass.getHandle(), name, skip);
+  }
+
+  private MethodHandle createHandle(Method member, @Nullable InvocationMode mode) {
+    return new MethodHandle(member, version, mode, callTransformer, callLayout, responseTransformer);
+  }
 
-    if (type instanceof ParameterizedType)
-      return unwrapType(((ParameterizedType) type).getRawType());
+  /**
+   * Compile all criteria of this predicate into a described predicate
+   * @param target Class the search starts at
+   * @param exactName Name the method has to carry, null means wildcard
+   * @param skip Number of matches to skip
+   */
+  private DescribedMemberPredicate<Method> compile(Class<?> target, @Nullable String exactName, int skip) {
+    PredicateCompiler<Method> compiler = new PredicateCompiler<>();
+
+    // Is inside of another class but superclass walking is disabled
+    if (!allowSuperclass)
+      compiler.check(PredicateCompiler.COST_TRIVIAL, member -> member.getDeclaringClass() == target);
+
+    // Static modifier mismatch
+    if (isStatic != null) {
+      boolean staticMode = isStatic;
+      compiler.check(PredicateCompiler.COST_TRIVIAL, member -> Modifier.isStatic(member.getModifiers()) == staticMode);
+    }
+
+    // Public modifier mismatch
+    if (isPublic != null) {
+      boolean publicMode = isPublic;
+      compiler.check(PredicateCompiler.COST_TRIVIAL, member -> Modifier.isPublic(member.getModifiers()) == publicMode);
+    }
 
-    throw new IllegalStateException("Cannot unwrap type of class=" + type.getClass());
+    // Abstract modifier mismatch
+    if (isAbstract != null) {
+      boolean abstractMode = isAbstract;
+      compiler.check(PredicateCompiler.COST_TRIVIAL, member -> Modifier.isAbstract(member.getModifiers()) == abstractMode);
+    }
+
+    // Name mismatch
+    if (exactName != null) {
+      String expectedName = exactName;
+      compiler.check(PredicateCompiler.COST_NAME, member -> member.getName().equalsIgnoreCase(expectedName));
+    }
+
+    // Return type mismatch
+    if (returnType != null) {
+      Predicate<Class<?>> returnTypeMatcher = returnType.compile();
+      compiler.check(PredicateCompiler.COST_TYPE, member -> returnTypeMatcher.test(member.getReturnType()));
+    }
+
+    // Check parameters, if applicable, which need to be exactly as many and match in sequence
+    if (parameterTypes != null) {
+      int numParameters = parameterTypes.size();
+      Predicate<Class<?>[]> parametersMatcher = PredicateCompiler.compileTypes(parameterTypes, true);
+
+      compiler.check(PredicateCompiler.COST_TRIVIAL, member -> member.getParameterCount() == numParameters);
+      compiler.check(PredicateCompiler.COST_TYPES, member -> parametersMatcher.test(member.getParameterTypes()));
+    }
+
+    // Check generic return parameters, if applicable, which need to match in sequence
+    if (!returnGenerics.isEmpty()) {
+      Predicate<Class<?>[]> genericsMatcher = PredicateCompiler.compileTypes(returnGenerics, false);
+      compiler.check(PredicateCompiler.COST_GENERICS, member -> genericsMatcher.test(MemberIndex.of(member.getDeclaringClass()).getGenericArguments(member)));
+    }
+
+    return new DescribedMemberPredicate<>(describe(exactName, skip), exactName, returnType, compiler.compile(skip));
+  }
+
+  /**
+   * Describes all criteria of this predicate canonically, excluding transformers
+   * @param exactName Name the method has to carry, null means wildcard
+   * @param skip Number of matches to skip
+   */
+  private String describe(@Nullable String exactName, int skip) {
+    StringJoiner sj = new StringJoiner(" ");
+
+    sj.add("method");
+    sj.add(targetClass.getHandle().getName());
+    sj.add("static=" + isStatic);
+    sj.add("public=" + isPublic);
+    sj.add("abstract=" + isAbstract);
+    sj.add("name=" + exactName);
+    sj.add("return=" + returnType);
+    sj.add("generics=" + returnGenerics);
+    sj.add("parameters=" + parameterTypes);
+    sj.add("superclass=" + allowSuperclass);
+    sj.add("skip=" + skip);
+
+    return sj.toString();
   }
 }
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.predicate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Compiles the criteria of a predicate builder into a minimal chain of checks, which only
+ * contains those criteria which have actually been set, ordered by ascending cost, such
+ * that cheap and selective checks reject most members before any expensive check runs.
+ */
+class PredicateCompiler<T> {
+
+  // Comparisons of modifiers, declaring classes or counts
+  static final int COST_TRIVIAL = 0;
+
+  // Case-insensitive name comparisons
+  static final int COST_NAME = 1;
+
+  // Comparisons of a single type
+  static final int COST_TYPE = 2;
+
+  // Comparisons of a list of types, which have to be copied off the member
+  static final int COST_TYPES = 3;
+
+  // Comparisons of generic type arguments, which have to be parsed off the signature
+  static final int COST_GENERICS = 4;
+
+  private final List<Predicate<T>>[] checksByCost;
+
+  @SuppressWarnings("unchecked")
+  PredicateCompiler() {
+    this.checksByCost = (List<Predicate<T>>[]) new List<?>[COST_GENERICS + 1];
+
+    for (int i = 0; i < checksByCost.length; i++)
+      checksByCost[i] = new ArrayList<>();
+  }
+
+  /**
+   * Add a check to the chain
+   * @param cost Cost of the check, one of the COST_* constants
+   * @param check Check which has to pass for a member to match
+   */
+  PredicateCompiler<T> check(int cost, Predicate<T> check) {
+    checksByCost[cost].add(check);
+    return this;
+  }
+
+  /**
+   * Compile all checks into a member predicate
+   * @param skip Number of matches to skip before matching
+   */
+  @SuppressWarnings("unchecked")
+  FMemberPredicate<T> compile(int skip) {
+    List<Predicate<T>> ordered = new ArrayList<>();
+
+    for (List<Predicate<T>> checks : checksByCost)
+      ordered.addAll(checks);
+
+    Predicate<T>[] chain = ordered.toArray((Predicate<T>[]) new Predicate<?>[0]);
+
+    return (member, counter) -> {
+      for (Predicate<T> check : chain) {
+        if (!check.test(member))
+          return false;
+      }
+
+      // Everything matches, while skip > matchCounter, count up
+      if (skip > counter)
+        return null;
+
+      return true;
+    };
+  }
+
+  /**
+   * Compile a check which matches a list of types against a list of member types in sequence
+   * @param types Types to match, where a member needs to have exactly as many or at least as many
+   * @param exactCount Whether the member needs to have exactly as many types
+   */
+  static Predicate<Class<?>[]> compileTypes(List<ComparableType> types, boolean exactCount) {
+    int numTypes = types.size();
+
+    @SuppressWarnings("unchecked")
+    Predicate<Class<?>>[] matchers = (Predicate<Class<?>>[]) new Predicate<?>[numTypes];
+
+    for (int i = 0; i < numTypes; i++)
+      matchers[i] = types.get(i).compile();
+
+    return memberTypes -> {
+      if (exactCount ? memberTypes.length != numTypes : memberTypes.length < numTypes)
+        return false;
+
+      // Types need to match in sequence
+      for (int i = 0; i < numTypes; i++) {
+        Class<?> memberType = memberTypes[i];
+
+        if (memberType == null || !matchers[i].test(memberType))
+          return false;
+      }
+
+      return true;
+    };
+  }
+}
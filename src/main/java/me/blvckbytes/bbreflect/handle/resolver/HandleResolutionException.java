@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.resolver;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Aggregates all failures which occurred while resolving a batch of handles
+ */
+public class HandleResolutionException extends Exception {
+
+  private static final long serialVersionUID = 1L;
+
+  private final Map<String, Throwable> failures;
+
+  /**
+   * Create a new aggregated resolution exception
+   * @param failures Name of each failed resolution to it's cause, in submission order
+   */
+  public HandleResolutionException(Map<String, Throwable> failures) {
+    super(describe(failures));
+
+    this.failures = Collections.unmodifiableMap(failures);
+
+    for (Throwable cause : failures.values())
+      addSuppressed(cause);
+  }
+
+  /**
+   * Get the name of each failed resolution mapped to it's cause, in submission order
+   */
+  public Map<String, Throwable> getFailures() {
+    return failures;
+  }
+
+  private static String describe(Map<String, Throwable> failures) {
+    StringBuilder message = new StringBuilder("Could not resolve " + failures.size() + " handle(s):");
+
+    for (Map.Entry<String, Throwable> failure : failures.entrySet()) {
+      Throwable cause = failure.getValue();
+      message.append("\n- ").append(failure.getKey()).append(": ").append(cause.getClass().getSimpleName());
+
+      String causeMessage = cause.getMessage();
+      if (causeMessage != null)
+        message.append(" (").append(causeMessage.split("\n", 2)[0]).append(')');
+    }
+
+    return message.toString();
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.resolver;
+
+import me.blvckbytes.bbreflect.handle.predicate.APredicateBuilder;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Resolves a batch of handles concurrently, where handles which depend on others, like through
+ * the dependencies of their transformers, are only resolved once their dependencies completed.
+ * Failures are not thrown individually, but collected and reported at once by {@link #join()}.
+ */
+public class HandleResolver {
+
+  private final Executor executor;
+  private final Map<String, CompletableFuture<?>> resolutions;
+
+  /**
+   * Create a new resolver which runs on the common fork-join pool
+   */
+  public HandleResolver() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Create a new resolver which runs on a given executor
+   * @param executor Executor to run resolutions on
+   */
+  public HandleResolver(Executor executor) {
+    this.executor = executor;
+    this.resolutions = new LinkedHashMap<>();
+  }
+
+  /**
+   * Resolve a handle which is required to be present
+   * @param name Unique name of the resolution, used when reporting failures
+   * @param builder Supplier of the predicate builder, called once all dependencies completed
+   * @param dependencies Resolutions the builder depends on, which it may join on without blocking
+   * @return Future of the resolved handle
+   */
+  public <T> CompletableFuture<T> required(String name, Supplier<? extends APredicateBuilder<T, ?>> builder, CompletableFuture<?>... dependencies) {
+    return submit(name, () -> builder.get().required(), dependencies);
+  }
+
+  /**
+   * Resolve a handle which may be absent, which is reported as null instead of a failure
+   * @param name Unique name of the resolution, used when reporting failures
+   * @param builder Supplier of the predicate builder, called once all dependencies completed
+   * @param dependencies Resolutions the builder depends on, which it may join on without blocking
+   * @return Future of the resolved handle, completing with null if it couldn't be located
+   */
+  public <T> CompletableFuture<T> optional(String name, Supplier<? extends APredicateBuilder<T, ?>> builder, CompletableFuture<?>... dependencies) {
+    return submit(name, () -> builder.get().optional(), dependencies);
+  }
+
+  /**
+   * Resolve an arbitrary value, like a class handle
+   * @param name Unique name of the resolution, used when reporting failures
+   * @param resolver Resolver of the value, called once all dependencies completed
+   * @param dependencies Resolutions the resolver depends on, which it may join on without blocking
+   * @return Future of the resolved value
+   */
+  public <T> CompletableFuture<T> submit(String name, Callable<T> resolver, CompletableFuture<?>... dependencies) {
+    CompletableFuture<T> resolution = CompletableFuture.allOf(dependencies).thenApplyAsync(v -> {
+      try {
+        return resolver.call();
+      } catch (Exception e) {
+        throw new CompletionException(e);
+      }
+    }, executor);
+
+    synchronized (resolutions) {
+      if (resolutions.putIfAbsent(name, resolution) != null)
+        throw new IllegalArgumentException("The resolution name " + name + " is already in use");
+    }
+
+    return resolution;
+  }
+
+  /**
+   * Wait for all submitted resolutions to complete
+   * @throws HandleResolutionException Thrown if at least one resolution failed, where resolutions which
+   *                                   only failed because one of their dependencies failed are omitted
+   */
+  public void join() throws HandleResolutionException {
+    List<Map.Entry<String, CompletableFuture<?>>> pending;
+
+    synchronized (resolutions) {
+      pending = new ArrayList<>(resolutions.entrySet());
+    }
+
+    Map<String, Throwable> failures = new LinkedHashMap<>();
+    Set<Throwable> reportedCauses = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    for (Map.Entry<String, CompletableFuture<?>> resolution : pending) {
+      try {
+        resolution.getValue().join();
+      } catch (CompletionException | CancellationException e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+
+        // Dependents fail with the very same cause as their dependency, which has been submitted first
+        if (reportedCauses.add(cause))
+          failures.put(resolution.getKey(), cause);
+      }
+    }
+
+    if (!failures.isEmpty())
+      throw new HandleResolutionException(failures);
+  }
+}
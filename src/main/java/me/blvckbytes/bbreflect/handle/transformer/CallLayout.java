@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.handle.transformer;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Describes how a call is rearranged position by position in order to match the signature
+ * of it's representative member. Other than with a {@link FCallTransformer}, the layout is
+ * known up-front, which allows invocation modes to apply it without re-allocating arguments.
+ */
+public class CallLayout {
+
+  // Transformers by the caller's argument index
+  private final Map<Integer, FArgumentTransformer> argumentTransformers;
+
+  // Constants by the member's parameter index, which are inserted after transforming
+  private final NavigableMap<Integer, Object> constantArguments;
+
+  public CallLayout() {
+    this.argumentTransformers = new HashMap<>();
+    this.constantArguments = new TreeMap<>();
+  }
+
+  /**
+   * Transform the argument at the specified position of the call
+   * @param index Index of the argument, as passed by the caller
+   * @param transformer Transformer to apply on the argument
+   */
+  public CallLayout withArgumentTransformer(int index, FArgumentTransformer transformer) {
+    if (index < 0)
+      throw new IllegalArgumentException("Argument indices cannot be negative");
+
+    this.argumentTransformers.put(index, transformer);
+    return this;
+  }
+
+  /**
+   * Insert a constant argument at the specified position of the call
+   * @param index Index of the parameter, as declared by the member
+   * @param value Value to insert
+   */
+  public CallLayout withConstantArgument(int index, @Nullable Object value) {
+    if (index < 0)
+      throw new IllegalArgumentException("Parameter indices cannot be negative");
+
+    this.constantArguments.put(index, value);
+    return this;
+  }
+
+  /**
+   * Get all argument transformers, keyed by the index of the argument they're applied on
+   */
+  public Map<Integer, FArgumentTransformer> getArgumentTransformers() {
+    return Collections.unmodifiableMap(argumentTransformers);
+  }
+
+  /**
+   * Get all constant arguments, keyed by the index of the parameter they're passed to, ascending
+   */
+  public NavigableMap<Integer, Object> getConstantArguments() {
+    return Collections.unmodifiableNavigableMap(constantArguments);
+  }
+
+  /**
+   * Checks whether this layout leaves all calls untouched
+   */
+  public boolean isEmpty() {
+    return argumentTransformers.isEmpty() && constantArguments.isEmpty();
+  }
+
+  /**
+   * Rearranges a call so that it can match the signature of it's representative member
+   * @param arguments Arguments, as passed by the caller
+   * @return Arguments, as expected by the member
+   */
+  public Object[] apply(Object[] arguments) throws Exception {
+    Object[] result = new Object[arguments.length + constantArguments.size()];
+    int argumentIndex = 0;
+
+    for (int i = 0; i < result.length; i++) {
+      if (constantArguments.containsKey(i)) {
+        result[i] = constantArguments.get(i);
+        continue;
+      }
+
+      if (argumentIndex == arguments.length)
+        throw new IllegalArgumentException("wrong number of arguments");
+
+      Object argument = arguments[argumentIndex];
+      FArgumentTransformer transformer = argumentTransformers.get(argumentIndex++);
+
+      result[i] = transformer == null ? argument : transformer.apply(argument);
+    }
+
+    return result;
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.bbreflect.manifest;
+
+import me.blvckbytes.bbreflect.RClass;
+import me.blvckbytes.bbreflect.ReflectionHelper;
+import me.blvckbytes.bbreflect.handle.cache.ResolutionCache;
+import me.blvckbytes.bbreflect.version.ServerVersion;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates the manifest of a server version offline, by resolving all classes, the handles of
+ * the reflection helper and the handles of all contributors against a server jar which is on the
+ * classpath. The resulting file is to be packaged into the plugin at {@link ResolutionCache#getManifestPath}.
+ *
+ * Usage: java -cp bbreflect.jar:server.jar:contributors.jar me.blvckbytes.bbreflect.manifest.ManifestGenerator
+ *        &lt;version, like 1.19.3&gt; &lt;output directory&gt; [CraftBukkit package, like v1_19_R2]
+ */
+public class ManifestGenerator {
+
+  private static final Pattern CRAFT_SERVER_PATTERN = Pattern.compile("org/bukkit/craftbukkit/(v\\d+_\\d+_R\\d+)/CraftServer\\.class");
+
+  private final ServerVersion version;
+  private final File output;
+
+  /**
+   * Create a new manifest generator
+   * @param version Server version to generate for
+   * @param outputDirectory Directory to write the manifest into, at it's resource path
+   */
+  public ManifestGenerator(ServerVersion version, File outputDirectory) {
+    this.version = version;
+    this.output = new File(outputDirectory, ResolutionCache.getManifestPath(version));
+  }
+
+  /**
+   * Get the file the manifest is written to
+   */
+  public File getOutput() {
+    return output;
+  }
+
+  /**
+   * Generate and write the manifest
+   * @return Result of the generation, leaving reporting up to the caller
+   * @throws IOException Thrown if the manifest could not be written
+   */
+  public Result generate() throws IOException {
+    Result result = new Result();
+
+    ResolutionCache manifest = ResolutionCache.load(output, version, ResolutionCache.MANIFEST_FINGERPRINT);
+    manifest.clear();
+
+    ResolutionCache previous = ResolutionCache.getActive();
+    ResolutionCache.setActive(manifest);
+
+    try {
+      // Classes are resolved by their exact names already, where some only exist on certain versions
+      for (RClass rClass : RClass.values())
+        result.attempt("class " + rClass, false, () -> rClass.resolve(version));
+
+      result.attempt("reflection helper", true, () -> new ReflectionHelper(version));
+
+      for (IManifestContributor contributor : ServiceLoader.load(IManifestContributor.class))
+        result.attempt("contributor " + contributor.getClass().getName(), true, () -> contributor.contribute(version));
+    } finally {
+      ResolutionCache.setActive(previous);
+    }
+
+    manifest.save();
+    result.resolutions = manifest.size();
+
+    return result;
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 2) {
+      System.err.println("Usage: <version, like 1.19.3> <output directory> [CraftBukkit package, like v1_19_R2]");
+      System.exit(2);
+      return;
+    }
+
+    String[] versionData = args[0].split("\\.");
+    ServerVersion version = ServerVersion.fromVersions(
+      Integer.parseInt(versionData[0]),
+      Integer.parseInt(versionData[1]),
+      versionData.length > 2 ? Integer.parseInt(versionData[2]) : 0
+    );
+
+    if (version == null) {
+      System.err.println("Unsupported version: " + args[0]);
+      System.exit(2);
+      return;
+    }
+
+    String bukkitPackage = args.length > 2 ? args[2] : findBukkitPackage();
+
+    if (bukkitPackage == null) {
+      System.err.println("Could not find CraftBukkit on the classpath, please specify it's package");
+      System.exit(2);
+      return;
+    }
+
+    ServerVersion.setBukkitPackage(bukkitPackage);
+
+    ManifestGenerator generator = new ManifestGenerator(version, new File(args[1]));
+    Result result = generator.generate();
+
+    for (String problem : result.getProblems())
+      System.err.println(problem);
+
+    System.out.println("Wrote " + result.getResolutions() + " resolution(s) to " + generator.getOutput());
+    System.exit(result.getFailures() == 0 ? 0 : 1);
+  }
+
+  /**
+   * Find the package revision of CraftBukkit by searching all jars on the classpath for it's server class
+   */
+  private static @Nullable String findBukkitPackage() throws IOException {
+    for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+      if (!entry.endsWith(".jar") || !new File(entry).isFile())
+        continue;
+
+      try (
+        JarFile jar = new JarFile(entry)
+      ) {
+        Enumeration<JarEntry> entries = jar.entries();
+
+        while (entries.hasMoreElements()) {
+          Matcher matcher = CRAFT_SERVER_PATTERN.matcher(entries.nextElement().getName());
+
+          if (matcher.matches())
+            return matcher.group(1);
+        }
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Outcome of a manifest generation
+   */
+  public static class Result {
+
+    private final List<String> problems;
+    private int failures;
+    private int resolutions;
+
+    private Result() {
+      this.problems = new ArrayList<>();
+    }
+
+    private void attempt(String name, boolean required, FContribution contribution) {
+      try {
+        contribution.run();
+      } catch (Exception | LinkageError e) {
+        if (required)
+          ++failures;
+
+        problems.add((required ? "Could not resolve " : "Skipped ") + name + ": " + e);
+      }
+    }
+
+    /**
+     * Get the number of required contributions which could not be resolved
+     */
+    public int getFailures() {
+      return failures;
+    }
+
+    /**
+     * Get the number of resolutions which have been written
+     */
+    public int getResolutions() {
+      return resolutions;
+    }
+
+    /**
+     * Get a description of each contribution which could not be resolved, required or not
+     */
+    public List<String> getProblems() {
+      return problems;
+    }
+  }
+
+  @FunctionalInterface
+  private interface FContribution {
+    void run() throws Exception;
+  }
+}
@@ -24,6 +24,7 @@
 
 package me.blvckbytes.bbreflect.packets;
 
+import me.blvckbytes.bbreflect.version.ServerVersion;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.Nullable;
 
@@ -35,4 +36,12 @@ public interface IPacketOwner {
 
   int getVersion();
 
+  /**
+   * Get the newest server version which speaks the protocol this owner reported
+   * @return Version, null if the protocol is unknown or has not yet been reported
+   */
+  default @Nullable ServerVersion getServerVersion() {
+    return ServerVersion.fromProtocol(getVersion());
+  }
+
 }
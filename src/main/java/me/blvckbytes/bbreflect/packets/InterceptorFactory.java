@@ -374,7 +374,7 @@ public class InterceptorFactory implements IPacketOperator, Listener {
   public int tryExtractVersion(Interceptor requester, Object packet) throws Exception {
     if (!C_PACKET_HANDSHAKE.isInstance(packet))
       return -1;
-    return (int) F_PACKET_HANDSHAKE__CLIENT_VERSION.get(packet);
+    return F_PACKET_HANDSHAKE__CLIENT_VERSION.getInt(packet);
   }
 
   @Override
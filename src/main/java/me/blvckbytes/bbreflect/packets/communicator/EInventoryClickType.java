@@ -24,8 +24,6 @@
 
 package me.blvckbytes.bbreflect.packets.communicator;
 
-import me.blvckbytes.bbreflect.version.ServerVersion;
-
 public enum EInventoryClickType {
   PICKUP,
   QUICK_MOVE,
@@ -38,14 +36,4 @@ public enum EInventoryClickType {
   UNKNOWN
   ;
 
-  private static final EInventoryClickType[] values = values();
-
-  public static EInventoryClickType fromOrdinal(int ordinal, ServerVersion version) {
-    // NOTE: For now, the server version is not taken into account, but this might change in the future
-
-    if (ordinal < 0 || ordinal >= values.length)
-      return UNKNOWN;
-
-    return values[ordinal];
-  }
 }
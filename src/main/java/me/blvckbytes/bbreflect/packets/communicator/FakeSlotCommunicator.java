@@ -29,7 +29,9 @@ import me.blvckbytes.autowirer.IInitializable;
 import me.blvckbytes.bbreflect.IReflectionHelper;
 import me.blvckbytes.bbreflect.RClass;
 import me.blvckbytes.bbreflect.handle.*;
+import me.blvckbytes.bbreflect.handle.accessor.InvocationMode;
 import me.blvckbytes.bbreflect.handle.predicate.Assignability;
+import me.blvckbytes.bbreflect.handle.resolver.HandleResolver;
 import me.blvckbytes.bbreflect.packets.EPriority;
 import me.blvckbytes.bbreflect.packets.IPacketInterceptorRegistry;
 import me.blvckbytes.bbreflect.packets.IPacketOwner;
@@ -41,6 +43,7 @@ import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -56,7 +59,13 @@ public class FakeSlotCommunicator implements IFakeSlotCommunicator, IInitializab
   private final FieldHandle F_PO_WINDOW_ITEMS__WINDOW_ID, F_PO_SET_SLOT__WINDOW_ID, F_PO_SET_SLOT__ITEM,
     F_PO_SET_SLOT__STATE_ID_OR_SLOT_ID, F_PI_WINDOW_CLICK__INVENTORY_CLICK_TYPE_ORDINAL;
   private final @Nullable FieldHandle F_PO_SET_SLOT__SLOT_ID;
+
+  // All fields of the set slot packet, read and written at once by the interceptor
+  private final FieldGroup G_PO_SET_SLOT;
+  private final int I_PO_SET_SLOT__WINDOW_ID, I_PO_SET_SLOT__SLOT_ID, I_PO_SET_SLOT__ITEM;
+  private final ThreadLocal<FieldBuffer> setSlotBuffers;
   private final MethodHandle M_AS_NMS_COPY;
+  private final EnumMapping<EInventoryClickType> E_INVENTORY_CLICK_TYPE;
 
   private final IReflectionHelper reflectionHelper;
   private final Logger logger;
@@ -79,81 +88,119 @@ public class FakeSlotCommunicator implements IFakeSlotCommunicator, IInitializab
     C_PO_WINDOW_ITEMS = reflectionHelper.getClass(RClass.PACKET_O_WINDOW_ITEMS);
     C_PO_SET_SLOT = reflectionHelper.getClass(RClass.PACKET_O_SET_SLOT);
     C_PI_WINDOW_CLICK = reflectionHelper.getClass(RClass.PACKET_I_WINDOW_CLICK);
-    ClassHandle E_INVENTORY_CLICK_TYPE = reflectionHelper.getClass(RClass.INVENTORY_CLICK_TYPE);
-
-    F_PI_WINDOW_CLICK__INVENTORY_CLICK_TYPE_ORDINAL = C_PI_WINDOW_CLICK.locateField()
-      .withType(E_INVENTORY_CLICK_TYPE)
-      .withResponseTransformer(value -> {
-        assert value != null;
-        return (byte) ((Enum<?>) value).ordinal();
-      })
-      // In 1.8 and below, the click type has been a byte, which exactly represented
-      // the ordinal value of the nowadays enumeration
-      .orElse(() -> (
-        C_PI_WINDOW_CLICK.locateField()
-        .withVersionRange(null, ServerVersion.V1_8_R9)
-        .withType(byte.class)
-      ))
-      .required();
+    ClassHandle C_INVENTORY_CLICK_TYPE = reflectionHelper.getClass(RClass.INVENTORY_CLICK_TYPE);
 
+    // Click types which are unknown to this library are reported as such
+    E_INVENTORY_CLICK_TYPE = C_INVENTORY_CLICK_TYPE.asEnum()
+      .mapTo(EInventoryClickType.class)
+      .withUnmapped(EInventoryClickType.UNKNOWN)
+      .withFallback(EInventoryClickType.UNKNOWN)
+      .build();
 
     ClassHandle C_ITEM_STACK = reflectionHelper.getClass(RClass.ITEM_STACK);
     ClassHandle C_CRAFT_ITEM_STACK = reflectionHelper.getClass(RClass.CRAFT_ITEM_STACK);
 
-    M_AS_NMS_COPY = C_CRAFT_ITEM_STACK.locateMethod()
-      .withPublic(true)
-      .withStatic(true)
-      .withName("asNMSCopy")
-      .required();
-
-    /*
-      constructor(
-        int windowId,
-        int slot,
-        ItemStack item
-      )
-     */
-    CT_PO_SET_SLOT = C_PO_SET_SLOT.locateConstructor()
-      .withVersionRange(ServerVersion.V1_18_R0, null)
-      .withParameters(int.class, int.class, int.class)
-      .withParameter(C_ITEM_STACK, false, Assignability.TYPE_TO_TARGET)
-      .withCallTransformer(args -> (
+    // None of the members below depend on each other, except for the set slot constructor
+    HandleResolver resolver = new HandleResolver();
+
+    CompletableFuture<FieldHandle> clickTypeOrdinal = resolver.required("window click type ordinal", () -> (
+      C_PI_WINDOW_CLICK.locateField()
+        .withType(C_INVENTORY_CLICK_TYPE)
+        .withIntResponseTransformer(value -> {
+          assert value != null;
+          return ((Enum<?>) value).ordinal();
+        })
+        // In 1.8 and below, the click type has been a byte, which exactly represented
+        // the ordinal value of the nowadays enumeration
+        .orElse(() -> (
+          C_PI_WINDOW_CLICK.locateField()
+          .withVersionRange(null, ServerVersion.V1_8_R9)
+          .withType(byte.class)
+        ))
+    ));
+
+    CompletableFuture<MethodHandle> asNmsCopy = resolver.required("as nms copy", () -> (
+      C_CRAFT_ITEM_STACK.locateMethod()
+        .withPublic(true)
+        .withStatic(true)
+        .withName("asNMSCopy")
+    ));
+
+    CompletableFuture<ConstructorHandle> setSlotConstructor = resolver.required("set slot constructor", () -> {
+      MethodHandle asNmsCopyHandle = asNmsCopy.join();
+
+      /*
+        constructor(
+          int windowId,
+          int slot,
+          ItemStack item
+        )
+       */
+      return C_PO_SET_SLOT.locateConstructor()
+        .withVersionRange(ServerVersion.V1_18_R0, null)
+        .withParameters(int.class, int.class, int.class)
+        .withParameter(C_ITEM_STACK, false, Assignability.TYPE_TO_TARGET)
+        .withInvocationMode(InvocationMode.METHOD_HANDLE)
+        .withArgumentTransformer(2, item -> asNmsCopyHandle.invoke1(null, item), asNmsCopyHandle)
         // Looks like just setting the state ID to zero works out in all cases
         // These kind of user interfaces this is used on don't really carry state
-        new Object[] { args[0], 0, args[1], M_AS_NMS_COPY.invoke(null, args[2]) }
-      ), M_AS_NMS_COPY)
-      .orElse(() -> (
-         C_PO_SET_SLOT.locateConstructor()
-          .withVersionRange(null, ServerVersion.V1_17_R0)
-          .withParameters(int.class, int.class)
-          .withParameter(C_ITEM_STACK, false, Assignability.TYPE_TO_TARGET)
-          .withCallTransformer(args -> (
-            new Object[] { args[0], args[1], M_AS_NMS_COPY.invoke(null, args[2]) }
-          ), M_AS_NMS_COPY)
-      ))
-      .required();
-
-    F_PO_SET_SLOT__WINDOW_ID = C_PO_SET_SLOT.locateField()
-      .withType(int.class)
-      .required();
-
-    F_PO_SET_SLOT__STATE_ID_OR_SLOT_ID = C_PO_SET_SLOT.locateField()
-      .withType(int.class)
-      .withSkip(1)
-      .required();
-
-    F_PO_SET_SLOT__SLOT_ID = C_PO_SET_SLOT.locateField()
-      .withType(int.class)
-      .withSkip(2)
-      .optional();
-
-    F_PO_SET_SLOT__ITEM = C_PO_SET_SLOT.locateField()
-      .withType(C_ITEM_STACK)
-      .required();
-
-    F_PO_WINDOW_ITEMS__WINDOW_ID = C_PO_WINDOW_ITEMS.locateField()
-      .withType(int.class)
-      .required();
+        .withConstantArgument(1, 0)
+        .orElse(() -> (
+           C_PO_SET_SLOT.locateConstructor()
+            .withVersionRange(null, ServerVersion.V1_17_R0)
+            .withParameters(int.class, int.class)
+            .withParameter(C_ITEM_STACK, false, Assignability.TYPE_TO_TARGET)
+            .withArgumentTransformer(2, item -> asNmsCopyHandle.invoke1(null, item), asNmsCopyHandle)
+        ));
+    }, asNmsCopy);
+
+    // All fields of the set slot packet are located within a single walk over it's members
+    CompletableFuture<List<Resolution<FieldHandle>>> setSlotFields = resolver.submit("set slot fields", () -> (
+      C_PO_SET_SLOT.resolveFields(
+        C_PO_SET_SLOT.locateField()
+          .withType(int.class),
+        C_PO_SET_SLOT.locateField()
+          .withType(int.class)
+          .withSkip(1),
+        C_PO_SET_SLOT.locateField()
+          .withType(int.class)
+          .withSkip(2),
+        C_PO_SET_SLOT.locateField()
+          .withType(C_ITEM_STACK)
+      )
+    ));
+
+    CompletableFuture<FieldHandle> setSlotWindowId = resolver.submit("set slot window id", () -> setSlotFields.join().get(0).require(), setSlotFields);
+    CompletableFuture<FieldHandle> setSlotStateIdOrSlotId = resolver.submit("set slot state id or slot id", () -> setSlotFields.join().get(1).require(), setSlotFields);
+    CompletableFuture<FieldHandle> setSlotSlotId = resolver.submit("set slot slot id", () -> setSlotFields.join().get(2).orNull(), setSlotFields);
+    CompletableFuture<FieldHandle> setSlotItem = resolver.submit("set slot item", () -> setSlotFields.join().get(3).require(), setSlotFields);
+
+    CompletableFuture<FieldHandle> windowItemsWindowId = resolver.required("window items window id", () -> (
+      C_PO_WINDOW_ITEMS.locateField()
+        .withType(int.class)
+    ));
+
+    resolver.join();
+
+    F_PI_WINDOW_CLICK__INVENTORY_CLICK_TYPE_ORDINAL = clickTypeOrdinal.join();
+    M_AS_NMS_COPY = asNmsCopy.join();
+    CT_PO_SET_SLOT = setSlotConstructor.join();
+    F_PO_SET_SLOT__WINDOW_ID = setSlotWindowId.join();
+    F_PO_SET_SLOT__STATE_ID_OR_SLOT_ID = setSlotStateIdOrSlotId.join();
+    F_PO_SET_SLOT__SLOT_ID = setSlotSlotId.join();
+    F_PO_SET_SLOT__ITEM = setSlotItem.join();
+    F_PO_WINDOW_ITEMS__WINDOW_ID = windowItemsWindowId.join();
+
+    G_PO_SET_SLOT = F_PO_SET_SLOT__SLOT_ID == null
+      ? C_PO_SET_SLOT.groupFields(F_PO_SET_SLOT__WINDOW_ID, F_PO_SET_SLOT__STATE_ID_OR_SLOT_ID, F_PO_SET_SLOT__ITEM)
+      : C_PO_SET_SLOT.groupFields(F_PO_SET_SLOT__WINDOW_ID, F_PO_SET_SLOT__STATE_ID_OR_SLOT_ID, F_PO_SET_SLOT__ITEM, F_PO_SET_SLOT__SLOT_ID);
+
+    I_PO_SET_SLOT__WINDOW_ID = G_PO_SET_SLOT.indexOf(F_PO_SET_SLOT__WINDOW_ID);
+    I_PO_SET_SLOT__SLOT_ID = G_PO_SET_SLOT.indexOf(F_PO_SET_SLOT__SLOT_ID == null ? F_PO_SET_SLOT__STATE_ID_OR_SLOT_ID : F_PO_SET_SLOT__SLOT_ID);
+    I_PO_SET_SLOT__ITEM = G_PO_SET_SLOT.indexOf(F_PO_SET_SLOT__ITEM);
+
+    // Packets are intercepted on multiple event loops concurrently
+    setSlotBuffers = ThreadLocal.withInitial(G_PO_SET_SLOT::createBuffer);
   }
 
   @Override
@@ -172,7 +219,7 @@ public class FakeSlotCommunicator implements IFakeSlotCommunicator, IInitializab
       if (item == null)
         item = ITEM_AIR;
 
-      Object packet = CT_PO_SET_SLOT.newInstance(windowId, slotId, item);
+      Object packet = CT_PO_SET_SLOT.newInstance3(windowId, slotId, item);
       sentSetSlotPackets.add(packet);
 
       this.reflectionHelper.sendPacket(player, packet, null);
@@ -209,8 +256,8 @@ public class FakeSlotCommunicator implements IFakeSlotCommunicator, IInitializab
       return packet;
 
     if (C_PI_WINDOW_CLICK.isInstance(packet)) {
-      byte clickTypeOrdinal = (byte) F_PI_WINDOW_CLICK__INVENTORY_CLICK_TYPE_ORDINAL.get(packet);
-      blockingSession.lastReceivedClickType = EInventoryClickType.fromOrdinal(clickTypeOrdinal, reflectionHelper.getVersion());
+      int clickTypeOrdinal = F_PI_WINDOW_CLICK__INVENTORY_CLICK_TYPE_ORDINAL.getInt(packet);
+      blockingSession.lastReceivedClickType = E_INVENTORY_CLICK_TYPE.fromOrdinal(clickTypeOrdinal);
     }
 
     return packet;
@@ -227,7 +274,7 @@ public class FakeSlotCommunicator implements IFakeSlotCommunicator, IInitializab
       if (blockingSession == null)
         return packet;
 
-      int windowId = (int) F_PO_WINDOW_ITEMS__WINDOW_ID.get(packet);
+      int windowId = F_PO_WINDOW_ITEMS__WINDOW_ID.getInt(packet);
 
       if (!isWindowIdBlocked(blockingSession, windowId))
         return packet;
@@ -245,17 +292,15 @@ public class FakeSlotCommunicator implements IFakeSlotCommunicator, IInitializab
       if (blockingSession == null)
         return packet;
 
-      int windowId = (int) F_PO_SET_SLOT__WINDOW_ID.get(packet);
+      FieldBuffer setSlot = setSlotBuffers.get();
+      G_PO_SET_SLOT.read(packet, setSlot);
+
+      int windowId = setSlot.getInt(I_PO_SET_SLOT__WINDOW_ID);
 
       if (!isWindowIdBlocked(blockingSession, windowId))
         return packet;
 
-      int slotId;
-
-      if (F_PO_SET_SLOT__SLOT_ID != null)
-        slotId = (int) F_PO_SET_SLOT__SLOT_ID.get(packet);
-      else
-        slotId = (int) F_PO_SET_SLOT__STATE_ID_OR_SLOT_ID.get(packet);
+      int slotId = setSlot.getInt(I_PO_SET_SLOT__SLOT_ID);
 
       // Setting item on cursor
       // No need to intervene, as fake items are always cancelled and so this
@@ -268,7 +313,8 @@ public class FakeSlotCommunicator implements IFakeSlotCommunicator, IInitializab
       if (fakeItem == null)
         return packet;
 
-      F_PO_SET_SLOT__ITEM.set(packet, M_AS_NMS_COPY.invoke(null, fakeItem));
+      setSlot.set(I_PO_SET_SLOT__ITEM, M_AS_NMS_COPY.invoke1(null, fakeItem));
+      G_PO_SET_SLOT.write(packet, setSlot);
     }
 
     return packet;
@@ -81,7 +81,7 @@ public class WindowOpenCommunicator implements IWindowOpenCommunicator, Listener
       return packet;
 
     if (C_PI_CLOSE_WINDOW.isInstance(packet)) {
-      int windowId = (int) C_PI_CLOSE_WINDOW__WINDOW_ID.get(packet);
+      int windowId = C_PI_CLOSE_WINDOW__WINDOW_ID.getInt(packet);
       Integer currentWindowId = topInventoryWindowIdByPlayer.get(player);
 
       if (currentWindowId == null)
@@ -100,7 +100,7 @@ public class WindowOpenCommunicator implements IWindowOpenCommunicator, Listener
       return packet;
 
     if (C_PO_OPEN_WINDOW.isInstance(packet)) {
-      int windowId = (int) C_PO_OPEN_WINDOW__WINDOW_ID.get(packet);
+      int windowId = C_PO_OPEN_WINDOW__WINDOW_ID.getInt(packet);
       topInventoryWindowIdByPlayer.put(player, windowId);
     }
 
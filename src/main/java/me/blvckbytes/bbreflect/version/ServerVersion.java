@@ -28,6 +28,8 @@ import org.bukkit.Bukkit;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -98,26 +100,100 @@ public enum ServerVersion {
   private static final Pattern VERSION_PATTERN = Pattern.compile(".*\\(.*MC.\\s*([a-zA-z\\d\\-.]+).*");
   private static final ServerVersion[] values = values();
 
+  // Packed major, minor and release numbers to their version
+  private static final Map<Integer, ServerVersion> byVersions;
+
+  // Protocol numbers to the newest and oldest version which speaks them, and
+  // to the newest version which speaks the same or an older protocol
+  private static final ServerVersion[] newestByProtocol, oldestByProtocol, newestAtOrBelowProtocol;
+
+  private static volatile @Nullable ServerVersion current;
+
+  // Package revision of CraftBukkit, which is looked up on first access if not set explicitly
+  private static volatile @Nullable String bukkitPackage;
+
   public final int major, minor, release;
   public final int protocol;
-  public final String bukkit;
+
+  /**
+   * Package revision of the running CraftBukkit at the time of loading, null if there was no server
+   * @deprecated The package is the same for all versions, use {@link #getBukkitPackage()} instead
+   */
+  @Deprecated
+  public final @Nullable String bukkit;
 
   ServerVersion(int major, int minor, int release, int protocol) {
     this.major = major;
     this.minor = minor;
     this.release = release;
     this.protocol = protocol;
-    this.bukkit = Bukkit.getServer().getClass().getName().split("\\.")[3];
+    this.bukkit = LoadedBukkitPackage.VALUE;
+  }
+
+  /**
+   * Get the package revision of CraftBukkit, like v1_19_R2, which is looked up on the running
+   * server if it has not been set explicitly by {@link #setBukkitPackage(String)}
+   */
+  public static String getBukkitPackage() {
+    String result = bukkitPackage;
+
+    if (result == null) {
+      result = lookUpBukkitPackage();
+      bukkitPackage = result;
+    }
+
+    return result;
+  }
+
+  private static String lookUpBukkitPackage() {
+    return Bukkit.getServer().getClass().getName().split("\\.")[3];
+  }
+
+  /**
+   * Holds the package revision at the time of loading, which is
+   * looked up once and shared by all constants
+   */
+  private static class LoadedBukkitPackage {
+    private static final @Nullable String VALUE = Bukkit.getServer() == null ? null : lookUpBukkitPackage();
   }
 
-  private boolean matches(int major, int minor, int release) {
-    if (this.major != major)
-      return false;
+  /**
+   * Set the package revision of CraftBukkit explicitly, which allows to resolve
+   * classes without a running server, like when generating manifests
+   * @param bukkitPackage Package revision, like v1_19_R2
+   */
+  public static void setBukkitPackage(String bukkitPackage) {
+    ServerVersion.bukkitPackage = bukkitPackage;
+  }
+
+  static {
+    byVersions = new HashMap<>();
+
+    int maxProtocol = 0;
+    for (ServerVersion version : values) {
+      byVersions.put(pack(version.major, version.minor, version.release), version);
+      maxProtocol = Math.max(maxProtocol, version.protocol);
+    }
+
+    newestByProtocol = new ServerVersion[maxProtocol + 1];
+    oldestByProtocol = new ServerVersion[maxProtocol + 1];
+    newestAtOrBelowProtocol = new ServerVersion[maxProtocol + 1];
 
-    if (this.minor != minor)
-      return false;
+    // Constants are declared in ascending order
+    for (ServerVersion version : values) {
+      newestByProtocol[version.protocol] = version;
+
+      if (oldestByProtocol[version.protocol] == null)
+        oldestByProtocol[version.protocol] = version;
+    }
+
+    ServerVersion newest = null;
+    for (int protocol = 0; protocol <= maxProtocol; protocol++) {
+      if (newestByProtocol[protocol] != null)
+        newest = newestByProtocol[protocol];
 
-    return this.release == release;
+      newestAtOrBelowProtocol[protocol] = newest;
+    }
   }
 
   public int compare(ServerVersion to) {
@@ -138,12 +214,42 @@ public enum ServerVersion {
   }
 
   public static @Nullable ServerVersion fromVersions(int major, int minor, int release) {
-    for (ServerVersion version : values) {
-      if (version.matches(major, minor, release))
-        return version;
-    }
+    return byVersions.get(pack(major, minor, release));
+  }
 
-    return null;
+  /**
+   * Get the newest version which speaks a given protocol, as multiple versions may share one
+   * @param protocol Protocol number, like the one a client reported on handshake
+   * @return Version, null if no known version speaks this protocol
+   */
+  public static @Nullable ServerVersion fromProtocol(int protocol) {
+    return protocol >= 0 && protocol < newestByProtocol.length ? newestByProtocol[protocol] : null;
+  }
+
+  /**
+   * Get the oldest version which speaks a given protocol, as multiple versions may share one
+   * @param protocol Protocol number, like the one a client reported on handshake
+   * @return Version, null if no known version speaks this protocol
+   */
+  public static @Nullable ServerVersion oldestFromProtocol(int protocol) {
+    return protocol >= 0 && protocol < oldestByProtocol.length ? oldestByProtocol[protocol] : null;
+  }
+
+  /**
+   * Get the newest version which speaks a given protocol or an older one, which also maps
+   * protocols of snapshots and of versions newer than all known ones
+   * @param protocol Protocol number, like the one a client reported on handshake
+   * @return Version, null if the protocol is older than all known versions
+   */
+  public static @Nullable ServerVersion fromProtocolOrOlder(int protocol) {
+    if (protocol < 0)
+      return null;
+
+    return newestAtOrBelowProtocol[Math.min(protocol, newestAtOrBelowProtocol.length - 1)];
+  }
+
+  private static int pack(int major, int minor, int release) {
+    return (major << 16) | (minor << 8) | release;
   }
 
   private static int parseIntegerOrZero(String[] data, int index) {
@@ -183,9 +289,21 @@ public enum ServerVersion {
   }
 
   /**
-   * Find the server's version by looking at craftbukkit's version string
+   * Find the server's version by looking at craftbukkit's version string, which
+   * is only detected on the first call and remembered afterwards
    */
   public static ServerVersion current() {
+    ServerVersion result = current;
+
+    if (result == null) {
+      result = detectCurrent();
+      current = result;
+    }
+
+    return result;
+  }
+
+  private static ServerVersion detectCurrent() {
     String version = tryFindNMSPackageVersion();
     ServerVersion result = tryParseNMSPackageVersion(version);
 